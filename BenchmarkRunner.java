@@ -19,10 +19,20 @@ package grakn.benchmark;
 
 import grabl.tracing.client.GrablTracing;
 import grabl.tracing.client.GrablTracingThreadStatic;
+import grakn.benchmark.common.agent.replay.ActionRecorder;
+import grakn.benchmark.common.driver.TransactionalDbDriver;
+import grakn.benchmark.common.metrics.BenchmarkMetrics;
+import grakn.benchmark.common.metrics.MetricsServer;
+import grakn.benchmark.common.report.ReportWriter;
+import grakn.benchmark.common.utils.SteadyStateDetector;
 import grakn.benchmark.common.world.World;
+import grakn.benchmark.common.world.WorldGenerator;
 import grakn.benchmark.config.Config;
 import grakn.benchmark.config.ConfigLoader;
+import grakn.benchmark.config.ReplayTiming;
+import grakn.benchmark.config.SessionMode;
 import grakn.benchmark.grakn.driver.GraknDriver;
+import grakn.benchmark.memory.driver.MemoryDriver;
 import grakn.benchmark.neo4j.driver.Neo4jDriver;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -33,6 +43,8 @@ import org.apache.commons.cli.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
@@ -80,6 +92,12 @@ public class BenchmarkRunner {
         String grablTracingToken = commandLine.getOptionValue("a");
 
         boolean disableTracing = commandLine.hasOption("n");
+        Path latencyDir = Paths.get(getOption(commandLine, "l").orElse("."));
+        Path reportFile = getOption(commandLine, "f").map(Paths::get).orElse(null);
+        boolean test = reportFile != null;
+        Path recordWritesFile = getOption(commandLine, "w").map(Paths::get).orElse(null);
+        Path replayWritesFile = getOption(commandLine, "p").map(Paths::get).orElse(null);
+        Integer metricsPort = getOption(commandLine, "m").map(Integer::parseInt).orElse(null);
 
         Map<String, Path> initialisationDataFiles = new HashMap<>();
         for (String filepath : commandLine.getArgList()) {
@@ -99,6 +117,20 @@ public class BenchmarkRunner {
         String defaultUri;
 
         LOG.info("Welcome to the Benchmark!");
+        Config.SyntheticWorld syntheticWorld = config.getSyntheticWorld();
+        if (syntheticWorld != null) {
+            LOG.info("Generating a world of {} continents, {} countries per continent and {} cities per country...",
+                     syntheticWorld.getContinents(), syntheticWorld.getCountriesPerContinent(), syntheticWorld.getCitiesPerCountry());
+            try {
+                WorldGenerator generator = new WorldGenerator(config.getRandomSeed(), syntheticWorld.getContinents(),
+                                                              syntheticWorld.getCountriesPerContinent(), syntheticWorld.getCitiesPerCountry());
+                initialisationDataFiles.putAll(generator.writeCsvFiles(Files.createTempDirectory("synthetic-world")));
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.exit(1);
+                return;
+            }
+        }
         LOG.info("Parsing world data...");
         World world = initialise(config.getScaleFactor(), initialisationDataFiles);
         if (world == null) return;
@@ -112,9 +144,10 @@ public class BenchmarkRunner {
                     defaultUri = "localhost:48555";
                     if (hostUri == null) hostUri = defaultUri;
                     GraknDriver graknDriver;
-                    if (dbName.toLowerCase().contains("core")) graknDriver = GraknDriver.core(hostUri, DATABASE);
-                    else if (dbName.toLowerCase().contains("cluster")) graknDriver = GraknDriver.cluster(hostUri, DATABASE);
+                    if (dbName.toLowerCase().contains("core")) graknDriver = GraknDriver.core(hostUri, DATABASE, config.getInsertPipelineDepth());
+                    else if (dbName.toLowerCase().contains("cluster")) graknDriver = GraknDriver.cluster(hostUri, DATABASE, config.getInsertPipelineDepth());
                     else throw new IllegalArgumentException("Unexpected database name: " + dbName);
+                    setSessions(graknDriver, config.getSessions());
                     benchmark = new grakn.benchmark.grakn.GraknBenchmark(
                             graknDriver,
                             initialisationDataFiles,
@@ -122,31 +155,80 @@ public class BenchmarkRunner {
                             world,
                             config.getAgents(),
                             config.getTraceSampling().getSamplingFunction(),
-                            false);
+                            test);
                 } else if (dbName.toLowerCase().startsWith("neo4j")) {
                     defaultUri = "bolt://localhost:7687";
                     if (hostUri == null) hostUri = defaultUri;
 
+                    Neo4jDriver neo4jDriver = new Neo4jDriver(hostUri, config.getNeo4jExecutionMode());
+                    setSessions(neo4jDriver, config.getSessions());
                     benchmark = new grakn.benchmark.neo4j.Neo4JBenchmark(
-                            new Neo4jDriver(hostUri),
+                            neo4jDriver,
+                            initialisationDataFiles,
+                            config.getRandomSeed(),
+                            world,
+                            config.getAgents(),
+                            config.getTraceSampling().getSamplingFunction(),
+                            test);
+                } else if (dbName.toLowerCase().startsWith("memory")) {
+                    benchmark = new grakn.benchmark.memory.MemoryBenchmark(
+                            new MemoryDriver(),
                             initialisationDataFiles,
                             config.getRandomSeed(),
                             world,
                             config.getAgents(),
                             config.getTraceSampling().getSamplingFunction(),
-                            false);
+                            test);
                 } else {
                     throw new IllegalArgumentException("Unexpected database name: " + dbName);
                 }
 
+                benchmark.setRegionalExecutor(config.getRegionalExecutor());
+                benchmark.setTraceSampling(config.getTraceSampling());
+                benchmark.setCacheReferenceData(config.isCacheReferenceData());
+                benchmark.setWorkloadMode(config.getWorkloadMode());
+                if (reportFile != null) {
+                    benchmark.setReportSink(new ReportWriter(reportFile));
+                }
+                if (recordWritesFile != null) {
+                    benchmark.setActionRecorder(new ActionRecorder(recordWritesFile));
+                }
+                if (replayWritesFile != null) {
+                    benchmark.replayWrites(replayWritesFile, config.getReplay().getReplayTiming() == ReplayTiming.RECORDED);
+                }
+
+                BenchmarkMetrics metrics = null;
+                MetricsServer metricsServer = null;
+                if (metricsPort != null) {
+                    metrics = new BenchmarkMetrics(benchmark);
+                    metrics.register();
+                    metricsServer = new MetricsServer(metrics, metricsPort);
+                    LOG.info("Live metrics served at http://localhost:{}{} and over JMX as {}",
+                             metricsServer.port(), MetricsServer.PATH, BenchmarkMetrics.OBJECT_NAME);
+                }
+
                 ///////////////
                 // MAIN LOOP //
                 ///////////////
+                benchmark.latencyRecorder().setWarmUpIterations(config.getWarmUpIterations());
+                SteadyStateDetector steadyStateDetector = new SteadyStateDetector(config.getSteadyState().getWindow(),
+                                                                                  config.getSteadyState().getMaxCoefficientOfVariation());
                 for (int i = 0; i < config.getIterations(); i++) {
+                    int iteration = benchmark.iteration();
                     Instant iterStart = Instant.now();
                     benchmark.iterate();
                     Instant iterEnd = Instant.now();
-                    LOG.info("Iteration {}: {}", i, printDuration(iterStart, iterEnd));
+                    if (i < config.getWarmUpIterations()) {
+                        LOG.info("Iteration {} (warm-up, discarded): {}", i, printDuration(iterStart, iterEnd));
+                        continue;
+                    }
+                    double seconds = Duration.between(iterStart, iterEnd).toNanos() / 1_000_000_000.0;
+                    double throughput = benchmark.latencyRecorder().actionCount(iteration) / seconds;
+                    double meanLatency = benchmark.latencyRecorder().meanActionLatencyMicros(iteration);
+                    SteadyStateDetector.State state = steadyStateDetector.next(throughput, meanLatency);
+                    benchmark.latencyRecorder().setState(iteration, state);
+                    LOG.info("Iteration {} ({}): {}, {} actions/s, mean action latency {} us", i, state.getName(),
+                             printDuration(iterStart, iterEnd), String.format("%.1f", throughput), String.format("%.0f", meanLatency));
                 }
                 Instant end = Instant.now();
                 LOG.info("Benchmark duration: " + printDuration(start, end));
@@ -154,6 +236,21 @@ public class BenchmarkRunner {
                 benchmark.printStatistics(LOG);
                 Instant statisticEnd = Instant.now();
                 LOG.info("Statistics duration: " + printDuration(statisticStart, statisticEnd));
+                benchmark.latencyRecorder().writeCsv(latencyDir.resolve("latency.csv"));
+                benchmark.latencyRecorder().writeJson(latencyDir.resolve("latency.json"));
+                LOG.info("Latency percentiles written to {}", latencyDir.toAbsolutePath());
+                if (reportFile != null) {
+                    benchmark.reportSink().close();
+                    LOG.info("Action reports written to {}", reportFile.toAbsolutePath());
+                }
+                if (recordWritesFile != null) {
+                    benchmark.actionRecorder().close();
+                    LOG.info("Writes recorded to {}", recordWritesFile.toAbsolutePath());
+                }
+                if (metricsServer != null) {
+                    metricsServer.close();
+                    metrics.close();
+                }
                 benchmark.close();
             }
         } catch (Exception ex) {
@@ -162,6 +259,12 @@ public class BenchmarkRunner {
         }
     }
 
+    private static void setSessions(TransactionalDbDriver<?, ?, ?> driver, Config.Sessions sessions) {
+        if (sessions.getSessionMode() == SessionMode.POOLED) {
+            driver.setPooledSessions(sessions.getPreWarmedTransactions());
+        }
+    }
+
     private static String printDuration(Instant start, Instant end) {
         return Duration.between(start, end).toString()
                 .substring(2)
@@ -207,6 +310,21 @@ public class BenchmarkRunner {
         options.addOption(Option.builder("b")
                 .longOpt("config-file").desc("Configuration file").hasArg().argName("config-file-path")
                 .build());
+        options.addOption(Option.builder("l")
+                .longOpt("latency-dir").desc("Directory to write latency percentiles to").hasArg().argName("directory")
+                .build());
+        options.addOption(Option.builder("f")
+                .longOpt("report-file").desc("File to record the report of every action to").hasArg().argName("path")
+                .build());
+        options.addOption(Option.builder("w")
+                .longOpt("record-writes").desc("File to record every saved write to, for replaying later").hasArg().argName("path")
+                .build());
+        options.addOption(Option.builder("p")
+                .longOpt("replay-writes").desc("File of recorded writes to replay in place of running the agents").hasArg().argName("path")
+                .build());
+        options.addOption(Option.builder("m")
+                .longOpt("metrics-port").desc("Port to serve live metrics on at /metrics, in the OpenMetrics text format, 0 picks a free port").hasArg().argName("port")
+                .build());
         options.addOption(Option.builder("n")
                 .longOpt("disable-tracing").desc("Disable grabl tracing")
                 .build());
@@ -20,23 +20,40 @@ package grakn.benchmark.common;
 import grakn.benchmark.common.action.ActionFactory;
 import grakn.benchmark.common.agent.AgentFactory;
 import grakn.benchmark.common.agent.base.Agent;
+import grakn.benchmark.common.agent.base.ReferenceCache;
+import grakn.benchmark.common.agent.base.ReportSink;
+import grakn.benchmark.common.agent.base.RegionalExecutor;
+import grakn.benchmark.common.agent.replay.ActionRecorder;
+import grakn.benchmark.common.agent.replay.Replayer;
 import grakn.benchmark.common.driver.DbDriver;
 import grakn.benchmark.common.driver.DbOperation;
+import grakn.benchmark.common.jfr.IterationEvent;
+import grakn.benchmark.common.utils.LatencyRecorder;
 import grakn.benchmark.common.utils.RandomSource;
+import grakn.benchmark.common.utils.Trace;
+import grakn.benchmark.common.utils.TraceSampler;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.config.Config;
+import grakn.benchmark.config.WorkloadMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 public abstract class Benchmark<DB_DRIVER extends DbDriver<DB_OPERATION>, DB_OPERATION extends DbOperation> implements grakn.benchmark.common.agent.base.BenchmarkContext {
@@ -50,7 +67,16 @@ public abstract class Benchmark<DB_DRIVER extends DbDriver<DB_OPERATION>, DB_OPE
     private final Report report;
     private final World world;
     private final boolean test;
-    private int iteration = 1;
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+    private RegionalExecutor regionalExecutor = RegionalExecutor.parallelStream();
+    private ReferenceCache referenceCache = new ReferenceCache(false);
+    private WorkloadMode workloadMode = WorkloadMode.SEQUENTIAL;
+    private ReportSink reportSink;
+    private ActionRecorder actionRecorder;
+    private Replayer<DB_OPERATION> replayer;
+    private volatile int iteration = 1;
+    private volatile long iterationStartNanos = System.nanoTime();
+    private volatile long actionsBeforeIteration = 0;
 
     public Benchmark(DB_DRIVER driver, Map<String, Path> initialisationDataPaths, int randomSeed, World world, List<Config.Agent> agentConfigs, Function<Integer, Boolean> iterationSamplingFunction, boolean test) {
         this.driver = driver;
@@ -73,6 +99,8 @@ public abstract class Benchmark<DB_DRIVER extends DbDriver<DB_OPERATION>, DB_OPE
             if (agentConfig.getAgentMode().getRun()) {
                 Agent<?, DB_OPERATION> agent = agentFactory.get(agentConfig.getName());
                 agent.setTracing(agentConfig.getAgentMode().getTrace());
+                agent.setStartRate(agentConfig.getStartRate());
+                agent.setWeight(agentConfig.getWeight());
                 agents.add(agent);
             }
         }
@@ -84,14 +112,75 @@ public abstract class Benchmark<DB_DRIVER extends DbDriver<DB_OPERATION>, DB_OPE
     protected abstract void initialise(Map<String, Path> initialisationDataPaths);
 
     public void iterate() {
+        IterationEvent event = new IterationEvent();
+        event.begin();
         report.clean();
-        for (Agent<?, ?> agent : agentList) {
-            this.report.addAgentResult(agent.name(), agent.iterate(RandomSource.nextSource(random)));
+        iterationStartNanos = System.nanoTime();
+        actionsBeforeIteration = actionCount();
+        Trace.sampler().startIteration();
+        if (actionRecorder != null) actionRecorder.startIteration();
+        if (replayer != null) {
+            if (!replayer.replayIteration()) LOG.info("No recorded writes are left to replay in iteration {}", iteration);
+        } else if (workloadMode == WorkloadMode.MIXED) {
+            iterateMixed();
+        } else {
+            for (Agent<?, ?> agent : agentList) {
+                runLoop(agent, Collections.singletonList(RandomSource.nextSource(random)));
+            }
         }
         closeIteration();  // We want to test opening new sessions each iteration.
+        event.end(iteration, actionCount() - actionsBeforeIteration);
         iteration++;
     }
 
+    /**
+     * Run every agent at once, each in a loop of its own that runs it as many times as its weight, so that reads are
+     * measured while writes are in progress.
+     */
+    private void iterateMixed() {
+        if (agentList.isEmpty()) return;
+        ExecutorService executor = Executors.newFixedThreadPool(agentList.size());
+        try {
+            List<Future<?>> loops = new ArrayList<>();
+            for (Agent<?, ?> agent : agentList) {
+                // Draw the randomness of every run up front, so that it doesn't depend on the order the loops run in
+                List<RandomSource> sources = new ArrayList<>();
+                for (int run = 0; run < agent.weight(); run++) {
+                    sources.add(RandomSource.nextSource(random));
+                }
+                loops.add(executor.submit(() -> runLoop(agent, sources)));
+            }
+            for (Future<?> loop : loops) {
+                loop.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Run an agent once for each source of randomness, adding the report of every run and the throughput of the runs
+     * together to the report of the iteration.
+     */
+    private void runLoop(Agent<?, ?> agent, List<RandomSource> sources) {
+        long actionsBefore = agent.actionCount();
+        long start = System.nanoTime();
+        for (int run = 0; run < sources.size(); run++) {
+            report.addAgentResult(agent.name(), agent.iterate(sources.get(run), run));
+        }
+        AgentThroughput throughput = new AgentThroughput(sources.size(), agent.actionCount() - actionsBefore, System.nanoTime() - start);
+        report.addAgentThroughput(agent.name(), throughput);
+        LOG.info("{} ran {} times in {} s: {} actions, {} actions/s", agent.name(), throughput.runs(),
+                 String.format("%.3f", throughput.seconds()), throughput.actions(),
+                 String.format("%.1f", throughput.actionsPerSecond()));
+    }
+
     protected abstract void closeIteration();
 
     @Override
@@ -119,6 +208,156 @@ public abstract class Benchmark<DB_DRIVER extends DbDriver<DB_OPERATION>, DB_OPE
         return test;
     }
 
+    @Override
+    public LatencyRecorder latencyRecorder() {
+        return latencyRecorder;
+    }
+
+    @Override
+    public RegionalExecutor regionalExecutor() {
+        return regionalExecutor;
+    }
+
+    /**
+     * Choose how the regional agents of each agent are run concurrently, by default on a parallel stream.
+     */
+    public void setRegionalExecutor(Config.RegionalExecutor config) {
+        RegionalExecutor previous = regionalExecutor;
+        switch (config.getExecutorType()) {
+            case CURRENT:
+                regionalExecutor = RegionalExecutor.parallelStream();
+                break;
+            case BOUNDED:
+                regionalExecutor = RegionalExecutor.bounded(config.getThreads());
+                break;
+            case VIRTUAL:
+                regionalExecutor = RegionalExecutor.virtualThreads();
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected regional executor type: " + config.getExecutorType());
+        }
+        previous.close();
+    }
+
+    /**
+     * Choose which operations of a traced iteration are traced, by default all of them.
+     */
+    public void setTraceSampling(Config.TraceSampling config) {
+        switch (config.getOperationSampling()) {
+            case ALL:
+                Trace.setSampler(TraceSampler.all());
+                break;
+            case PROBABILITY:
+                Trace.setSampler(TraceSampler.probability(config.getProbability()));
+                break;
+            case RESERVOIR:
+                Trace.setSampler(TraceSampler.reservoir(config.getPerName()));
+                break;
+            case SLOW:
+                Trace.setSampler(TraceSampler.slow(config.getProbability(), config.getSlowerThanMillis()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected operation sampling: " + config.getOperationSampling());
+        }
+    }
+
+    @Override
+    public ReferenceCache referenceCache() {
+        return referenceCache;
+    }
+
+    /**
+     * Hold the answers to reference lookups on the client until the data they were read from is written to, rather
+     * than querying them again every time.
+     */
+    public void setCacheReferenceData(boolean cacheReferenceData) {
+        referenceCache = new ReferenceCache(cacheReferenceData);
+    }
+
+    @Override
+    public ReportSink reportSink() {
+        return reportSink;
+    }
+
+    /**
+     * Send the report of every regional agent to a sink as soon as it has finished, rather than keeping the reports
+     * of the iteration in memory. The sink is not closed with the benchmark.
+     */
+    public void setReportSink(ReportSink reportSink) {
+        this.reportSink = reportSink;
+        checkReportable();
+    }
+
+    @Override
+    public ActionRecorder actionRecorder() {
+        return actionRecorder;
+    }
+
+    /**
+     * Record the writes of every regional agent once they are saved, so that they can later be replayed. The recorder
+     * is not closed with the benchmark.
+     */
+    public void setActionRecorder(ActionRecorder actionRecorder) {
+        this.actionRecorder = actionRecorder;
+    }
+
+    /**
+     * Replay the writes recorded in a file in place of running the agents, one recorded iteration each iteration.
+     *
+     * @param recordedTiming Whether to start each recorded operation when it started when recorded, rather than as
+     *                       soon as the previous operation of its region has been saved
+     */
+    public void replayWrites(Path path, boolean recordedTiming) throws IOException {
+        closeReplay();
+        replayer = new Replayer<>(path, recordedTiming, driver, actionFactory(), this);
+    }
+
+    protected void closeReplay() {
+        if (replayer != null) {
+            replayer.close();
+            replayer = null;
+        }
+    }
+
+    public void setWorkloadMode(WorkloadMode workloadMode) {
+        this.workloadMode = workloadMode;
+        checkReportable();
+    }
+
+    /**
+     * Reports are read back one group of consecutive lines per agent and iteration, but in the mixed workload the
+     * agents' lines interleave and a weighted agent reports the same regions more than once, so the two can't be used
+     * together.
+     */
+    private void checkReportable() {
+        if (reportSink != null && workloadMode == WorkloadMode.MIXED) {
+            throw new IllegalArgumentException("Action reports can't be written by a `mixed` workload, use `sequential`");
+        }
+    }
+
+    public List<Agent<?, DB_OPERATION>> agents() {
+        return agentList;
+    }
+
+    /**
+     * @return The number of actions run by the agents so far
+     */
+    public long actionCount() {
+        long actions = 0;
+        for (Agent<?, ?> agent : agentList) {
+            actions += agent.actionCount();
+        }
+        return actions;
+    }
+
+    /**
+     * @return The number of actions per second run by the agents since the current iteration started
+     */
+    public double actionsPerSecondInIteration() {
+        double seconds = (System.nanoTime() - iterationStartNanos) / 1_000_000_000.0;
+        return seconds > 0 ? (actionCount() - actionsBeforeIteration) / seconds : 0;
+    }
+
     public Report getReport() {
         return report;
     }
@@ -129,21 +368,73 @@ public abstract class Benchmark<DB_DRIVER extends DbDriver<DB_OPERATION>, DB_OPE
 
     public class Report {
 
-        private ConcurrentHashMap<String, Agent<?, ?>.Report> agentReports = new ConcurrentHashMap<>();
+        private ConcurrentHashMap<String, List<Agent<?, ?>.Report>> agentReports = new ConcurrentHashMap<>();
+        private ConcurrentHashMap<String, AgentThroughput> agentThroughputs = new ConcurrentHashMap<>();
 
+        /**
+         * Add the report of a run of an agent, after the reports of the runs of the agent before it this iteration.
+         */
         public void addAgentResult(String agentName, Agent<?, ?>.Report agentReport) {
             if (agentReport == null) {
                 throw new NullPointerException(String.format("The result returned from a %s agent was null", agentName));
             }
-            agentReports.put(agentName, agentReport);
+            agentReports.computeIfAbsent(agentName, k -> new CopyOnWriteArrayList<>()).add(agentReport);
+        }
+
+        /**
+         * @return The reports of every run of an agent this iteration, in the order they ran
+         */
+        public List<Agent<?, ?>.Report> getAgentReports(String agentName) {
+            return agentReports.getOrDefault(agentName, Collections.emptyList());
+        }
+
+        public void addAgentThroughput(String agentName, AgentThroughput throughput) {
+            agentThroughputs.put(agentName, throughput);
         }
 
-        public Agent<?, ?>.Report getAgentReport(String agentName) {
-            return agentReports.get(agentName);
+        /**
+         * @return The throughput of the runs of an agent this iteration together, or null if the agent didn't run
+         */
+        public AgentThroughput getAgentThroughput(String agentName) {
+            return agentThroughputs.get(agentName);
         }
 
         public void clean() {
             agentReports = new ConcurrentHashMap<>();
+            agentThroughputs = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * The actions run by an agent in an iteration and the time its runs took, which in the mixed workload is measured
+     * while the other agents run alongside it.
+     */
+    public static class AgentThroughput {
+
+        private final int runs;
+        private final long actions;
+        private final long nanos;
+
+        public AgentThroughput(int runs, long actions, long nanos) {
+            this.runs = runs;
+            this.actions = actions;
+            this.nanos = nanos;
+        }
+
+        public int runs() {
+            return runs;
+        }
+
+        public long actions() {
+            return actions;
+        }
+
+        public double seconds() {
+            return nanos / 1_000_000_000.0;
+        }
+
+        public double actionsPerSecond() {
+            return nanos > 0 ? actions / seconds() : 0;
         }
     }
 }
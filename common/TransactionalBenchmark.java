@@ -36,11 +36,13 @@ public abstract class TransactionalBenchmark<DB_DRIVER extends TransactionalDbDr
 
     @Override
     protected void closeIteration() {
-        driver.closeSessions();
+        driver.closeIteration();
     }
 
     @Override
     public void close() {
+        closeReplay();
+        regionalExecutor().close();
         driver.close();
     }
 
@@ -17,6 +17,7 @@
 
 package grakn.benchmark.common.action;
 
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.DbOperation;
 
 import java.util.ArrayList;
@@ -52,8 +53,40 @@ public abstract class Action<DB_OPERATION extends DbOperation, ACTION_RETURN_TYP
         return this.getClass().getSuperclass().getSimpleName();
     }
 
+    /**
+     * @return Whether the action only reads, so that it can run in a read transaction
+     */
+    public AccessMode accessMode() {
+        return AccessMode.WRITE;
+    }
+
+    /**
+     * Ready the action's operation to run the action, before the action is timed.
+     */
+    public void begin() {
+        dbOperation.begin(accessMode());
+    }
+
+    /**
+     * Send the action's queries without waiting for their answers, if the database can, so that the queries of actions
+     * that don't depend on each other can be in flight together. The answers are then read by {@link #run}, which
+     * sends the queries itself if they have not been sent. By default the action does all of its work in {@link #run}.
+     */
+    public void send() {}
+
     public abstract ACTION_RETURN_TYPE run();
 
+    public DB_OPERATION dbOperation() {
+        return dbOperation;
+    }
+
+    /**
+     * @return The arguments the action was created with, which for a write are those of its factory method in order
+     */
+    public List<Object> arguments() {
+        return inputForReport();
+    }
+
     protected abstract HashMap<ComparableField, Object> outputForReport(ACTION_RETURN_TYPE answer);
 
     protected abstract ArrayList<Object> inputForReport();
@@ -68,11 +101,30 @@ public abstract class Action<DB_OPERATION extends DbOperation, ACTION_RETURN_TYP
 
     public class Report {
         ArrayList<Object> input;
-        HashMap<ComparableField, Object> output;
+        private final ACTION_RETURN_TYPE answer;
+        private HashMap<ComparableField, Object> output;
 
         public Report(ACTION_RETURN_TYPE answer) {
             this.input = inputForReport();
-            this.output = outputForReport(answer);
+            this.answer = answer;
+            dbOperation.whenWritten(this::output);
+        }
+
+        public String actionName() {
+            return name();
+        }
+
+        public List<Object> input() {
+            return input;
+        }
+
+        /**
+         * The output is read from the answer once the operation has written it, since a deferred write only has an
+         * answer once its operation is saved.
+         */
+        public HashMap<ComparableField, Object> output() {
+            if (output == null) output = outputForReport(answer);
+            return output;
         }
 
         @Override
@@ -81,12 +133,12 @@ public abstract class Action<DB_OPERATION extends DbOperation, ACTION_RETURN_TYP
             if (o == null || getClass() != o.getClass()) return false;
             Report report = (Report) o;
             return input.equals(report.input) &&
-                    output.equals(report.output);
+                    output().equals(report.output());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(input, output);
+            return Objects.hash(input, output());
         }
 
         @Override
@@ -94,7 +146,7 @@ public abstract class Action<DB_OPERATION extends DbOperation, ACTION_RETURN_TYP
             return "Report " + name() +
                     " {" +
                     "input=" + input +
-                    ", output=" + output +
+                    ", output=" + output() +
                     "}";
         }
     }
@@ -18,6 +18,7 @@
 package grakn.benchmark.common.action.read;
 
 import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.DbOperation;
 
 import java.util.HashMap;
@@ -27,6 +28,11 @@ public abstract class ReadAction<DB_OPERATION extends DbOperation, ACTION_RETURN
         super(dbOperation);
     }
 
+    @Override
+    public AccessMode accessMode() {
+        return AccessMode.READ;
+    }
+
     @Override
     protected HashMap<ComparableField, Object> outputForReport(ACTION_RETURN_TYPE answer) {
         return new HashMap<ComparableField, Object>() {{
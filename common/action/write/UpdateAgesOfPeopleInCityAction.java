@@ -18,6 +18,7 @@
 package grakn.benchmark.common.action.write;
 
 import grakn.benchmark.common.action.read.ReadAction;
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.DbOperation;
 import grakn.benchmark.common.world.World;
 
@@ -35,6 +36,14 @@ public abstract class UpdateAgesOfPeopleInCityAction<DB_OPERATION extends DbOper
         this.city = city;
     }
 
+    /**
+     * Reports like a read, but writes the new ages.
+     */
+    @Override
+    public AccessMode accessMode() {
+        return AccessMode.WRITE;
+    }
+
     @Override
     public HashMap<ComparableField, Object> outputForReport(Integer answer) {
         return new HashMap<>(); // Nothing to report for this action
@@ -20,13 +20,19 @@ package grakn.benchmark.common.agent.base;
 import grabl.tracing.client.GrablTracingThreadStatic;
 import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.ActionFactory;
+import grakn.benchmark.common.agent.replay.ActionRecorder;
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.DbDriver;
 import grakn.benchmark.common.driver.DbOperation;
 import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.jfr.ActionEvent;
+import grakn.benchmark.common.utils.LatencyRecorder;
+import grakn.benchmark.common.utils.LongList;
 import grakn.benchmark.common.utils.RandomSource;
 import grakn.benchmark.common.utils.Utils;
 import grakn.benchmark.common.world.Region;
 import grakn.benchmark.common.world.World;
+import grakn.common.collection.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,9 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static grabl.tracing.client.GrablTracingThreadStatic.contextOnThread;
 import static grakn.benchmark.common.utils.Trace.trace;
@@ -58,8 +67,14 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
     private final Logger logger;
     private final DbDriver<DB_OPERATION> dbDriver;
     private final ActionFactory<DB_OPERATION, ?> actionFactory;
-    private final Report report = new Report();
     private boolean isTracing = true;
+    private double startRate = 0;
+    private int weight = 1;
+    private volatile int run = 0;
+    private final AtomicLong actionCount = new AtomicLong();
+    private final AtomicInteger regionsCompleted = new AtomicInteger();
+    private volatile int regionsInRun = 0;
+    private volatile OpenLoopScheduler actionSchedule;
 
     protected Agent(DbDriver<DB_OPERATION> dbDriver, ActionFactory<DB_OPERATION, ?> actionFactory, BenchmarkContext benchmarkContext) {
         this.dbDriver = dbDriver;
@@ -80,29 +95,114 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
         return benchmarkContext.trace() && isTracing;
     }
 
+    /**
+     * Run this agent open-loop, starting its actions at a fixed rate across all of its regional agents rather than
+     * each as soon as the one before it in its region has finished.
+     *
+     * @param startRate Actions to start per second in each run of the agent, or 0 to run closed-loop
+     */
+    public void setStartRate(double startRate) {
+        this.startRate = startRate;
+    }
+
+    public boolean isOpenLoop() {
+        return startRate > 0;
+    }
+
+    /**
+     * Run this agent a number of times each iteration when it runs alongside the other agents in a mixed workload.
+     */
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    /**
+     * @return The number of actions run by this agent so far
+     */
+    public long actionCount() {
+        return actionCount.get();
+    }
+
+    /**
+     * @return The number of regional agents of the agent's latest run that have finished
+     */
+    public int regionsCompleted() {
+        return regionsCompleted.get();
+    }
+
+    /**
+     * @return The number of regional agents in the agent's latest run
+     */
+    public int regionsInRun() {
+        return regionsInRun;
+    }
+
     abstract protected List<REGION> getRegions(World world);
 
     public Report iterate(RandomSource randomSource) {
+        return iterate(randomSource, 0);
+    }
+
+    /**
+     * Run the regional agents once, where the agent may run more than once in an iteration.
+     *
+     * @param run The number of times the agent has already run this iteration, so that the data it writes is unique
+     */
+    public Report iterate(RandomSource randomSource, int run) {
+        this.run = run;
+        Report report = new Report();
         List<REGION> regions = getRegions(benchmarkContext.world());
+        regionsCompleted.set(0);
+        regionsInRun = regions.size();
         List<RandomSource> randomisers = randomSource.split(regions.size());
-
-        Utils.pairs(randomisers, regions).parallelStream().forEach(
-                pair -> executeRegionalAgent(pair.first(), pair.second())
-        );
+        List<Pair<RandomSource, REGION>> regionalWork = Utils.pairs(randomisers, regions);
+
+        if (isOpenLoop()) {
+            iterateOpenLoop(regionalWork, report);
+        } else {
+            actionSchedule = null;
+            benchmarkContext.regionalExecutor().forEach(
+                    regionalWork, pair -> executeRegionalAgent(pair.first(), pair.second(), report)
+            );
+        }
         return report;
     }
 
+    /**
+     * Start every regional agent at once, so that none waits for another to finish before it can start its actions,
+     * and have their actions take their starts from one schedule at the agent's rate.
+     */
+    private void iterateOpenLoop(List<Pair<RandomSource, REGION>> regionalWork, Report report) {
+        Executor executor = benchmarkContext.regionalExecutor().openLoopExecutor();
+        OpenLoopScheduler schedule = new OpenLoopScheduler(startRate, executor);
+        actionSchedule = schedule;
+        long start = System.nanoTime();
+        new OpenLoopScheduler(0, executor).run(regionalWork, pair -> executeRegionalAgent(pair.first(), pair.second(), report));
+        logger.info("{} started {} actions open-loop at {}/s in {} ms", name(), schedule.starts(), startRate,
+                    (System.nanoTime() - start) / 1_000_000);
+    }
+
     protected abstract Regional getRegionalAgent(int iteration, String tracker, Random random, boolean test);
 
-    private void executeRegionalAgent(RandomSource source, REGION region) {
+    private void executeRegionalAgent(RandomSource source, REGION region, Report agentReport) {
         Random random = source.get();
         Random agentRandom = RandomSource.nextSource(random).get();
 
         Regional regionalAgent = getRegionalAgent(benchmarkContext.iteration(), region.tracker(), agentRandom, benchmarkContext.test());
-        DbOperationFactory<DB_OPERATION> dbOperationFactory = dbDriver.getDbOperationFactory(region, logger);
+        DbOperationFactory<DB_OPERATION> dbOperationFactory = dbDriver.getDbOperationFactory(name(), region, logger);
 
         Regional.Report report = regionalAgent.runWithReport(dbOperationFactory, region);
-        this.report.addRegionalAgentReport(region.tracker(), report);
+        ReportSink reportSink = benchmarkContext.reportSink();
+        if (reportSink != null && benchmarkContext.test()) {
+            reportSink.add(regionalAgent.iteration(), name(), region.tracker(), report.actionReports);
+        } else {
+            agentReport.addRegionalAgentReport(region.tracker(), report);
+        }
+        regionsCompleted.incrementAndGet();
     }
 
     public String name() {
@@ -132,7 +232,12 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
         private final String tracker;
         private final boolean isTest;
         private final int iteration;
+        private final int run = Agent.this.run;
+        private final OpenLoopScheduler schedule = Agent.this.actionSchedule;
         private GrablTracingThreadStatic.ThreadContext context;
+        private String uniqueIdPrefix;
+        private ActionRecorder.Operation recording;
+        private DbOperation recordingOperation;
 
         public Regional(int iteration, String tracker, Random random, boolean isTest) {
             this.iteration = iteration;
@@ -153,10 +258,14 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
         }
 
         protected Report runWithReport(DbOperationFactory<DB_OPERATION> dbOperationFactory, REGION region) {
-            trace(() -> {
-                run(dbOperationFactory, region);
-                return null;
-            }, name(), isTracing());
+            try (LatencyRecorder.Scope ignored = benchmarkContext.latencyRecorder().open(iteration(), tracker())) {
+                long start = System.nanoTime();
+                trace(() -> {
+                    run(dbOperationFactory, region);
+                    return null;
+                }, name(), isTracing());
+                LatencyRecorder.record(name(), System.nanoTime() - start);
+            }
             return report;
         }
 
@@ -166,6 +275,10 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
             return list.get(random().nextInt(list.size()));
         }
 
+        public long pickOne(LongList list) {
+            return list.get(random().nextInt(list.size()));
+        }
+
         public Random random() {
             return random;
         }
@@ -174,6 +287,10 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
             Collections.shuffle(list, random());
         }
 
+        protected void shuffle(LongList list) {
+            list.shuffle(random());
+        }
+
         /**
          * Create a unique identifier, useful for creating keys without risk of collision
          *
@@ -181,7 +298,11 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
          * @return
          */
         public String uniqueId(BenchmarkContext benchmarkContext, int iterationScopeId) {
-            return benchmarkContext.iteration() + "/" + tracker() + "/" + iterationScopeId;
+            if (uniqueIdPrefix == null) {
+                String scope = run == 0 ? tracker() : tracker() + "#" + run;
+                uniqueIdPrefix = benchmarkContext.iteration() + "/" + scope + "/";
+            }
+            return uniqueIdPrefix + iterationScopeId;
         }
 
         public RandomValueGenerator randomAttributeGenerator() {
@@ -189,14 +310,94 @@ public abstract class Agent<REGION extends Region, DB_OPERATION extends DbOperat
         }
 
         public <ACTION_RETURN_TYPE> ACTION_RETURN_TYPE runAction(Action<?, ACTION_RETURN_TYPE> action) {
-            ACTION_RETURN_TYPE actionAnswer;
-            actionAnswer = trace(action::run, action.name(), isTracing());
+            return finish(send(action));
+        }
+
+        /**
+         * Run actions that don't depend on each other's answers, sending the queries of all of them before reading any
+         * of their answers, so that a database that can send queries without waiting has them in flight together. Each
+         * action is timed from when its queries are sent, and reported in the order given.
+         */
+        public void runActions(List<? extends Action<?, ?>> actions) {
+            List<SentAction<?>> sent = new ArrayList<>(actions.size());
+            for (Action<?, ?> action : actions) {
+                sent.add(send(action));
+            }
+            for (SentAction<?> action : sent) {
+                finish(action);
+            }
+        }
+
+        private <ACTION_RETURN_TYPE> SentAction<ACTION_RETURN_TYPE> send(Action<?, ACTION_RETURN_TYPE> action) {
+            // Open-loop, an action waits for its start in the agent's schedule and its latency is counted from then
+            long scheduledStart = schedule == null ? 0 : schedule.awaitNextStart();
+            ActionEvent event = new ActionEvent();
+            event.begin();
+            LatencyRecorder.startAction(action.name());
+            action.begin();
+            long start = System.nanoTime();
+            action.send();
+            return new SentAction<>(action, event, start, schedule == null ? start : scheduledStart);
+        }
+
+        private <ACTION_RETURN_TYPE> ACTION_RETURN_TYPE finish(SentAction<ACTION_RETURN_TYPE> sent) {
+            Action<?, ACTION_RETURN_TYPE> action = sent.action;
+            // The phases of the action's queries are recorded when their answers are read
+            LatencyRecorder.startAction(action.name());
+            ACTION_RETURN_TYPE actionAnswer = trace(action::run, action.name(), isTracing());
+            recordLatency(action, sent.latencyStart);
+            sent.event.end(action.name(), name(), tracker, iteration, action.accessMode().name(), ActionEvent.rows(actionAnswer));
+            actionCount.incrementAndGet();
             if (isTest) {
                 report.addActionReport(action.report(actionAnswer));
             }
+            if (benchmarkContext.actionRecorder() != null && action.accessMode() == AccessMode.WRITE) {
+                record(action, sent.start);
+            }
             return actionAnswer;
         }
 
+        /**
+         * Record the latency of an action once its writes have been answered, so that an action whose writes are
+         * deferred until the operation is saved, or pipelined, is charged for waiting for them rather than only for
+         * queueing them.
+         */
+        private void recordLatency(Action<?, ?> action, long start) {
+            String name = action.name();
+            action.dbOperation().whenWritten(() -> LatencyRecorder.recordAction(name, System.nanoTime() - start));
+        }
+
+        /**
+         * Record a write with the others of its operation, to be written to the recording once the operation is saved.
+         */
+        private void record(Action<?, ?> action, long start) {
+            DbOperation dbOperation = action.dbOperation();
+            if (recording == null || recordingOperation != dbOperation) {
+                ActionRecorder.Operation started = benchmarkContext.actionRecorder().operation(iteration, name(), tracker, start);
+                dbOperation.whenSaved(() -> {
+                    started.saved();
+                    if (recording == started) recording = null;
+                });
+                recording = started;
+                recordingOperation = dbOperation;
+            }
+            recording.add(action);
+        }
+
+        private class SentAction<ACTION_RETURN_TYPE> {
+            private final Action<?, ACTION_RETURN_TYPE> action;
+            private final ActionEvent event;
+            private final long start;
+            private final long latencyStart;
+
+            SentAction(Action<?, ACTION_RETURN_TYPE> action, ActionEvent event, long start, long latencyStart) {
+                this.action = action;
+                this.event = event;
+                this.start = start;
+                this.latencyStart = latencyStart;
+            }
+        }
+
         public class Report {
             List<Action<?, ?>.Report> actionReports = new ArrayList<>();
 
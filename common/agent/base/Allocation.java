@@ -47,18 +47,37 @@ public class Allocation {
         return allocationMap;
     }
 
-    public static <T, U> boolean allocate(List<T> toAllocate, List<U> buckets, BiConsumer<T, U> insertFunction) {
-        if (toAllocate.size() > 0 && buckets.size() > 0) {
+    /**
+     * Allocate items evenly to buckets by their indices, bucket by bucket, in the same order as iterating over
+     * {@link #allocateEvenlyToMap(Integer, Integer)}, without building a map of boxed indices.
+     */
+    public static void allocateEvenlyByBucket(int numThingsToAllocate, int numBuckets, IndexConsumer insertFunction) {
+        for (int bucket = 0; bucket < Math.min(numThingsToAllocate, numBuckets); bucket++) {
+            for (int item = bucket; item < numThingsToAllocate; item += numBuckets) {
+                insertFunction.accept(item, bucket);
+            }
+        }
+    }
 
-            List<Integer> allocations = Allocation.allocateEvenly(toAllocate.size(), buckets.size());
+    public static <T, U> boolean allocate(List<T> toAllocate, List<U> buckets, BiConsumer<T, U> insertFunction) {
+        return allocate(toAllocate.size(), buckets.size(), (item, bucket) -> insertFunction.accept(toAllocate.get(item), buckets.get(bucket)));
+    }
 
-            for (int i = 0; i < allocations.size(); i++) {
-                T item = toAllocate.get(i);
-                U bucket = buckets.get(allocations.get(i));
-                insertFunction.accept(item, bucket);
+    /**
+     * Allocate items to buckets by their indices, in the same order as {@link #allocate(List, List, BiConsumer)}, for
+     * items and buckets held in primitive collections that would otherwise have to be boxed into lists.
+     */
+    public static boolean allocate(int numThingsToAllocate, int numBuckets, IndexConsumer insertFunction) {
+        if (numThingsToAllocate > 0 && numBuckets > 0) {
+            for (int i = 0; i < numThingsToAllocate; i++) {
+                insertFunction.accept(i, i % numBuckets);
             }
             return true;
         }
         return false;
     }
+
+    public interface IndexConsumer {
+        void accept(int item, int bucket);
+    }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 
 package grakn.benchmark.common.agent.base;
 
+import grakn.benchmark.common.agent.replay.ActionRecorder;
+import grakn.benchmark.common.utils.LatencyRecorder;
 import grakn.benchmark.common.world.World;
 
 import java.time.LocalDateTime;
@@ -31,4 +33,20 @@ public interface BenchmarkContext {
     boolean trace();
 
     boolean test();
+
+    LatencyRecorder latencyRecorder();
+
+    RegionalExecutor regionalExecutor();
+
+    ReferenceCache referenceCache();
+
+    /**
+     * @return Where to send the reports of regional agents when testing, or null to keep them in the agents' reports
+     */
+    ReportSink reportSink();
+
+    /**
+     * @return Where to record the writes of regional agents, or null to not record them
+     */
+    ActionRecorder actionRecorder();
 }
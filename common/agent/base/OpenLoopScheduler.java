@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.base;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands out starts at a fixed rate, from the time the scheduler is created, to units of work that don't wait for
+ * earlier units to complete.
+ *
+ * Latency is measured from the time each unit was scheduled to start rather than the time it actually started. If the
+ * database falls behind, work queues up and that waiting time is counted, correcting for coordinated omission.
+ */
+public class OpenLoopScheduler {
+
+    private final long intervalNanos;
+    private final Executor executor;
+    private final long start = System.nanoTime();
+    private final AtomicLong starts = new AtomicLong();
+
+    /**
+     * @param startsPerSecond The rate to start units of work at, 0 starts all of the work at once
+     * @param executor        The executor to run work on, it must not block the caller when work is submitted
+     */
+    public OpenLoopScheduler(double startsPerSecond, Executor executor) {
+        this.intervalNanos = startsPerSecond > 0 ? (long) (1_000_000_000L / startsPerSecond) : 0;
+        this.executor = executor;
+    }
+
+    /**
+     * Take the next start of the schedule, waiting until it is due. Starts are taken in order by whichever caller asks
+     * next, so a caller that is late for its start has that lateness counted in its latency.
+     *
+     * @return The time in {@link System#nanoTime()} the unit of work was scheduled to start
+     */
+    public long awaitNextStart() {
+        long scheduledStart = start + starts.getAndIncrement() * intervalNanos;
+        parkUntil(scheduledStart);
+        return scheduledStart;
+    }
+
+    /**
+     * @return The number of starts taken so far
+     */
+    public long starts() {
+        return starts.get();
+    }
+
+    /**
+     * Run a task for every item of work, each at the next start of the schedule, blocking until all of them have
+     * completed.
+     *
+     * @return The latency of each item in nanoseconds from its scheduled start, in the same order as the work
+     */
+    public <T> long[] run(List<T> work, Consumer<T> task) {
+        long[] latencies = new long[work.size()];
+        CountDownLatch completed = new CountDownLatch(work.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int i = 0; i < work.size(); i++) {
+            int index = i;
+            T item = work.get(i);
+            long scheduledStart = awaitNextStart();
+            executor.execute(() -> {
+                try {
+                    task.accept(item);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    latencies[index] = System.nanoTime() - scheduledStart;
+                    completed.countDown();
+                }
+            });
+        }
+
+        try {
+            completed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        Throwable thrown = failure.get();
+        if (thrown instanceof Error) throw (Error) thrown;
+        if (thrown instanceof RuntimeException) throw (RuntimeException) thrown;
+        if (thrown != null) throw new RuntimeException(thrown);
+        return latencies;
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
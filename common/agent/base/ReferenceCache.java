@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.base;
+
+import grakn.benchmark.common.utils.LongList;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Answers to reference lookups that agents would otherwise query for again every iteration, such as the companies in a
+ * country, held on the client as a real application would hold them.
+ *
+ * Every set of reference data has a version, which the agents that write to the set advance once their writes are
+ * saved. An answer is only reused while the version it was read at is current, so that agents still see the data
+ * written since. Answers are shared by every regional agent and every iteration until then.
+ */
+public class ReferenceCache {
+
+    public enum Reference {
+        CITIES,
+        COMPANIES,
+        PRODUCTS
+    }
+
+    private final Map<Reference, AtomicLong> versions = new EnumMap<>(Reference.class);
+    private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    /**
+     * @param enabled Whether to reuse answers, otherwise every lookup is queried
+     */
+    public ReferenceCache(boolean enabled) {
+        this.enabled = enabled;
+        for (Reference reference : Reference.values()) {
+            versions.put(reference, new AtomicLong());
+        }
+    }
+
+    /**
+     * Get the answer to a lookup of reference data, reading it with the given lookup unless an answer read since the
+     * data was last written is held.
+     *
+     * @param reference The set of reference data looked up
+     * @param key       The arguments of the lookup, which together with the set identify its answer
+     * @param lookup    Queries the answer
+     * @return A copy of the answer that the caller may modify
+     */
+    public <T> List<T> get(Reference reference, List<?> key, Supplier<List<T>> lookup) {
+        if (!enabled) return lookup.get();
+        return new ArrayList<>((List<T>) entry(reference, key, () -> new ArrayList<>(lookup.get())));
+    }
+
+    /**
+     * Get the answer to a lookup of identifiers, such as company numbers, held unboxed so that neither the held answer
+     * nor the caller's copy of it allocates a {@link Long} for each identifier.
+     *
+     * @return A copy of the answer that the caller may modify
+     */
+    public LongList getLongs(Reference reference, List<?> key, Supplier<List<Long>> lookup) {
+        if (!enabled) return LongList.of(lookup.get());
+        List<Object> longsKey = new ArrayList<>(key);
+        longsKey.add(LongList.class);
+        return ((LongList) entry(reference, longsKey, () -> LongList.of(lookup.get()))).copy();
+    }
+
+    private Object entry(Reference reference, List<?> key, Supplier<Object> lookup) {
+        List<Object> entryKey = new ArrayList<>();
+        entryKey.add(reference);
+        entryKey.addAll(key);
+
+        long version = versions.get(reference).get();
+        Entry entry = entries.get(entryKey);
+        if (entry == null || entry.version != version) {
+            entry = new Entry(version, lookup.get());
+            entries.put(entryKey, entry);
+        }
+        return entry.answer;
+    }
+
+    /**
+     * Record that a set of reference data has been written to, so that answers read before are no longer reused.
+     */
+    public void invalidate(Reference reference) {
+        versions.get(reference).incrementAndGet();
+    }
+
+    private static class Entry {
+        private final long version;
+        private final Object answer;
+
+        Entry(long version, Object answer) {
+            this.version = version;
+            this.answer = answer;
+        }
+    }
+}
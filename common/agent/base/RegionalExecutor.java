@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.base;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * Runs the regional agents of an agent concurrently.
+ *
+ * The default runs them on a parallel stream, sharing the common fork-join pool with everything else in the JVM. A
+ * bounded pool fixes the number of regional agents in flight regardless of the number of cores, and virtual threads
+ * give every regional agent its own thread without the cost of a platform thread for each.
+ */
+public abstract class RegionalExecutor implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RegionalExecutor.class);
+
+    /**
+     * Run a task for every item of work, blocking until all of them have completed.
+     */
+    public abstract <T> void forEach(List<T> work, Consumer<T> task);
+
+    /**
+     * @return An executor for open-loop work, it must not block the caller when work is submitted
+     */
+    public abstract Executor openLoopExecutor();
+
+    @Override
+    public abstract void close();
+
+    public static RegionalExecutor parallelStream() {
+        return new ParallelStream();
+    }
+
+    public static RegionalExecutor bounded(int threads) {
+        return new Pooled(Executors.newFixedThreadPool(threads, daemonThreads("bounded-regional-agent")));
+    }
+
+    /**
+     * Virtual threads are only available from Java 21, on earlier versions every regional agent gets a platform thread
+     * instead.
+     */
+    public static RegionalExecutor virtualThreads() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return new Pooled(executor);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            LOG.warn("Virtual threads are not supported by Java {}, starting a platform thread per regional agent instead",
+                     System.getProperty("java.version"));
+            return new Pooled(Executors.newCachedThreadPool(daemonThreads("regional-agent")));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class ParallelStream extends RegionalExecutor {
+
+        // Open-loop work must never wait for a free thread to be issued, so the pool grows with the work in flight
+        private final ExecutorService openLoopExecutor = Executors.newCachedThreadPool(daemonThreads("open-loop-regional-agent"));
+
+        @Override
+        public <T> void forEach(List<T> work, Consumer<T> task) {
+            work.parallelStream().forEach(task);
+        }
+
+        @Override
+        public Executor openLoopExecutor() {
+            return openLoopExecutor;
+        }
+
+        @Override
+        public void close() {
+            openLoopExecutor.shutdown();
+        }
+    }
+
+    private static class Pooled extends RegionalExecutor {
+
+        private final ExecutorService executor;
+
+        Pooled(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public <T> void forEach(List<T> work, Consumer<T> task) {
+            List<Future<?>> futures = new ArrayList<>(work.size());
+            for (T item : work) {
+                futures.add(executor.submit(() -> task.accept(item)));
+            }
+            RuntimeException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+                    }
+                }
+            }
+            if (failure != null) throw failure;
+        }
+
+        /**
+         * Open-loop work queues for a free thread of a bounded pool rather than blocking the caller, and that waiting
+         * time is counted in its latency.
+         */
+        @Override
+        public Executor openLoopExecutor() {
+            return executor;
+        }
+
+        @Override
+        public void close() {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.base;
+
+import grakn.benchmark.common.action.Action;
+
+import java.util.List;
+
+/**
+ * Receives the reports of the actions run by each regional agent when testing, as soon as the regional agent has
+ * finished, so that they need not be held in memory until the end of the iteration.
+ */
+public interface ReportSink extends AutoCloseable {
+
+    /**
+     * @param iteration     The iteration the regional agent ran in
+     * @param agentName     The name of the agent
+     * @param tracker       The tracker of the regional agent's region
+     * @param actionReports The reports of the actions run by the regional agent, in the order they were run
+     */
+    void add(int iteration, String agentName, String tracker, List<Action<?, ?>.Report> actionReports);
+
+    @Override
+    void close();
+}
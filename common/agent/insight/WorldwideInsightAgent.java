@@ -25,6 +25,8 @@ import grakn.benchmark.common.driver.DbOperation;
 import grakn.benchmark.common.driver.DbOperationFactory;
 import grakn.benchmark.common.world.World;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -50,11 +52,24 @@ public abstract class WorldwideInsightAgent<DB_OPERATION extends DbOperation> ex
             super(iteration, tracker, random, test);
         }
 
+        /**
+         * The actions don't depend on each other, so each runs in an operation of its own and their queries are sent
+         * together.
+         */
         @Override
         protected void run(DbOperationFactory<DB_OPERATION> dbOperationFactory, World world) {
-            for (int i = 0; i <= benchmarkContext.world().getScaleFactor(); i++) {
-                try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                    runAction(getAction(dbOperation));
+            List<DB_OPERATION> dbOperations = new ArrayList<>();
+            try {
+                List<ReadAction<DB_OPERATION, ?>> actions = new ArrayList<>();
+                for (int i = 0; i <= benchmarkContext.world().getScaleFactor(); i++) {
+                    DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing());
+                    dbOperations.add(dbOperation);
+                    actions.add(getAction(dbOperation));
+                }
+                runActions(actions);
+            } finally {
+                for (DB_OPERATION dbOperation : dbOperations) {
+                    dbOperation.close();
                 }
             }
         }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.replay;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.SpouseType;
+import grakn.benchmark.common.world.Region;
+import grakn.common.collection.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The format of a file of recorded writes, one tab-separated line per write action: the iteration, agent and tracker of
+ * the regional agent that ran it, the number of its operation in the order that operations were saved, the time in
+ * nanoseconds from the start of the iteration to the start of the operation, then the name of the action and its
+ * arguments.
+ *
+ * Regions are written as their names, dates in ISO-8601, a pair as its two elements and a marriage as the wife's then
+ * the husband's email. Tabs, line breaks and backslashes in strings are escaped.
+ */
+public class ActionLog {
+
+    private static final String SEPARATOR = "\t";
+    private static final int HEADER_FIELDS = 6;
+
+    private ActionLog() {}
+
+    public static String line(int iteration, String agent, String tracker, int operation, long offsetNanos, Action<?, ?> action) {
+        List<String> fields = new ArrayList<>();
+        fields.add(String.valueOf(iteration));
+        fields.add(escape(agent));
+        fields.add(escape(tracker));
+        fields.add(String.valueOf(operation));
+        fields.add(String.valueOf(offsetNanos));
+        fields.add(action.name());
+        for (Object argument : action.arguments()) {
+            addArgument(fields, argument);
+        }
+        return String.join(SEPARATOR, fields);
+    }
+
+    private static void addArgument(List<String> fields, Object argument) {
+        if (argument instanceof Region) {
+            fields.add(escape(((Region) argument).name()));
+        } else if (argument instanceof Pair) {
+            addArgument(fields, ((Pair<?, ?>) argument).first());
+            addArgument(fields, ((Pair<?, ?>) argument).second());
+        } else if (argument instanceof Map) {
+            for (SpouseType spouseType : SpouseType.values()) {
+                addArgument(fields, ((Map<?, ?>) argument).get(spouseType));
+            }
+        } else {
+            fields.add(escape(String.valueOf(argument)));
+        }
+    }
+
+    public static Line parse(String line) {
+        List<String> fields = new ArrayList<>();
+        for (String field : line.split(SEPARATOR, -1)) {
+            fields.add(unescape(field));
+        }
+        if (fields.size() < HEADER_FIELDS) throw new IllegalArgumentException("Not a line of a file of recorded writes: " + line);
+        return new Line(Integer.parseInt(fields.get(0)), fields.get(1), fields.get(2), Integer.parseInt(fields.get(3)),
+                        Long.parseLong(fields.get(4)), fields.get(5), fields.subList(HEADER_FIELDS, fields.size()));
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) return value;
+        StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                switch (escaped) {
+                    case 't':
+                        unescaped.append('\t');
+                        break;
+                    case 'n':
+                        unescaped.append('\n');
+                        break;
+                    case 'r':
+                        unescaped.append('\r');
+                        break;
+                    default:
+                        unescaped.append(escaped);
+                }
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    public static class Line {
+        public final int iteration;
+        public final String agent;
+        public final String tracker;
+        public final int operation;
+        public final long offsetNanos;
+        public final String action;
+        public final List<String> arguments;
+
+        Line(int iteration, String agent, String tracker, int operation, long offsetNanos, String action, List<String> arguments) {
+            this.iteration = iteration;
+            this.agent = agent;
+            this.tracker = tracker;
+            this.operation = operation;
+            this.offsetNanos = offsetNanos;
+            this.action = action;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public String toString() {
+            return iteration + " " + agent + " " + tracker + " " + action + " " + Arrays.toString(arguments.toArray());
+        }
+    }
+}
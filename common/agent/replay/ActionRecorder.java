@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.replay;
+
+import grakn.benchmark.common.action.Action;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the write actions of every regional agent to a file in the form of {@link ActionLog}, so that they can be
+ * replayed by a {@link Replayer} without the reads that decided them. The writes of an operation are only recorded
+ * once it is saved, all together, so writes that were never saved are not replayed.
+ */
+public class ActionRecorder implements AutoCloseable {
+
+    private final BufferedWriter writer;
+    private volatile long iterationStart = System.nanoTime();
+    private int operations = 0;
+
+    /**
+     * @param path The file to write, replacing any file already there
+     */
+    public ActionRecorder(Path path) throws IOException {
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Start timing the operations of a new iteration.
+     */
+    public void startIteration() {
+        iterationStart = System.nanoTime();
+    }
+
+    /**
+     * Start recording the writes of an operation.
+     *
+     * @param startNanos The {@link System#nanoTime()} at which the operation's first write started
+     */
+    public Operation operation(int iteration, String agent, String tracker, long startNanos) {
+        return new Operation(iteration, agent, tracker, startNanos - iterationStart);
+    }
+
+    private synchronized void write(Operation operation) {
+        try {
+            for (Action<?, ?> action : operation.actions) {
+                writer.write(ActionLog.line(operation.iteration, operation.agent, operation.tracker, operations, operation.offsetNanos, action));
+                writer.newLine();
+            }
+            operations++;
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The writes of an operation that has not yet been saved.
+     */
+    public class Operation {
+        private final int iteration;
+        private final String agent;
+        private final String tracker;
+        private final long offsetNanos;
+        private final List<Action<?, ?>> actions = new ArrayList<>();
+
+        private Operation(int iteration, String agent, String tracker, long offsetNanos) {
+            this.iteration = iteration;
+            this.agent = agent;
+            this.tracker = tracker;
+            this.offsetNanos = offsetNanos;
+        }
+
+        /**
+         * Record a write action that has run in the operation, which must not be run concurrently with the operation's
+         * other actions.
+         */
+        public void add(Action<?, ?> action) {
+            actions.add(action);
+        }
+
+        /**
+         * Write the recorded writes to the file, once the operation has been saved, numbered in the order that
+         * operations were saved.
+         */
+        public void saved() {
+            write(this);
+            actions.clear();
+        }
+    }
+}
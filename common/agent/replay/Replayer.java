@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.agent.replay;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.ActionFactory;
+import grakn.benchmark.common.action.SpouseType;
+import grakn.benchmark.common.agent.base.BenchmarkContext;
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.DbDriver;
+import grakn.benchmark.common.driver.DbOperation;
+import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.jfr.ActionEvent;
+import grakn.benchmark.common.utils.LatencyRecorder;
+import grakn.benchmark.common.world.Region;
+import grakn.benchmark.common.world.World;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static grakn.common.collection.Collections.pair;
+
+/**
+ * Replays the writes recorded by an {@link ActionRecorder}, one recorded iteration at a time. The agents of an
+ * iteration are replayed one after another in the order they first saved, as later agents write data that refers to
+ * the writes of earlier ones, and the regional agents of each agent concurrently on the regional executor. Each
+ * regional agent issues its operations in the order they were saved, either as fast as possible or each at the time
+ * after the start of the iteration that it started when recorded. No reads are run, so only the cost of the writes is
+ * measured.
+ *
+ * Each operation is saved after its writes, as it was when recorded. Latencies are recorded under the names of the
+ * actions and the tracker of the regional agent, as in a normal run, and the replay of each regional agent under
+ * {@link #REPLAY}.
+ */
+public class Replayer<DB_OPERATION extends DbOperation> implements AutoCloseable {
+
+    public static final String REPLAY = "replay";
+    private static final Logger LOG = LoggerFactory.getLogger(Replayer.class);
+
+    private final BufferedReader reader;
+    private final boolean recordedTiming;
+    private final DbDriver<DB_OPERATION> dbDriver;
+    private final ActionFactory<DB_OPERATION, ?> actionFactory;
+    private final BenchmarkContext benchmarkContext;
+    private final Map<String, Region> regions = new HashMap<>();
+    private final Map<String, World.Continent> continents = new HashMap<>();
+    private final Map<String, World.Country> countries = new HashMap<>();
+    private final Map<String, World.City> cities = new HashMap<>();
+    private ActionLog.Line next;
+
+    /**
+     * @param recordedTiming Whether to start each operation when it started when recorded, rather than as soon as the
+     *                       regional agent's previous operation has been saved
+     */
+    public Replayer(Path path, boolean recordedTiming, DbDriver<DB_OPERATION> dbDriver, ActionFactory<DB_OPERATION, ?> actionFactory,
+                    BenchmarkContext benchmarkContext) throws IOException {
+        this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        this.recordedTiming = recordedTiming;
+        this.dbDriver = dbDriver;
+        this.actionFactory = actionFactory;
+        this.benchmarkContext = benchmarkContext;
+        World world = benchmarkContext.world();
+        regions.put(world.tracker(), world);
+        world.getContinents().forEach(continent -> {
+            continents.put(continent.name(), continent);
+            regions.put(continent.tracker(), continent);
+        });
+        world.getCountries().forEach(country -> {
+            countries.put(country.name(), country);
+            regions.put(country.tracker(), country);
+        });
+        world.getCities().forEach(city -> {
+            cities.put(city.name(), city);
+            regions.put(city.tracker(), city);
+        });
+    }
+
+    /**
+     * Replay the writes of the next recorded iteration as the benchmark's current iteration.
+     *
+     * @return Whether there was a recorded iteration left to replay
+     */
+    public boolean replayIteration() {
+        ActionLog.Line first = peek();
+        if (first == null) return false;
+        Map<String, Map<String, List<List<ActionLog.Line>>>> operationsByAgent = new LinkedHashMap<>();
+        ActionLog.Line line;
+        while ((line = peek()) != null && line.iteration == first.iteration) {
+            List<List<ActionLog.Line>> operations = operationsByAgent.computeIfAbsent(line.agent, agent -> new LinkedHashMap<>())
+                    .computeIfAbsent(line.tracker, tracker -> new ArrayList<>());
+            List<ActionLog.Line> last = operations.isEmpty() ? null : operations.get(operations.size() - 1);
+            if (last == null || last.get(0).operation != line.operation) {
+                last = new ArrayList<>();
+                operations.add(last);
+            }
+            last.add(line);
+            next = null;
+        }
+        LOG.info("Replaying the writes of recorded iteration {} by {} agents", first.iteration, operationsByAgent.size());
+
+        long iterationStart = System.nanoTime();
+        for (Map<String, List<List<ActionLog.Line>>> operationsByTracker : operationsByAgent.values()) {
+            benchmarkContext.regionalExecutor().forEach(
+                    new ArrayList<>(operationsByTracker.entrySet()),
+                    regionalWork -> replayRegion(regionalWork.getKey(), regionalWork.getValue(), iterationStart)
+            );
+        }
+        return true;
+    }
+
+    private void replayRegion(String tracker, List<List<ActionLog.Line>> operations, long iterationStart) {
+        Region region = regions.get(tracker);
+        if (region == null) throw new IllegalArgumentException("The recorded writes are of a region not in this world: " + tracker);
+        DbOperationFactory<DB_OPERATION> dbOperationFactory = dbDriver.getDbOperationFactory(Replayer.class.getSimpleName(), region, LOG);
+        int iteration = benchmarkContext.iteration();
+        try (LatencyRecorder.Scope ignored = benchmarkContext.latencyRecorder().open(iteration, tracker)) {
+            long start = System.nanoTime();
+            for (List<ActionLog.Line> operation : operations) {
+                if (recordedTiming) waitUntil(iterationStart + operation.get(0).offsetNanos);
+                try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker, iteration, false, AccessMode.WRITE)) {
+                    for (ActionLog.Line line : operation) {
+                        Action<?, ?> action = action(dbOperation, line);
+                        ActionEvent event = new ActionEvent();
+                        event.begin();
+                        LatencyRecorder.startAction(action.name());
+                        action.begin();
+                        long actionStart = System.nanoTime();
+                        Object answer = action.run();
+                        String name = action.name();
+                        dbOperation.whenWritten(() -> LatencyRecorder.recordAction(name, System.nanoTime() - actionStart));
+                        event.end(action.name(), line.agent, tracker, iteration, AccessMode.WRITE.name(), ActionEvent.rows(answer));
+                    }
+                    dbOperation.save();
+                }
+            }
+            LatencyRecorder.record(REPLAY, System.nanoTime() - start);
+        }
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long wait = nanoTime - System.nanoTime();
+        if (wait <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Action<?, ?> action(DB_OPERATION dbOperation, ActionLog.Line line) {
+        Iterator<String> args = line.arguments.iterator();
+        switch (line.action) {
+            case "InsertPersonAction":
+                return actionFactory.insertPersonAction(dbOperation, city(args.next()), date(args.next()), args.next(), args.next(), args.next(), args.next());
+            case "InsertCompanyAction":
+                return actionFactory.insertCompanyAction(dbOperation, country(args.next()), date(args.next()), Integer.parseInt(args.next()), args.next());
+            case "InsertProductAction":
+                return actionFactory.insertProductAction(dbOperation, continent(args.next()), Long.parseLong(args.next()), args.next(), args.next());
+            case "InsertEmploymentAction":
+                return actionFactory.insertEmploymentAction(dbOperation, city(args.next()), args.next(), Long.parseLong(args.next()), date(args.next()),
+                                                            Double.parseDouble(args.next()), args.next(), Double.parseDouble(args.next()));
+            case "InsertFriendshipAction":
+                return actionFactory.insertFriendshipAction(dbOperation, date(args.next()), args.next(), args.next());
+            case "InsertMarriageAction":
+                return actionFactory.insertMarriageAction(dbOperation, city(args.next()), Integer.parseInt(args.next()), args.next(), args.next());
+            case "InsertParentShipAction":
+                HashMap<SpouseType, String> marriage = new HashMap<>();
+                for (SpouseType spouseType : SpouseType.values()) {
+                    marriage.put(spouseType, args.next());
+                }
+                return actionFactory.insertParentshipAction(dbOperation, marriage, args.next());
+            case "InsertRelocationAction":
+                return actionFactory.insertRelocationAction(dbOperation, city(args.next()), date(args.next()), args.next(), args.next());
+            case "InsertTransactionAction":
+                return actionFactory.insertTransactionAction(dbOperation, country(args.next()), pair(Long.parseLong(args.next()), Long.parseLong(args.next())),
+                                                             Long.parseLong(args.next()), Double.parseDouble(args.next()), Integer.parseInt(args.next()),
+                                                             Boolean.parseBoolean(args.next()));
+            case "UpdateAgesOfPeopleInCityAction":
+                return actionFactory.updateAgesOfPeopleInCityAction(dbOperation, date(args.next()), city(args.next()));
+            default:
+                throw new IllegalArgumentException("A recorded write of an action that cannot be replayed: " + line);
+        }
+    }
+
+    private World.City city(String name) {
+        return lookUp(cities, name);
+    }
+
+    private World.Country country(String name) {
+        return lookUp(countries, name);
+    }
+
+    private World.Continent continent(String name) {
+        return lookUp(continents, name);
+    }
+
+    private static <REGION extends Region> REGION lookUp(Map<String, REGION> regions, String name) {
+        REGION region = regions.get(name);
+        if (region == null) throw new IllegalArgumentException("The recorded writes are of a region not in this world: " + name);
+        return region;
+    }
+
+    private static LocalDateTime date(String date) {
+        return LocalDateTime.parse(date);
+    }
+
+    private ActionLog.Line peek() {
+        if (next == null) {
+            try {
+                String line = reader.readLine();
+                if (line != null) next = ActionLog.parse(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -22,13 +22,19 @@ import grakn.benchmark.common.agent.region.CountryAgent;
 import grakn.benchmark.common.driver.DbDriver;
 import grakn.benchmark.common.driver.DbOperation;
 import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.utils.Interner;
 import grakn.benchmark.common.world.World;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Random;
 
+import static grakn.benchmark.common.agent.base.ReferenceCache.Reference.COMPANIES;
+
 public class CompanyAgent<DB_OPERATION extends DbOperation> extends CountryAgent<DB_OPERATION> {
 
+    // The words of the world are few, so each is capitalised once rather than for every company named after it
+    private static final Interner<String> CAPITALISED = new Interner<>(StringUtils::capitalize);
+
     public CompanyAgent(DbDriver<DB_OPERATION> dbDriver, ActionFactory<DB_OPERATION, ?> actionFactory, grakn.benchmark.common.agent.base.BenchmarkContext benchmarkContext) {
         super(dbDriver, actionFactory, benchmarkContext);
     }
@@ -54,11 +60,12 @@ public class CompanyAgent<DB_OPERATION extends DbOperation> extends CountryAgent
                     String noun = pickOne(benchmarkContext.world().getNouns());
 
                     int companyNumber = uniqueId(benchmarkContext, i).hashCode();
-                    String companyName = StringUtils.capitalize(adjective) + StringUtils.capitalize(noun) + "-" + companyNumber;
+                    String companyName = CAPITALISED.get(adjective) + CAPITALISED.get(noun) + "-" + companyNumber;
                     runAction(actionFactory().insertCompanyAction(dbOperation, country, benchmarkContext.today(), companyNumber, companyName));
                 }
                 dbOperation.save();
             }
+            benchmarkContext.referenceCache().invalidate(COMPANIES);
         }
     }
 }
\ No newline at end of file
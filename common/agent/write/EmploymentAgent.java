@@ -24,13 +24,16 @@ import grakn.benchmark.common.agent.region.CityAgent;
 import grakn.benchmark.common.driver.DbDriver;
 import grakn.benchmark.common.driver.DbOperation;
 import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.utils.LongList;
 import grakn.benchmark.common.world.World;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
 import static grakn.benchmark.common.agent.base.Allocation.allocate;
+import static grakn.benchmark.common.agent.base.ReferenceCache.Reference.COMPANIES;
 
 public class EmploymentAgent<DB_OPERATION extends DbOperation> extends CityAgent<DB_OPERATION> {
 
@@ -59,21 +62,26 @@ public class EmploymentAgent<DB_OPERATION extends DbOperation> extends CityAgent
         protected void run(DbOperationFactory<DB_OPERATION> dbOperationFactory, World.City city) {
             LocalDateTime employmentDate = benchmarkContext.today().minusYears(0);
             List<String> employeeEmails;
-            List<Long> companyNumbers;
+            LongList companyNumbers;
 
             try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
                 ResidentsInCityAction<DB_OPERATION> employeeEmailsAction = actionFactory().residentsInCityAction(dbOperation, city, benchmarkContext.world().getScaleFactor(), employmentDate);
                 employeeEmails = runAction(employeeEmailsAction);
             }
 
-            try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                CompaniesInCountryAction<DB_OPERATION> companyNumbersAction = actionFactory().companiesInCountryAction(dbOperation, city.country(), benchmarkContext.world().getScaleFactor());
-                companyNumbers = runAction(companyNumbersAction);
-            }
+            int numCompanies = benchmarkContext.world().getScaleFactor();
+            companyNumbers = benchmarkContext.referenceCache().getLongs(COMPANIES, Arrays.asList(city.country().name(), numCompanies), () -> {
+                try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
+                    CompaniesInCountryAction<DB_OPERATION> companyNumbersAction = actionFactory().companiesInCountryAction(dbOperation, city.country(), numCompanies);
+                    return runAction(companyNumbersAction);
+                }
+            });
 
             try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
                 // A second transaction is being used to circumvent graknlabs/grakn issue #5585
-                boolean allocated = allocate(employeeEmails, companyNumbers, (employeeEmail, companyNumber) -> {
+                boolean allocated = allocate(employeeEmails.size(), companyNumbers.size(), (employee, company) -> {
+                    String employeeEmail = employeeEmails.get(employee);
+                    long companyNumber = companyNumbers.get(company);
                     double wageValue = randomAttributeGenerator().boundRandomDouble(MIN_ANNUAL_WAGE, MAX_ANNUAL_WAGE);
                     String contractContent = randomAttributeGenerator().boundRandomLengthRandomString(MIN_CONTRACT_CHARACTER_LENGTH, MAX_CONTRACT_CHARACTER_LENGTH);
                     double contractedHours = randomAttributeGenerator().boundRandomDouble(MIN_CONTRACTED_HOURS, MAX_CONTRACTED_HOURS);
@@ -29,9 +29,7 @@ import grakn.benchmark.common.driver.DbOperationFactory;
 import grakn.benchmark.common.world.World;
 
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 public class ParentshipAgent<DB_OPERATION extends DbOperation> extends CityAgent<DB_OPERATION> {
@@ -69,17 +67,11 @@ public class ParentshipAgent<DB_OPERATION extends DbOperation> extends CityAgent
 
             if (marriedCouple.size() > 0 && childrenEmails.size() > 0) {
                 try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                    LinkedHashMap<Integer, List<Integer>> childrenPerMarriage = Allocation.allocateEvenlyToMap(childrenEmails.size(), marriedCouple.size());
-                    for (Map.Entry<Integer, List<Integer>> childrenForMarriage : childrenPerMarriage.entrySet()) {
-                        Integer marriageIndex = childrenForMarriage.getKey();
-                        List<Integer> children = childrenForMarriage.getValue();
+                    Allocation.allocateEvenlyByBucket(childrenEmails.size(), marriedCouple.size(), (childIndex, marriageIndex) -> {
                         HashMap<SpouseType, String> marriage = marriedCouple.get(marriageIndex);
-
-                        for (Integer childIndex : children) {
-                            String childEmail = childrenEmails.get(childIndex);
-                            runAction(actionFactory().insertParentshipAction(dbOperation, marriage, childEmail));
-                        }
-                    }
+                        String childEmail = childrenEmails.get(childIndex);
+                        runAction(actionFactory().insertParentshipAction(dbOperation, marriage, childEmail));
+                    });
                     dbOperation.save();
                 }
             }
@@ -26,6 +26,8 @@ import grakn.benchmark.common.world.World;
 
 import java.util.Random;
 
+import static grakn.benchmark.common.agent.base.ReferenceCache.Reference.PRODUCTS;
+
 public class ProductAgent<DB_OPERATION extends DbOperation> extends ContinentAgent<DB_OPERATION> {
 
     public ProductAgent(DbDriver<DB_OPERATION> dbDriver, ActionFactory<DB_OPERATION, ?> actionFactory, grakn.benchmark.common.agent.base.BenchmarkContext benchmarkContext) {
@@ -54,6 +56,7 @@ public class ProductAgent<DB_OPERATION extends DbOperation> extends ContinentAge
                 }
                 dbOperation.save();
             }
+            benchmarkContext.referenceCache().invalidate(PRODUCTS);
         }
     }
 }
@@ -25,13 +25,17 @@ import grakn.benchmark.common.agent.region.CountryAgent;
 import grakn.benchmark.common.driver.DbDriver;
 import grakn.benchmark.common.driver.DbOperation;
 import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.utils.LongList;
+import grakn.benchmark.common.utils.LongPairList;
 import grakn.benchmark.common.world.World;
 import grakn.common.collection.Pair;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Random;
 
+import static grakn.benchmark.common.agent.base.ReferenceCache.Reference.COMPANIES;
+import static grakn.benchmark.common.agent.base.ReferenceCache.Reference.PRODUCTS;
 import static grakn.common.collection.Collections.pair;
 
 public class PurchaseAgent<DB_OPERATION extends DbOperation> extends CountryAgent<DB_OPERATION> {
@@ -52,39 +56,40 @@ public class PurchaseAgent<DB_OPERATION extends DbOperation> extends CountryAgen
 
         @Override
         protected void run(DbOperationFactory<DB_OPERATION> dbOperationFactory, World.Country country) {
-            List<Long> companyNumbers;
-
-            try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                CompaniesInCountryAction<DB_OPERATION> companiesInContinentAction = actionFactory().companiesInCountryAction(dbOperation, country, 100);
-                companyNumbers = runAction(companiesInContinentAction);
-            }
+            LongList companyNumbers = benchmarkContext.referenceCache().getLongs(COMPANIES, Arrays.asList(country.name(), 100), () -> {
+                try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
+                    CompaniesInCountryAction<DB_OPERATION> companiesInContinentAction = actionFactory().companiesInCountryAction(dbOperation, country, 100);
+                    return runAction(companiesInContinentAction);
+                }
+            });
             shuffle(companyNumbers);
 
-            List<Long> productBarcodes;
-            try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                ProductsInContinentAction<?> productsInContinentAction = actionFactory().productsInContinentAction(dbOperation, country.continent());
-                productBarcodes = runAction(productsInContinentAction);
-            }
+            LongList productBarcodes = benchmarkContext.referenceCache().getLongs(PRODUCTS, Collections.singletonList(country.continent().name()), () -> {
+                try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
+                    ProductsInContinentAction<?> productsInContinentAction = actionFactory().productsInContinentAction(dbOperation, country.continent());
+                    return runAction(productsInContinentAction);
+                }
+            });
 
             int numTransactions = benchmarkContext.world().getScaleFactor() * companyNumbers.size();
             // Company numbers is the list of sellers
             // Company numbers picked randomly is the list of buyers
             // Products randomly picked
 
-            // See if we can allocate with a Pair, which is the buyer and the product id
-            List<Pair<Long, Long>> transactions = new ArrayList<>();
+            // Allocate with a pair of the buyer and the product id, packed unboxed until each transaction is written
+            LongPairList transactions = new LongPairList(numTransactions);
             for (int i = 0; i < numTransactions; i++) {
-                Long companyNumber = pickOne(companyNumbers);
-                Long productBarcode = pickOne(productBarcodes);
-                Pair<Long, Long> buyerAndProduct = pair(companyNumber, productBarcode);
-                transactions.add(buyerAndProduct);
+                long companyNumber = pickOne(companyNumbers);
+                long productBarcode = pickOne(productBarcodes);
+                transactions.add(companyNumber, productBarcode);
             }
             try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                Allocation.allocate(transactions, companyNumbers, (transaction, sellerCompanyNumber) -> {
+                Allocation.allocate(transactions.size(), companyNumbers.size(), (transaction, seller) -> {
                     double value = randomAttributeGenerator().boundRandomDouble(0.01, 10000.00);
                     int productQuantity = randomAttributeGenerator().boundRandomInt(1, 1000);
                     boolean isTaxable = randomAttributeGenerator().bool();
-                    runAction(actionFactory().insertTransactionAction(dbOperation, country, transaction, sellerCompanyNumber, value, productQuantity, isTaxable));
+                    Pair<Long, Long> buyerAndProduct = pair(transactions.first(transaction), transactions.second(transaction));
+                    runAction(actionFactory().insertTransactionAction(dbOperation, country, buyerAndProduct, companyNumbers.get(seller), value, productQuantity, isTaxable));
                 });
                 dbOperation.save();
             }
@@ -28,9 +28,12 @@ import grakn.benchmark.common.driver.DbOperationFactory;
 import grakn.benchmark.common.world.World;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
+import static grakn.benchmark.common.agent.base.ReferenceCache.Reference.CITIES;
+
 public class RelocationAgent<DB_OPERATION extends DbOperation> extends CityAgent<DB_OPERATION> {
 
     public RelocationAgent(DbDriver<DB_OPERATION> dbDriver, ActionFactory<DB_OPERATION, ?> actionFactory, grakn.benchmark.common.agent.base.BenchmarkContext benchmarkContext) {
@@ -67,10 +70,12 @@ public class RelocationAgent<DB_OPERATION extends DbOperation> extends CityAgent
             }
             shuffle(residentEmails);
 
-            try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
-                CitiesInContinentAction<?> citiesInContinentAction = actionFactory().citiesInContinentAction(dbOperation, city);
-                relocationCityNames = runAction(citiesInContinentAction);
-            }
+            relocationCityNames = benchmarkContext.referenceCache().get(CITIES, Collections.singletonList(city.name()), () -> {
+                try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
+                    CitiesInContinentAction<?> citiesInContinentAction = actionFactory().citiesInContinentAction(dbOperation, city);
+                    return runAction(citiesInContinentAction);
+                }
+            });
 
             try (DB_OPERATION dbOperation = dbOperationFactory.newDbOperation(tracker(), iteration(), isTracing())) {
                 Allocation.allocate(residentEmails, relocationCityNames, (residentEmail, relocationCityName) -> {
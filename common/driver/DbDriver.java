@@ -44,5 +44,10 @@ public abstract class DbDriver<DB_OPERATION extends DbOperation> {
 
     public abstract void printStatistics(Logger LOG);
 
-    public abstract DbOperationFactory<DB_OPERATION> getDbOperationFactory(Region region, Logger logger);
+    /**
+     * @param agentName The agent whose operations the factory creates, which may run alongside other agents in the same
+     *                  region in the mixed workload, so drivers whose sessions can't be shared between threads
+     *                  then keep a session per agent
+     */
+    public abstract DbOperationFactory<DB_OPERATION> getDbOperationFactory(String agentName, Region region, Logger logger);
 }
@@ -17,8 +17,12 @@
 
 package grakn.benchmark.common.driver;
 
+import grakn.benchmark.common.jfr.DbOperationEvent;
+import grakn.benchmark.common.utils.LatencyRecorder;
 import grakn.benchmark.common.utils.Trace;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 public abstract class DbOperation implements AutoCloseable {
@@ -26,16 +30,102 @@ public abstract class DbOperation implements AutoCloseable {
     protected final String tracker;
     protected final long iteration;
     private final boolean trace;
+    private final List<Runnable> whenSaved = new ArrayList<>();
+    private AccessMode accessMode;
+    private PendingWrite lastWrite;
 
-    public DbOperation(String tracker, long iteration, boolean trace) {
+    /**
+     * @param accessMode Whether the operation only reads, or null to decide from the first action run in it
+     */
+    public DbOperation(String tracker, long iteration, boolean trace, AccessMode accessMode) {
         this.iteration = iteration;
         this.tracker = tracker;
         this.trace = trace;
+        this.accessMode = accessMode;
+    }
+
+    /**
+     * Ready the operation to run an action. If the operation's access mode is not yet decided, the action decides it,
+     * and the operation opens its transaction now rather than while the action is being timed.
+     *
+     * @throws IllegalStateException If the action writes but the operation is read-only
+     */
+    public void begin(AccessMode actionAccessMode) {
+        lastWrite = null;
+        if (accessMode == null) {
+            accessMode = actionAccessMode;
+            open(accessMode);
+        } else if (accessMode == AccessMode.READ && actionAccessMode == AccessMode.WRITE) {
+            throw new IllegalStateException("A writing action cannot run in a read-only operation");
+        }
+    }
+
+    /**
+     * Open whatever the operation needs to run in its access mode, once the access mode is decided. Operations created
+     * with an access mode open it themselves when they are created.
+     */
+    protected void open(AccessMode accessMode) {}
+
+    /**
+     * @return Whether the operation only reads, or null if no action has run in it to decide
+     */
+    protected AccessMode accessMode() {
+        return accessMode;
     }
 
     public abstract void close();
 
-    public abstract void save();
+    /**
+     * Persist the work done by this operation, recording how long it takes. The database work done to save it, such as
+     * writing deferred writes and committing, is timed under `save` rather than under the last action run.
+     */
+    public void save() {
+        DbOperationEvent event = new DbOperationEvent();
+        event.begin();
+        LatencyRecorder.startAction(LatencyRecorder.SAVE);
+        long start = System.nanoTime();
+        commit();
+        LatencyRecorder.record(LatencyRecorder.SAVE, System.nanoTime() - start);
+        endEvent(event, LatencyRecorder.SAVE);
+        List<Runnable> callbacks = new ArrayList<>(whenSaved);
+        whenSaved.clear();
+        callbacks.forEach(Runnable::run);
+    }
+
+    protected abstract void commit();
+
+    /**
+     * Run a callback once the writes issued by the action running have been sent and their answers received, but
+     * before the operation is committed. It runs with the answer of the action's last deferred write, or straight away
+     * if the action has none outstanding. An operation's writes are answered in the order they are issued, so the
+     * action's earlier writes have been answered by then.
+     */
+    public void whenWritten(Runnable callback) {
+        if (lastWrite == null) callback.run();
+        else lastWrite.whenAnswered(callback);
+    }
+
+    /**
+     * Run a callback once the operation has next been saved, which it never is if it is closed without saving.
+     */
+    public void whenSaved(Runnable callback) {
+        whenSaved.add(callback);
+    }
+
+    /**
+     * To be called by operations that defer writes, whenever the action running defers one, so that callbacks waiting
+     * for the action's writes wait for its answer.
+     */
+    protected void deferred(PendingWrite write) {
+        lastWrite = write;
+    }
+
+    /**
+     * End a Flight Recorder event of a call this operation made to the database, and commit it if it is being recorded.
+     */
+    protected void endEvent(DbOperationEvent event, String phase) {
+        event.end(phase, tracker, iteration, accessMode == null ? null : accessMode.name());
+    }
 
     protected <T> T trace(Supplier<T> method, String traceName) {
         return Trace.trace(method, traceName, trace);
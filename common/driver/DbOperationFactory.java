@@ -33,5 +33,17 @@ public abstract class DbOperationFactory<DB_OPERATION extends DbOperation> {
 
     public abstract DB_OPERATION dbOperation();
 
-    public abstract DB_OPERATION newDbOperation(String tracker, long iteration, boolean trace);
+    /**
+     * Create an operation whose access mode is decided by the first action run in it: read-only if that action is a
+     * {@code ReadAction} that does not write.
+     */
+    public DB_OPERATION newDbOperation(String tracker, long iteration, boolean trace) {
+        return newDbOperation(tracker, iteration, trace, null);
+    }
+
+    /**
+     * @param accessMode Whether the operation only reads, in which case it runs in a read transaction, or null to
+     *                   decide from the first action run in it
+     */
+    public abstract DB_OPERATION newDbOperation(String tracker, long iteration, boolean trace, AccessMode accessMode);
 }
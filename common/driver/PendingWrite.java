@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.driver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A write that an operation has deferred or pipelined, whose answer is received some time after it is issued. Callbacks
+ * waiting for it run on the thread running the operation, once the answer is received.
+ */
+public abstract class PendingWrite {
+
+    private List<Runnable> whenAnswered;
+    private boolean answered = false;
+
+    /**
+     * @return Whether the answer of the write has been received
+     */
+    public boolean isAnswered() {
+        return answered;
+    }
+
+    /**
+     * Run a callback once the answer of the write has been received, straight away if it already has been.
+     */
+    public void whenAnswered(Runnable callback) {
+        if (answered) {
+            callback.run();
+            return;
+        }
+        if (whenAnswered == null) whenAnswered = new ArrayList<>(1);
+        whenAnswered.add(callback);
+    }
+
+    /**
+     * To be called once the answer of the write has been received.
+     */
+    protected void answered() {
+        answered = true;
+        if (whenAnswered == null) return;
+        List<Runnable> callbacks = whenAnswered;
+        whenAnswered = null;
+        callbacks.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.driver;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Transactions of one session that are opened ahead of time, so that an operation can start without waiting for a
+ * transaction to open. Each transaction is used by a single operation and closed afterwards, and the pool is refilled
+ * once the operation is over, outside of the time measured for its actions.
+ *
+ * A transaction only sees the data committed before it was opened, so a transaction opened ahead of time is only
+ * handed out if nothing has been committed since, in any session sharing the same commit count. Otherwise it is closed
+ * and a new transaction is opened in its place.
+ *
+ * Which data a later operation will read isn't known when a commit is made, so any commit of a write invalidates every
+ * transaction opened ahead of time, not only those that could see the data it wrote. Transactions opened ahead of time
+ * therefore only save the time to open one when operations that read follow one another without writes in between,
+ * such as in the read and insight agents, or in a workload with few writing agents. With every region writing, most
+ * are closed unused, which costs the database the opening and closing of each one.
+ */
+public class TransactionPool<TRANSACTION> {
+
+    private final Function<AccessMode, TRANSACTION> opener;
+    private final Consumer<TRANSACTION> closer;
+    private final int size;
+    private final AtomicLong commits;
+    private final Map<AccessMode, ConcurrentLinkedQueue<Idle<TRANSACTION>>> idle = new EnumMap<>(AccessMode.class);
+    private final Map<AccessMode, AtomicInteger> idleCount = new EnumMap<>(AccessMode.class);
+
+    /**
+     * @param opener  Opens a transaction of the session with the given access mode
+     * @param closer  Closes a transaction of the session that was never used
+     * @param size    The number of transactions of each access mode to keep open ahead of time, 0 opens every
+     *                transaction when it is needed
+     * @param commits The number of commits made so far, shared by every pool whose transactions can see each other's
+     *                commits
+     */
+    public TransactionPool(Function<AccessMode, TRANSACTION> opener, Consumer<TRANSACTION> closer, int size, AtomicLong commits) {
+        this.opener = opener;
+        this.closer = closer;
+        this.size = size;
+        this.commits = commits;
+        for (AccessMode accessMode : AccessMode.values()) {
+            idle.put(accessMode, new ConcurrentLinkedQueue<>());
+            idleCount.put(accessMode, new AtomicInteger());
+            refill(accessMode);
+        }
+    }
+
+    /**
+     * Take a transaction opened ahead of time that can see every commit made so far, or open one if there are none.
+     */
+    public TRANSACTION take(AccessMode accessMode) {
+        Idle<TRANSACTION> next;
+        while ((next = idle.get(accessMode).poll()) != null) {
+            idleCount.get(accessMode).decrementAndGet();
+            if (next.commits == commits.get()) return next.transaction;
+            closer.accept(next.transaction);
+        }
+        return opener.apply(accessMode);
+    }
+
+    /**
+     * Open transactions until the pool holds its full number of transactions of an access mode. Each transaction is
+     * counted before it is opened, so that threads refilling at once never open more than the pool holds between them.
+     */
+    public void refill(AccessMode accessMode) {
+        AtomicInteger count = idleCount.get(accessMode);
+        while (true) {
+            int idleOrOpening = count.get();
+            if (idleOrOpening >= size) return;
+            if (!count.compareAndSet(idleOrOpening, idleOrOpening + 1)) continue;
+            try {
+                long commitsBeforeOpening = commits.get();
+                idle.get(accessMode).add(new Idle<>(opener.apply(accessMode), commitsBeforeOpening));
+            } catch (RuntimeException e) {
+                count.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Record that a transaction has committed writes, so that transactions opened before the commit are no longer
+     * handed out. Commits of read-only transactions need not be recorded.
+     */
+    public void committed() {
+        commits.incrementAndGet();
+    }
+
+    /**
+     * Close every transaction that was opened ahead of time and not used.
+     */
+    public void close() {
+        for (AccessMode accessMode : AccessMode.values()) {
+            Idle<TRANSACTION> next;
+            while ((next = idle.get(accessMode).poll()) != null) {
+                idleCount.get(accessMode).decrementAndGet();
+                closer.accept(next.transaction);
+            }
+        }
+    }
+
+    private static class Idle<TRANSACTION> {
+        private final TRANSACTION transaction;
+        private final long commits;
+
+        Idle(TRANSACTION transaction, long commits) {
+            this.transaction = transaction;
+            this.commits = commits;
+        }
+    }
+}
@@ -28,7 +28,8 @@ public abstract class TransactionalDbDriver<TRANSACTION, SESSION, DB_OPERATION e
         COMMIT_TRANSACTION("commitTx"),
         EXECUTE("execute"),
         SORTED_EXECUTE("sortedExecute"),
-        EXECUTE_ASYNC("executeAsync");
+        EXECUTE_ASYNC("executeAsync"),
+        DRAIN("drain");
 
         private String name;
 
@@ -41,10 +42,39 @@ public abstract class TransactionalDbDriver<TRANSACTION, SESSION, DB_OPERATION e
         }
     }
 
+    private boolean pooledSessions = false;
+    private int preWarmedTransactions = 0;
+
     public abstract SESSION session(String sessionKey);
 
     public abstract void closeSessions();
 
+    /**
+     * Keep sessions open for the whole run, as long-running clients do, rather than opening new sessions every
+     * iteration.
+     *
+     * @param preWarmedTransactions The number of transactions of each access mode to keep open ahead of time in each
+     *                              session, where the database's transactions can be opened ahead of time
+     */
+    public void setPooledSessions(int preWarmedTransactions) {
+        this.pooledSessions = true;
+        this.preWarmedTransactions = preWarmedTransactions;
+    }
+
+    /**
+     * @return The number of transactions to keep open ahead of time in each session
+     */
+    protected int preWarmedTransactions() {
+        return pooledSessions ? preWarmedTransactions : 0;
+    }
+
+    /**
+     * Close the sessions opened during an iteration, unless sessions are pooled for the whole run.
+     */
+    public void closeIteration() {
+        if (!pooledSessions) closeSessions();
+    }
+
     public abstract class Session {
         public abstract TRANSACTION tx();
     }
@@ -17,8 +17,55 @@
 
 package grakn.benchmark.common.driver;
 
+import grakn.benchmark.common.jfr.DbOperationEvent;
+import grakn.benchmark.common.utils.LatencyRecorder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 public abstract class TransactionalDbOperation extends DbOperation implements AutoCloseable {
-    public TransactionalDbOperation(String tracker, long iteration, boolean trace) {
-        super(tracker, iteration, trace);
+
+    private static final AtomicInteger IN_FLIGHT_TRANSACTIONS = new AtomicInteger();
+
+    public TransactionalDbOperation(String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        super(tracker, iteration, trace, accessMode);
+    }
+
+    /**
+     * Time a phase of the database work of the action running on this thread, independently of Grabl tracing, and
+     * record it as a Flight Recorder event.
+     */
+    protected <T> T timed(TransactionalDbDriver.TracingLabel phase, Supplier<T> work) {
+        DbOperationEvent event = new DbOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        T result = work.get();
+        LatencyRecorder.recordPhase(phase.getName(), System.nanoTime() - start);
+        endEvent(event, phase.getName());
+        return result;
+    }
+
+    /**
+     * @return The number of database transactions that operations have taken and not yet closed, across every driver
+     */
+    public static int inFlightTransactions() {
+        return IN_FLIGHT_TRANSACTIONS.get();
+    }
+
+    protected static void transactionTaken() {
+        IN_FLIGHT_TRANSACTIONS.incrementAndGet();
+    }
+
+    protected static void transactionReleased() {
+        IN_FLIGHT_TRANSACTIONS.decrementAndGet();
+    }
+
+    protected void timedRun(TransactionalDbDriver.TracingLabel phase, Runnable work) {
+        DbOperationEvent event = new DbOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        work.run();
+        LatencyRecorder.recordPhase(phase.getName(), System.nanoTime() - start);
+        endEvent(event, phase.getName());
     }
 }
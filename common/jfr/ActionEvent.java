@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A Flight Recorder event spanning the run of one action, so that a recording shows which action and region a thread
+ * was running alongside its CPU, allocation and socket samples.
+ */
+@Name("grakn.benchmark.Action")
+@Label("Action")
+@Category({"Grakn Benchmark"})
+@Description("The run of an action by a regional agent")
+public class ActionEvent extends Event {
+
+    @Label("Action")
+    private String action;
+
+    @Label("Agent")
+    private String agent;
+
+    @Label("Tracker")
+    @Description("The region the action ran in")
+    private String tracker;
+
+    @Label("Iteration")
+    private int iteration;
+
+    @Label("Access Mode")
+    private String accessMode;
+
+    @Label("Rows")
+    @Description("The number of answers the action returned")
+    private long rows;
+
+    /**
+     * End the event and commit it, if Flight Recorder is recording it.
+     */
+    public void end(String action, String agent, String tracker, int iteration, String accessMode, long rows) {
+        end();
+        if (!shouldCommit()) return;
+        this.action = action;
+        this.agent = agent;
+        this.tracker = tracker;
+        this.iteration = iteration;
+        this.accessMode = accessMode;
+        this.rows = rows;
+        commit();
+    }
+
+    /**
+     * @return The number of answers an action returned, counting an answer that isn't a collection as one
+     */
+    public static long rows(Object actionAnswer) {
+        if (actionAnswer == null) return 0;
+        if (actionAnswer instanceof Collection) return ((Collection<?>) actionAnswer).size();
+        if (actionAnswer instanceof Map) return ((Map<?, ?>) actionAnswer).size();
+        return 1;
+    }
+}
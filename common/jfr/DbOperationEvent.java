@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event spanning one call an operation makes to the database: opening, committing or closing its
+ * transaction, sending a query or reading its answers, or saving the operation as a whole.
+ */
+@Name("grakn.benchmark.DbOperation")
+@Label("Database Operation")
+@Category({"Grakn Benchmark"})
+@Description("A call made to the database by an operation")
+public class DbOperationEvent extends Event {
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Tracker")
+    @Description("The region the operation runs in")
+    private String tracker;
+
+    @Label("Iteration")
+    private long iteration;
+
+    @Label("Access Mode")
+    private String accessMode;
+
+    /**
+     * End the event and commit it, if Flight Recorder is recording it.
+     */
+    public void end(String phase, String tracker, long iteration, String accessMode) {
+        end();
+        if (!shouldCommit()) return;
+        this.phase = phase;
+        this.tracker = tracker;
+        this.iteration = iteration;
+        this.accessMode = accessMode;
+        commit();
+    }
+}
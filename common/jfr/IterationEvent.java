@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event spanning one iteration of the benchmark, to bound the other events and samples of a
+ * recording by iteration.
+ */
+@Name("grakn.benchmark.Iteration")
+@Label("Iteration")
+@Category({"Grakn Benchmark"})
+@Description("An iteration of the benchmark, from its first agent to its sessions being closed")
+public class IterationEvent extends Event {
+
+    @Label("Iteration")
+    private int iteration;
+
+    @Label("Actions")
+    @Description("The number of actions run in the iteration")
+    private long actions;
+
+    /**
+     * End the event and commit it, if Flight Recorder is recording it.
+     */
+    public void end(int iteration, long actions) {
+        end();
+        if (!shouldCommit()) return;
+        this.iteration = iteration;
+        this.actions = actions;
+        commit();
+    }
+}
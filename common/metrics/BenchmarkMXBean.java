@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.metrics;
+
+import java.util.Map;
+
+/**
+ * The live state of a running benchmark, registered with the platform MBean server so that it can be watched from JMX
+ * clients such as JConsole. Maps are keyed by agent name.
+ */
+public interface BenchmarkMXBean {
+
+    int getIteration();
+
+    long getActionCount();
+
+    double getActionsPerSecond();
+
+    int getInFlightTransactions();
+
+    Map<String, Long> getAgentActionCounts();
+
+    Map<String, Integer> getAgentRegionsCompleted();
+
+    Map<String, Integer> getAgentRegions();
+
+    Map<String, Long> getAgentLatencyP50Micros();
+
+    Map<String, Long> getAgentLatencyP99Micros();
+}
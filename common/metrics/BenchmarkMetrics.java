@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.metrics;
+
+import grakn.benchmark.common.Benchmark;
+import grakn.benchmark.common.agent.base.Agent;
+import grakn.benchmark.common.driver.TransactionalDbOperation;
+import grakn.benchmark.common.utils.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Live throughput, latency and progress of a running benchmark, read from the benchmark whenever they are asked for,
+ * so that nothing is done on the benchmark's threads to publish them.
+ *
+ * Agent latencies are those of whole regional agents, across the measured iterations so far, and are only updated as
+ * regional agents finish.
+ */
+public class BenchmarkMetrics implements BenchmarkMXBean, AutoCloseable {
+
+    public static final String OBJECT_NAME = "grakn.benchmark:type=Benchmark";
+    private static final Logger LOG = LoggerFactory.getLogger(BenchmarkMetrics.class);
+
+    private final Benchmark<?, ?> benchmark;
+    private ObjectName registered;
+
+    public BenchmarkMetrics(Benchmark<?, ?> benchmark) {
+        this.benchmark = benchmark;
+    }
+
+    /**
+     * Register with the platform MBean server, logging rather than failing if it cannot be.
+     */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            server.registerMBean(this, name);
+            registered = name;
+        } catch (JMException e) {
+            LOG.warn("Could not register the benchmark's metrics with JMX: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int getIteration() {
+        return benchmark.iteration();
+    }
+
+    @Override
+    public long getActionCount() {
+        return benchmark.actionCount();
+    }
+
+    @Override
+    public double getActionsPerSecond() {
+        return benchmark.actionsPerSecondInIteration();
+    }
+
+    @Override
+    public int getInFlightTransactions() {
+        return TransactionalDbOperation.inFlightTransactions();
+    }
+
+    @Override
+    public Map<String, Long> getAgentActionCounts() {
+        return byAgent(Agent::actionCount);
+    }
+
+    @Override
+    public Map<String, Integer> getAgentRegionsCompleted() {
+        return byAgent(Agent::regionsCompleted);
+    }
+
+    @Override
+    public Map<String, Integer> getAgentRegions() {
+        return byAgent(Agent::regionsInRun);
+    }
+
+    @Override
+    public Map<String, Long> getAgentLatencyP50Micros() {
+        return byAgent(agent -> latency(agent) != null ? latency(agent).p50 : 0L);
+    }
+
+    @Override
+    public Map<String, Long> getAgentLatencyP99Micros() {
+        return byAgent(agent -> latency(agent) != null ? latency(agent).p99 : 0L);
+    }
+
+    private <T> Map<String, T> byAgent(Function<Agent<?, ?>, T> metric) {
+        Map<String, T> values = new TreeMap<>();
+        for (Agent<?, ?> agent : benchmark.agents()) {
+            values.put(agent.name(), metric.apply(agent));
+        }
+        return values;
+    }
+
+    /**
+     * @return The agent's latencies so far, or null before any of its regional agents has finished a measured iteration
+     */
+    private LatencyRecorder.Summary latency(Agent<?, ?> agent) {
+        return benchmark.latencyRecorder().liveSummary(agent.name());
+    }
+
+    /**
+     * @return The metrics in the OpenMetrics text format, ending with its `# EOF` line
+     */
+    public String openMetrics() {
+        StringBuilder text = new StringBuilder();
+        gauge(text, "benchmark_iteration", "The iteration being run", getIteration());
+        gauge(text, "benchmark_actions_per_second", "Actions per second since the iteration started", getActionsPerSecond());
+        gauge(text, "benchmark_in_flight_transactions", "Database transactions taken by operations and not yet closed", getInFlightTransactions());
+
+        text.append("# TYPE benchmark_actions counter\n");
+        text.append("# HELP benchmark_actions Actions run by each agent\n");
+        for (Agent<?, ?> agent : benchmark.agents()) {
+            sample(text, "benchmark_actions_total", agentLabel(agent), agent.actionCount());
+        }
+        text.append("# TYPE benchmark_agent_regions_completed gauge\n");
+        text.append("# HELP benchmark_agent_regions_completed Regional agents finished in each agent's latest run\n");
+        for (Agent<?, ?> agent : benchmark.agents()) {
+            sample(text, "benchmark_agent_regions_completed", agentLabel(agent), agent.regionsCompleted());
+        }
+        text.append("# TYPE benchmark_agent_regions gauge\n");
+        text.append("# HELP benchmark_agent_regions Regional agents in each agent's latest run\n");
+        for (Agent<?, ?> agent : benchmark.agents()) {
+            sample(text, "benchmark_agent_regions", agentLabel(agent), agent.regionsInRun());
+        }
+        text.append("# TYPE benchmark_agent_latency_microseconds summary\n");
+        text.append("# UNIT benchmark_agent_latency_microseconds microseconds\n");
+        text.append("# HELP benchmark_agent_latency_microseconds Latency of each agent's regional agents in the measured iterations\n");
+        for (Agent<?, ?> agent : benchmark.agents()) {
+            LatencyRecorder.Summary summary = latency(agent);
+            if (summary == null) continue;
+            String label = agentLabel(agent);
+            sample(text, "benchmark_agent_latency_microseconds", label + ",quantile=\"0.5\"", summary.p50);
+            sample(text, "benchmark_agent_latency_microseconds", label + ",quantile=\"0.9\"", summary.p90);
+            sample(text, "benchmark_agent_latency_microseconds", label + ",quantile=\"0.99\"", summary.p99);
+            sample(text, "benchmark_agent_latency_microseconds", label + ",quantile=\"0.999\"", summary.p999);
+            sample(text, "benchmark_agent_latency_microseconds_count", label, summary.count);
+        }
+        text.append("# EOF\n");
+        return text.toString();
+    }
+
+    private static void gauge(StringBuilder text, String name, String help, Number value) {
+        text.append("# TYPE ").append(name).append(" gauge\n");
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sample(text, name, null, value);
+    }
+
+    private static void sample(StringBuilder text, String name, String labels, Number value) {
+        text.append(name);
+        if (labels != null) text.append('{').append(labels).append('}');
+        text.append(' ');
+        if (value instanceof Double) text.append(String.format(Locale.ROOT, "%.3f", value.doubleValue()));
+        else text.append(value);
+        text.append('\n');
+    }
+
+    private static String agentLabel(Agent<?, ?> agent) {
+        return "agent=\"" + agent.name().replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    @Override
+    public void close() {
+        if (registered == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registered);
+        } catch (JMException e) {
+            LOG.warn("Could not unregister the benchmark's metrics from JMX: {}", e.getMessage());
+        }
+        registered = null;
+    }
+}
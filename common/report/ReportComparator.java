@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.report;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Compares the action reports recorded by two separate runs of the benchmark, with `-f`, iteration by iteration.
+ * Only one agent's iteration of each file is held in memory at a time, so runs of any length can be compared, and the
+ * runs can have been on different machines.
+ *
+ * Prints the divergences found with the report before each that was the same in both, and exits with status 1 if
+ * there were any.
+ */
+public class ReportComparator {
+
+    private static final int DEFAULT_MAX_PRINTED = 100;
+
+    public static void main(String[] args) throws IOException {
+        Options options = new Options();
+        options.addOption(Option.builder("m")
+                .longOpt("max-printed").desc("Most divergences to print, all are counted").hasArg().argName("count")
+                .build());
+
+        CommandLine commandLine;
+        try {
+            commandLine = new DefaultParser().parse(options, args);
+        } catch (ParseException e) {
+            System.err.println(e.getMessage());
+            printUsage(options);
+            System.exit(2);
+            return;
+        }
+        if (commandLine.getArgList().size() != 2) {
+            printUsage(options);
+            System.exit(2);
+            return;
+        }
+        Path expectedPath = Paths.get(commandLine.getArgList().get(0));
+        Path actualPath = Paths.get(commandLine.getArgList().get(1));
+        int maxPrinted = Integer.parseInt(commandLine.getOptionValue("m", String.valueOf(DEFAULT_MAX_PRINTED)));
+
+        long compared = 0;
+        long[] divergences = {0};
+        try (ReportReader expected = new ReportReader(expectedPath); ReportReader actual = new ReportReader(actualPath)) {
+            Integer iteration;
+            while ((iteration = nextIteration(expected, actual)) != null) {
+                long divergencesBefore = divergences[0];
+                long iterationCompared = ReportDiff.compare(expected, actual, iteration, divergence -> {
+                    if (divergences[0]++ < maxPrinted) System.out.println(divergence);
+                });
+                compared += iterationCompared;
+                System.out.println(String.format("Iteration %d: %d reports compared, %d divergent", iteration,
+                                                 iterationCompared, divergences[0] - divergencesBefore));
+            }
+        }
+        System.out.println(String.format("%d reports compared, %d divergent", compared, divergences[0]));
+        if (divergences[0] > maxPrinted) {
+            System.out.println(String.format("Only the first %d divergences were printed", maxPrinted));
+        }
+        System.exit(divergences[0] == 0 ? 0 : 1);
+    }
+
+    private static Integer nextIteration(ReportReader expected, ReportReader actual) {
+        Integer expectedIteration = expected.nextIteration();
+        Integer actualIteration = actual.nextIteration();
+        if (expectedIteration == null) return actualIteration;
+        if (actualIteration == null) return expectedIteration;
+        return Math.min(expectedIteration, actualIteration);
+    }
+
+    private static void printUsage(Options options) {
+        new HelpFormatter().printHelp("report-comparator [options] <expected-report-file> <actual-report-file>", options);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.report;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compares two report files group by group as they are read, aligning the reports of each agent in each iteration by
+ * tracker and by their position in the regional agent, so that only one group of each file is in memory at once.
+ */
+public class ReportDiff {
+
+    /**
+     * Compare the groups of both files up to an iteration, leaving later groups to be compared by a later call.
+     *
+     * @param expected      The file of the run taken to be correct
+     * @param actual        The file of the run compared with it
+     * @param lastIteration The last iteration to compare
+     * @param divergences   Receives every report that differs between the files or is only in one of them
+     * @return The number of reports compared
+     */
+    public static long compare(ReportReader expected, ReportReader actual, int lastIteration, Consumer<Divergence> divergences) {
+        long compared = 0;
+        while (true) {
+            Integer expectedIteration = expected.nextIteration();
+            Integer actualIteration = actual.nextIteration();
+            boolean expectedNext = expectedIteration != null && expectedIteration <= lastIteration;
+            boolean actualNext = actualIteration != null && actualIteration <= lastIteration;
+            if (!expectedNext && !actualNext) return compared;
+
+            if (expectedNext && (!actualNext || expectedIteration < actualIteration)) {
+                compared += unmatched(expected.next().lines(), true, divergences);
+            } else if (actualNext && (!expectedNext || actualIteration < expectedIteration)) {
+                compared += unmatched(actual.next().lines(), false, divergences);
+            } else {
+                ReportReader.Group expectedGroup = expected.next();
+                ReportReader.Group actualGroup = actual.next();
+                if (expectedGroup.agent().equals(actualGroup.agent())) {
+                    compared += compare(expectedGroup.lines(), actualGroup.lines(), divergences);
+                } else {
+                    // The runs were configured with different agents, so neither group has a counterpart
+                    compared += unmatched(expectedGroup.lines(), true, divergences);
+                    compared += unmatched(actualGroup.lines(), false, divergences);
+                }
+            }
+        }
+    }
+
+    private static long compare(List<ReportLine> expected, List<ReportLine> actual, Consumer<Divergence> divergences) {
+        int e = 0;
+        int a = 0;
+        ReportLine lastSame = null;
+        while (e < expected.size() || a < actual.size()) {
+            int order;
+            if (e == expected.size()) order = 1;
+            else if (a == actual.size()) order = -1;
+            else order = ReportLine.REGION_ORDER.compare(expected.get(e), actual.get(a));
+
+            if (order < 0) {
+                ReportLine expectedLine = expected.get(e++);
+                divergences.accept(new Divergence(expectedLine, null, context(lastSame, expectedLine)));
+            } else if (order > 0) {
+                ReportLine actualLine = actual.get(a++);
+                divergences.accept(new Divergence(null, actualLine, context(lastSame, actualLine)));
+            } else {
+                ReportLine expectedLine = expected.get(e++);
+                ReportLine actualLine = actual.get(a++);
+                if (expectedLine.sameReport(actualLine)) lastSame = expectedLine;
+                else divergences.accept(new Divergence(expectedLine, actualLine, context(lastSame, expectedLine)));
+            }
+        }
+        return Math.max(expected.size(), actual.size());
+    }
+
+    /**
+     * @return The last report before a divergent one that was the same in both files, if it was run by the same regional
+     * agent
+     */
+    private static ReportLine context(ReportLine lastSame, ReportLine divergent) {
+        return lastSame != null && lastSame.tracker().equals(divergent.tracker()) ? lastSame : null;
+    }
+
+    private static long unmatched(List<ReportLine> lines, boolean expected, Consumer<Divergence> divergences) {
+        for (ReportLine line : lines) {
+            divergences.accept(expected ? new Divergence(line, null, null) : new Divergence(null, line, null));
+        }
+        return lines.size();
+    }
+
+    /**
+     * A report that differs between the files, or is only in one of them.
+     */
+    public static class Divergence {
+        private final ReportLine expected;
+        private final ReportLine actual;
+        private final ReportLine context;
+
+        Divergence(ReportLine expected, ReportLine actual, ReportLine context) {
+            this.expected = expected;
+            this.actual = actual;
+            this.context = context;
+        }
+
+        /**
+         * @return The report in the expected file, or null if it is only in the actual file
+         */
+        public ReportLine expected() {
+            return expected;
+        }
+
+        /**
+         * @return The report in the actual file, or null if it is only in the expected file
+         */
+        public ReportLine actual() {
+            return actual;
+        }
+
+        /**
+         * @return The report the regional agent ran before the divergence that is the same in both files, or null if
+         * there is none
+         */
+        public ReportLine context() {
+            return context;
+        }
+
+        public String agent() {
+            return (expected != null ? expected : actual).agent();
+        }
+
+        @Override
+        public String toString() {
+            ReportLine line = expected != null ? expected : actual;
+            return "Iteration " + line.iteration() + ", " + line.agent() + ", " + line.tracker() + ", action " + line.index() + ":\n" +
+                    (context == null ? "" : "  after:    " + describe(context) + " (action " + context.index() + ", the same in both)\n") +
+                    "  expected: " + describe(expected) + "\n" +
+                    "  actual:   " + describe(actual);
+        }
+
+        private static String describe(ReportLine line) {
+            if (line == null) return "(none)";
+            return line.action() + " input=" + line.input() + " output=" + line.output();
+        }
+    }
+}
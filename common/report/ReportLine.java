@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.report;
+
+import grakn.benchmark.common.action.Action;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The report of one action as a line of a report file: the iteration, agent, tracker and position of the action in
+ * its regional agent, then the action's name, input and output, separated by tabs.
+ *
+ * The input and output are written as JSON in a canonical form, with map entries and set elements sorted, so that
+ * reports of the same action from different databases and JVMs are equal exactly when their lines are equal.
+ */
+public class ReportLine {
+
+    private static final String SEPARATOR = "\t";
+    private static final int FIELDS = 7;
+    static final Comparator<ReportLine> REGION_ORDER = Comparator.comparing(ReportLine::tracker).thenComparingInt(ReportLine::index);
+
+    private final int iteration;
+    private final String agent;
+    private final String tracker;
+    private final int index;
+    private final String action;
+    private final String input;
+    private final String output;
+
+    public ReportLine(int iteration, String agent, String tracker, int index, String action, String input, String output) {
+        this.iteration = iteration;
+        this.agent = agent;
+        this.tracker = tracker;
+        this.index = index;
+        this.action = action;
+        this.input = input;
+        this.output = output;
+    }
+
+    public static ReportLine of(int iteration, String agent, String tracker, int index, Action<?, ?>.Report report) {
+        return new ReportLine(iteration, agent, tracker, index, report.actionName(), json(report.input()), json(report.output()));
+    }
+
+    public static ReportLine parse(String line) {
+        String[] fields = line.split(SEPARATOR, FIELDS);
+        if (fields.length != FIELDS) throw new IllegalArgumentException("Not a line of a report file: " + line);
+        return new ReportLine(Integer.parseInt(fields[0]), fields[1], fields[2], Integer.parseInt(fields[3]),
+                              fields[4], fields[5], fields[6]);
+    }
+
+    public int iteration() {
+        return iteration;
+    }
+
+    public String agent() {
+        return agent;
+    }
+
+    public String tracker() {
+        return tracker;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public String action() {
+        return action;
+    }
+
+    public String input() {
+        return input;
+    }
+
+    public String output() {
+        return output;
+    }
+
+    /**
+     * @return Whether the lines report the same action with the same input and output
+     */
+    public boolean sameReport(ReportLine other) {
+        return action.equals(other.action) && input.equals(other.input) && output.equals(other.output);
+    }
+
+    @Override
+    public String toString() {
+        return iteration + SEPARATOR + agent + SEPARATOR + tracker + SEPARATOR + index + SEPARATOR + action + SEPARATOR +
+                input + SEPARATOR + output;
+    }
+
+    static String json(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value);
+        } else if (value instanceof Map) {
+            List<String> entries = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                entries.add(jsonString(String.valueOf(entry.getKey())) + ":" + json(entry.getValue()));
+            }
+            entries.sort(null);
+            return "{" + String.join(",", entries) + "}";
+        } else if (value instanceof Collection) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                elements.add(json(element));
+            }
+            if (value instanceof Set) elements.sort(null);
+            return "[" + String.join(",", elements) + "]";
+        } else {
+            return jsonString(value.toString());
+        }
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder json = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                default:
+                    if (c < 0x20) json.append(String.format("\\u%04x", (int) c));
+                    else json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+}
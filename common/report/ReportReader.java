@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.report;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a report file written by {@link ReportWriter} one group at a time, a group being the reports of one agent in
+ * one iteration. Only one group is held in memory, however long the run.
+ *
+ * The agents of an iteration run one after another, so the lines of a group are consecutive in the file; reports are
+ * not written in the mixed workload, where they wouldn't be. Its regional agents may finish in any order, so the lines
+ * of a group are sorted by tracker and position when it is read.
+ *
+ * Reading stops at the end of the lines written so far, and continues from there once more are written.
+ */
+public class ReportReader implements AutoCloseable {
+
+    private final BufferedReader reader;
+    private ReportLine next;
+
+    public ReportReader(Path path) throws IOException {
+        reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return The iteration of the next group, or null if no more lines have been written
+     */
+    public Integer nextIteration() {
+        ReportLine line = peek();
+        return line == null ? null : line.iteration();
+    }
+
+    /**
+     * @return The next group, or null if no more lines have been written
+     */
+    public Group next() {
+        ReportLine first = peek();
+        if (first == null) return null;
+        List<ReportLine> lines = new ArrayList<>();
+        ReportLine line;
+        while ((line = peek()) != null && line.iteration() == first.iteration() && line.agent().equals(first.agent())) {
+            lines.add(line);
+            next = null;
+        }
+        lines.sort(ReportLine.REGION_ORDER);
+        return new Group(first.iteration(), first.agent(), lines);
+    }
+
+    private ReportLine peek() {
+        if (next == null) {
+            try {
+                String line = reader.readLine();
+                if (line != null) next = ReportLine.parse(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public static class Group {
+        private final int iteration;
+        private final String agent;
+        private final List<ReportLine> lines;
+
+        Group(int iteration, String agent, List<ReportLine> lines) {
+            this.iteration = iteration;
+            this.agent = agent;
+            this.lines = lines;
+        }
+
+        public int iteration() {
+            return iteration;
+        }
+
+        public String agent() {
+            return agent;
+        }
+
+        /**
+         * @return The reports of the group, sorted by tracker and then in the order each regional agent ran them
+         */
+        public List<ReportLine> lines() {
+            return lines;
+        }
+
+        @Override
+        public String toString() {
+            return agent + " in iteration " + iteration;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.report;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.agent.base.ReportSink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Appends the reports of every regional agent to a file as soon as the regional agent has finished, one line per action
+ * in the form of {@link ReportLine}. The lines of each regional agent are written together and in the order its actions
+ * were run, and are flushed before the next regional agent's, so the file can be read while the benchmark runs.
+ */
+public class ReportWriter implements ReportSink {
+
+    private final BufferedWriter writer;
+
+    /**
+     * @param path The file to write, replacing any file already there
+     */
+    public ReportWriter(Path path) throws IOException {
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void add(int iteration, String agentName, String tracker, List<Action<?, ?>.Report> actionReports) {
+        try {
+            for (int i = 0; i < actionReports.size(); i++) {
+                writer.write(ReportLine.of(iteration, agentName, tracker, i, actionReports.get(i)).toString());
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Holds one copy of each string derived from a key, such as the capitalised form of a word, so that agents that derive
+ * the same string over and over share it rather than allocating it again each time. Only keys drawn from a bounded set,
+ * such as the words of the world, should be interned, as nothing is ever removed.
+ */
+public class Interner<KEY> {
+
+    private final ConcurrentHashMap<KEY, String> interned = new ConcurrentHashMap<>();
+    private final Function<KEY, String> derive;
+
+    public Interner(Function<KEY, String> derive) {
+        this.derive = derive;
+    }
+
+    public String get(KEY key) {
+        String value = interned.get(key);
+        if (value == null) value = interned.computeIfAbsent(key, derive);
+        return value;
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.utils;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on latency capture, independent of Grabl tracing.
+ *
+ * Latencies are recorded into a {@link Scope} that is bound to the current thread for the duration of a regional
+ * agent, so they are keyed by the iteration and tracker of that region as well as by name. Recording into an open
+ * scope does not allocate once the scope's histograms exist, and the histograms are reused by later scopes on the same
+ * thread. When a scope closes, its histograms are merged into histograms per iteration, region and name, and into
+ * whole-run histograms per region and per name, which are summarised when the latencies are written.
+ *
+ * The latencies of warm-up iterations are discarded, and each measured iteration can be tagged as steady or transient.
+ */
+public class LatencyRecorder {
+
+    public static final String SAVE = "save";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+    private static final ThreadLocal<Scope> POOLED_SCOPE = ThreadLocal.withInitial(Scope::new);
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> PHASE_NAMES = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Key, Histogram> regionHistograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Histogram> nameHistograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<IterationKey, Histogram> iterationHistograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, ActionTotals> iterationActionTotals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, SteadyStateDetector.State> iterationStates = new ConcurrentHashMap<>();
+    private volatile int warmUpIterations = 0;
+
+    /**
+     * Discard the latencies of the first iterations, numbered from 1, rather than recording them.
+     */
+    public void setWarmUpIterations(int warmUpIterations) {
+        this.warmUpIterations = warmUpIterations;
+    }
+
+    private boolean isWarmUp(int iteration) {
+        return iteration <= warmUpIterations;
+    }
+
+    /**
+     * Tag the summaries of an iteration with whether the benchmark was in a steady state during it.
+     */
+    public void setState(int iteration, SteadyStateDetector.State state) {
+        iterationStates.put(iteration, state);
+    }
+
+    /**
+     * Bind a scope to the current thread, into which all latencies recorded on this thread are collected until it is
+     * closed.
+     */
+    public Scope open(int iteration, String tracker) {
+        Scope pooled = POOLED_SCOPE.get();
+        Scope scope = pooled.isOpen ? new Scope() : pooled;
+        scope.open(this, iteration, tracker, CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * Record a latency into the scope bound to the current thread. Latencies recorded outside of a scope, such as
+     * during initialisation, are ignored.
+     */
+    public static void record(String name, long latencyNanos) {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope != null) scope.record(name, latencyNanos);
+    }
+
+    /**
+     * Record the latency of an action into the scope bound to the current thread, also counting it towards the
+     * action throughput and mean action latency of the scope's iteration.
+     */
+    public static void recordAction(String name, long latencyNanos) {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            scope.record(name, latencyNanos);
+            scope.actionCount++;
+            scope.actionNanos += latencyNanos;
+        }
+    }
+
+    /**
+     * Attribute the phases recorded on this thread to an action, from when it starts until the next action starts on the
+     * thread, so that the commit of an operation is attributed to the last action run in it.
+     */
+    public static void startAction(String name) {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope != null) scope.action = name;
+    }
+
+    /**
+     * Record the latency of a phase of an action's database work, such as opening a transaction, executing a query,
+     * draining its answers or committing, under the action's name followed by the phase's. Phases recorded before any
+     * action has started in the scope are recorded under the phase's name alone.
+     */
+    public static void recordPhase(String phase, long latencyNanos) {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope != null) scope.record(scope.action == null ? phase : phaseName(scope.action, phase), latencyNanos);
+    }
+
+    private static String phaseName(String action, String phase) {
+        ConcurrentHashMap<String, String> names = PHASE_NAMES.get(action);
+        if (names == null) names = PHASE_NAMES.computeIfAbsent(action, a -> new ConcurrentHashMap<>());
+        String name = names.get(phase);
+        if (name == null) name = names.computeIfAbsent(phase, p -> action + "." + p);
+        return name;
+    }
+
+    /**
+     * Record a single latency outside of any scope. This allocates, so it is only suitable for infrequent measurements.
+     */
+    public void record(int iteration, String tracker, String name, long latencyNanos) {
+        Histogram histogram = newHistogram();
+        histogram.recordValue(toMicros(latencyNanos));
+        merge(iteration, tracker, name, histogram);
+    }
+
+    private void merge(int iteration, String tracker, String name, Histogram histogram) {
+        if (isWarmUp(iteration)) return;
+        Histogram iterationHistogram = iterationHistograms.computeIfAbsent(new IterationKey(iteration, tracker, name), k -> newHistogram());
+        synchronized (iterationHistogram) {
+            iterationHistogram.add(histogram);
+        }
+        Histogram regionHistogram = regionHistograms.computeIfAbsent(new Key(tracker, name), k -> newHistogram());
+        synchronized (regionHistogram) {
+            regionHistogram.add(histogram);
+        }
+        Histogram nameHistogram = nameHistograms.computeIfAbsent(name, k -> newHistogram());
+        synchronized (nameHistogram) {
+            nameHistogram.add(histogram);
+        }
+    }
+
+    /**
+     * @return A summary of a name across every region and measured iteration so far, of the scopes that have closed, or
+     * null if none have recorded it
+     */
+    public Summary liveSummary(String name) {
+        Histogram histogram = nameHistograms.get(name);
+        if (histogram == null) return null;
+        synchronized (histogram) {
+            return new Summary("all", "all", "all", name, histogram);
+        }
+    }
+
+    private void mergeActionTotals(int iteration, long actionCount, long actionNanos) {
+        if (isWarmUp(iteration)) return;
+        ActionTotals totals = iterationActionTotals.computeIfAbsent(iteration, i -> new ActionTotals());
+        totals.count.add(actionCount);
+        totals.nanos.add(actionNanos);
+    }
+
+    /**
+     * @return The number of actions completed in an iteration
+     */
+    public long actionCount(int iteration) {
+        ActionTotals totals = iterationActionTotals.get(iteration);
+        return totals == null ? 0 : totals.count.sum();
+    }
+
+    /**
+     * @return The mean latency in microseconds of the actions completed in an iteration, or 0 if there were none
+     */
+    public double meanActionLatencyMicros(int iteration) {
+        ActionTotals totals = iterationActionTotals.get(iteration);
+        if (totals == null || totals.count.sum() == 0) return 0;
+        return totals.nanos.sum() / 1000.0 / totals.count.sum();
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static long toMicros(long latencyNanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    /**
+     * @return Summaries of every name in every region and iteration, followed by every name in every region across all
+     * measured iterations, followed by every name across the whole run
+     */
+    public List<Summary> summaries() {
+        List<Summary> summaries = new ArrayList<>();
+        Map<IterationKey, Histogram> sortedIterationHistograms = new TreeMap<>(iterationHistograms);
+        sortedIterationHistograms.forEach((key, histogram) -> {
+            SteadyStateDetector.State state = iterationStates.get(key.iteration);
+            String stateName = state == null ? SteadyStateDetector.State.TRANSIENT.getName() : state.getName();
+            synchronized (histogram) {
+                summaries.add(new Summary(String.valueOf(key.iteration), stateName, key.key.tracker, key.key.name, histogram));
+            }
+        });
+
+        Map<Key, Histogram> sortedRegionHistograms = new TreeMap<>(regionHistograms);
+        Map<String, Histogram> nameHistograms = new TreeMap<>();
+        sortedRegionHistograms.forEach((key, histogram) -> {
+            synchronized (histogram) {
+                summaries.add(new Summary("all", "all", key.tracker, key.name, histogram));
+                nameHistograms.computeIfAbsent(key.name, k -> newHistogram()).add(histogram);
+            }
+        });
+        nameHistograms.forEach((name, histogram) -> summaries.add(new Summary("all", "all", "all", name, histogram)));
+        return summaries;
+    }
+
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("iteration,state,tracker,name,count,p50_us,p90_us,p99_us,p999_us,max_us");
+            writer.newLine();
+            for (Summary summary : summaries()) {
+                writer.write(String.join(",", summary.iteration, summary.state, csvField(summary.tracker), csvField(summary.name),
+                                         String.valueOf(summary.count), String.valueOf(summary.p50), String.valueOf(summary.p90),
+                                         String.valueOf(summary.p99), String.valueOf(summary.p999), String.valueOf(summary.max)));
+                writer.newLine();
+            }
+        }
+    }
+
+    public void writeJson(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("[");
+            boolean first = true;
+            for (Summary summary : summaries()) {
+                if (!first) writer.write(",");
+                first = false;
+                writer.newLine();
+                writer.write(String.format("  {\"iteration\": \"%s\", \"state\": \"%s\", \"tracker\": \"%s\", \"name\": \"%s\", \"count\": %d, " +
+                                                   "\"p50_us\": %d, \"p90_us\": %d, \"p99_us\": %d, \"p999_us\": %d, \"max_us\": %d}",
+                                           summary.iteration, summary.state, jsonString(summary.tracker), jsonString(summary.name), summary.count,
+                                           summary.p50, summary.p90, summary.p99, summary.p999, summary.max));
+            }
+            writer.newLine();
+            writer.write("]");
+            writer.newLine();
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"")) return "\"" + value.replace("\"", "\"\"") + "\"";
+        return value;
+    }
+
+    private static String jsonString(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * The latencies recorded on one thread for one region in one iteration.
+     */
+    public static class Scope implements AutoCloseable {
+
+        private final Map<String, Histogram> histograms = new HashMap<>();
+        private LatencyRecorder recorder;
+        private int iteration;
+        private String tracker;
+        private Scope parent;
+        private String action;
+        private boolean isOpen = false;
+        private long actionCount;
+        private long actionNanos;
+
+        private void open(LatencyRecorder recorder, int iteration, String tracker, Scope parent) {
+            this.recorder = recorder;
+            this.iteration = iteration;
+            this.tracker = tracker;
+            this.parent = parent;
+            this.isOpen = true;
+        }
+
+        private void record(String name, long latencyNanos) {
+            Histogram histogram = histograms.get(name);
+            if (histogram == null) {
+                histogram = newHistogram();
+                histograms.put(name, histogram);
+            }
+            histogram.recordValue(toMicros(latencyNanos));
+        }
+
+        @Override
+        public void close() {
+            for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                Histogram histogram = entry.getValue();
+                if (histogram.getTotalCount() > 0) {
+                    recorder.merge(iteration, tracker, entry.getKey(), histogram);
+                    histogram.reset();
+                }
+            }
+            if (actionCount > 0) recorder.mergeActionTotals(iteration, actionCount, actionNanos);
+            actionCount = 0;
+            actionNanos = 0;
+            action = null;
+            isOpen = false;
+            recorder = null;
+            CURRENT_SCOPE.set(parent);
+            parent = null;
+        }
+    }
+
+    /**
+     * Percentiles of a histogram, in microseconds.
+     */
+    public static class Summary {
+        public final String iteration;
+        public final String state;
+        public final String tracker;
+        public final String name;
+        public final long count;
+        public final long p50;
+        public final long p90;
+        public final long p99;
+        public final long p999;
+        public final long max;
+
+        Summary(String iteration, String state, String tracker, String name, Histogram histogram) {
+            this(iteration, state, tracker, name, histogram.getTotalCount(), histogram.getValueAtPercentile(50),
+                 histogram.getValueAtPercentile(90), histogram.getValueAtPercentile(99),
+                 histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+        }
+
+        private Summary(String iteration, String state, String tracker, String name, long count, long p50, long p90,
+                        long p99, long p999, long max) {
+            this.iteration = iteration;
+            this.state = state;
+            this.tracker = tracker;
+            this.name = name;
+            this.count = count;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.max = max;
+        }
+    }
+
+    private static class ActionTotals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+    private static class Key implements Comparable<Key> {
+        private final String tracker;
+        private final String name;
+
+        Key(String tracker, String name) {
+            this.tracker = tracker;
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byTracker = tracker.compareTo(other.tracker);
+            return byTracker != 0 ? byTracker : name.compareTo(other.name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return tracker.equals(key.tracker) && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tracker, name);
+        }
+    }
+
+    private static class IterationKey implements Comparable<IterationKey> {
+        private final int iteration;
+        private final Key key;
+
+        IterationKey(int iteration, String tracker, String name) {
+            this.iteration = iteration;
+            this.key = new Key(tracker, name);
+        }
+
+        @Override
+        public int compareTo(IterationKey other) {
+            int byIteration = Integer.compare(iteration, other.iteration);
+            return byIteration != 0 ? byIteration : key.compareTo(other.key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IterationKey that = (IterationKey) o;
+            return iteration == that.iteration && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(iteration, key);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+/**
+ * A growable list of unboxed longs, such as company numbers and barcodes, for agents that hold many identifiers at once
+ * without allocating a {@link Long} for each.
+ */
+public class LongList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values;
+    private int size = 0;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongList(int capacity) {
+        values = new long[Math.max(capacity, 1)];
+    }
+
+    public static LongList of(Collection<Long> values) {
+        LongList list = new LongList(values.size());
+        for (Long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * @return A list of the same values that can be modified without changing this one
+     */
+    public LongList copy() {
+        LongList copy = new LongList(size);
+        System.arraycopy(values, 0, copy.values, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    public void add(long value) {
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size++] = value;
+    }
+
+    public long get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Shuffle the list in place, drawing from the random exactly as {@link java.util.Collections#shuffle} does for a
+     * list of boxed longs, so that either can be used without changing what an agent writes.
+     */
+    public void shuffle(Random random) {
+        for (int i = size; i > 1; i--) {
+            int j = random.nextInt(i);
+            long swapped = values[i - 1];
+            values[i - 1] = values[j];
+            values[j] = swapped;
+        }
+    }
+}
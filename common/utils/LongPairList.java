@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.utils;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of pairs of unboxed longs, packed side by side in a single array, for agents that build many pairs of
+ * identifiers, such as the buyer and product of each transaction, before writing them.
+ */
+public class LongPairList {
+
+    private long[] values;
+    private int size = 0;
+
+    public LongPairList(int capacity) {
+        values = new long[2 * Math.max(capacity, 1)];
+    }
+
+    public void add(long first, long second) {
+        if (2 * size == values.length) values = Arrays.copyOf(values, values.length * 2);
+        values[2 * size] = first;
+        values[2 * size + 1] = second;
+        size++;
+    }
+
+    public long first(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values[2 * index];
+    }
+
+    public long second(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values[2 * index + 1];
+    }
+
+    public int size() {
+        return size;
+    }
+}
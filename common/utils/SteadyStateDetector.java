@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Decides whether the benchmark has reached a steady state, from the throughput and latency of each iteration.
+ *
+ * An iteration is steady when, over a sliding window of the most recent iterations ending with it, the coefficient of
+ * variation (standard deviation divided by mean) of both throughput and mean latency is within a threshold. Until the
+ * window has filled, iterations are transient.
+ */
+public class SteadyStateDetector {
+
+    private final int window;
+    private final double maxCoefficientOfVariation;
+    private final Deque<Double> throughputs = new ArrayDeque<>();
+    private final Deque<Double> latencies = new ArrayDeque<>();
+
+    public SteadyStateDetector(int window, double maxCoefficientOfVariation) {
+        this.window = window;
+        this.maxCoefficientOfVariation = maxCoefficientOfVariation;
+    }
+
+    /**
+     * Add the measurements of the next iteration to the window.
+     *
+     * @param throughput  The number of actions completed per second
+     * @param meanLatency The mean latency of the actions
+     * @return Whether the iteration is steady or transient
+     */
+    public State next(double throughput, double meanLatency) {
+        add(throughputs, throughput);
+        add(latencies, meanLatency);
+        if (throughputs.size() < window) return State.TRANSIENT;
+        boolean steady = coefficientOfVariation(throughputs) <= maxCoefficientOfVariation
+                && coefficientOfVariation(latencies) <= maxCoefficientOfVariation;
+        return steady ? State.STEADY : State.TRANSIENT;
+    }
+
+    private void add(Deque<Double> values, double value) {
+        values.addLast(value);
+        if (values.size() > window) values.removeFirst();
+    }
+
+    static double coefficientOfVariation(Iterable<Double> values) {
+        double sum = 0;
+        int count = 0;
+        for (double value : values) {
+            sum += value;
+            count++;
+        }
+        double mean = sum / count;
+        if (mean == 0) return 0;
+
+        double squaredDeviations = 0;
+        for (double value : values) {
+            squaredDeviations += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(squaredDeviations / count) / mean;
+    }
+
+    public enum State {
+        STEADY("steady"),
+        TRANSIENT("transient");
+
+        private final String name;
+
+        State(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -25,16 +25,35 @@ import static grabl.tracing.client.GrablTracingThreadStatic.traceOnThread;
 
 public class Trace {
 
+    private static volatile TraceSampler sampler = TraceSampler.all();
+
+    /**
+     * Choose which of the operations that could be traced are traced, by default all of them.
+     */
+    public static void setSampler(TraceSampler sampler) {
+        Trace.sampler = sampler;
+    }
+
+    public static TraceSampler sampler() {
+        return sampler;
+    }
+
     /**
-     * A wrapper to trace a method or not according to a supplied boolean
+     * A wrapper to trace a method or not according to a supplied boolean, and then to the trace sampler
      */
     public static <T> T trace(Supplier<T> methodToTrace, String traceName, boolean trace) {
-        if (trace) {
+        if (!trace) return methodToTrace.get();
+        TraceSampler sampler = Trace.sampler;
+        long start = sampler.observes() ? System.nanoTime() : 0;
+        T result;
+        if (sampler.sample(traceName)) {
             try (GrablTracingThreadStatic.ThreadTrace ignored = traceOnThread(traceName)) {
-                return methodToTrace.get();
+                result = methodToTrace.get();
             }
         } else {
-            return methodToTrace.get();
+            result = methodToTrace.get();
         }
+        if (sampler.observes()) sampler.observe(traceName, System.nanoTime() - start);
+        return result;
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which of the operations that could be traced in a traced iteration are traced, so that every iteration can
+ * be traced at a bounded cost rather than every action and regional agent of a few iterations.
+ *
+ * A span is sent as soon as it is opened, so an operation is sampled before it runs, by its name alone. Sampling draws
+ * from its own random, leaving the random of each agent, and so the data it writes, untouched.
+ */
+public abstract class TraceSampler {
+
+    /**
+     * @return Whether to trace the next run of the operation with the given name
+     */
+    public abstract boolean sample(String name);
+
+    /**
+     * Record how long an operation took, whether or not it was traced.
+     */
+    public void observe(String name, long latencyNanos) {}
+
+    /**
+     * @return Whether {@link #observe} needs to be given the latency of every operation
+     */
+    public boolean observes() {
+        return false;
+    }
+
+    /**
+     * Start sampling the operations of a new iteration.
+     */
+    public void startIteration() {}
+
+    public static TraceSampler all() {
+        return new All();
+    }
+
+    /**
+     * Trace each operation with a fixed probability.
+     */
+    public static TraceSampler probability(double probability) {
+        return new Probability(probability);
+    }
+
+    /**
+     * Trace the n-th run of each operation in an iteration with probability {@code perName / n}, the probability with
+     * which reservoir sampling admits it. Rare operations are always traced and common ones a logarithmic number of
+     * times, so every kind of operation is represented whatever its share of the runs.
+     */
+    public static TraceSampler reservoir(int perName) {
+        return new Reservoir(perName);
+    }
+
+    /**
+     * Trace each operation with a base probability, and always trace the next run of an operation after one that was
+     * slower than a threshold, as slow operations tend to come together, from a compaction or a collection say.
+     */
+    public static TraceSampler slow(double probability, double slowerThanMillis) {
+        return new Slow(probability, slowerThanMillis);
+    }
+
+    private static class All extends TraceSampler {
+        @Override
+        public boolean sample(String name) {
+            return true;
+        }
+    }
+
+    private static class Probability extends TraceSampler {
+
+        private final double probability;
+
+        Probability(double probability) {
+            this.probability = probability;
+        }
+
+        @Override
+        public boolean sample(String name) {
+            return ThreadLocalRandom.current().nextDouble() < probability;
+        }
+    }
+
+    private static class Reservoir extends TraceSampler {
+
+        private final int perName;
+        private final ConcurrentHashMap<String, AtomicLong> runs = new ConcurrentHashMap<>();
+
+        Reservoir(int perName) {
+            this.perName = perName;
+        }
+
+        @Override
+        public boolean sample(String name) {
+            long run = runs.computeIfAbsent(name, n -> new AtomicLong()).incrementAndGet();
+            return run <= perName || ThreadLocalRandom.current().nextLong(run) < perName;
+        }
+
+        @Override
+        public void startIteration() {
+            runs.clear();
+        }
+    }
+
+    private static class Slow extends TraceSampler {
+
+        private final double probability;
+        private final long slowerThanNanos;
+        private final ConcurrentHashMap<String, Boolean> afterSlow = new ConcurrentHashMap<>();
+
+        Slow(double probability, double slowerThanMillis) {
+            this.probability = probability;
+            this.slowerThanNanos = (long) (slowerThanMillis * TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        @Override
+        public boolean sample(String name) {
+            return afterSlow.remove(name) != null || ThreadLocalRandom.current().nextDouble() < probability;
+        }
+
+        @Override
+        public void observe(String name, long latencyNanos) {
+            if (latencyNanos > slowerThanNanos) afterSlow.put(name, Boolean.TRUE);
+        }
+
+        @Override
+        public boolean observes() {
+            return true;
+        }
+    }
+}
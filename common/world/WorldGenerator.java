@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.common.world;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates a synthetic geography of N continents, each with M countries, each with K cities, so that the benchmark
+ * can run far more regional agents than the handful of regions in the bundled data.
+ *
+ * The geography is written out as the same CSV files as the bundled data, so it is read into the {@link World} and
+ * loaded into each database by the existing YAML templates. Every continent, country and city is given a unique
+ * name, and each country its own currency. The output depends only on the seed and the dimensions.
+ */
+public class WorldGenerator {
+
+    private static final String[] CONSONANTS = {"b", "d", "f", "g", "k", "l", "m", "n", "p", "r", "s", "t", "v", "z"};
+    private static final String[] VOWELS = {"a", "e", "i", "o", "u"};
+    private static final String[] LANGUAGES = {"English", "Spanish", "French", "German", "Portuguese", "Mandarin", "Hindi", "Arabic"};
+
+    private final Random random;
+    private final int continents;
+    private final int countriesPerContinent;
+    private final int citiesPerCountry;
+    private final Set<String> usedNames = new HashSet<>();
+
+    public WorldGenerator(int randomSeed, int continents, int countriesPerContinent, int citiesPerCountry) {
+        this.random = new Random(randomSeed);
+        this.continents = continents;
+        this.countriesPerContinent = countriesPerContinent;
+        this.citiesPerCountry = citiesPerCountry;
+    }
+
+    /**
+     * Write the geography into a directory.
+     *
+     * @return The written files keyed by file name, to be used in place of the bundled files of the same names
+     */
+    public Map<String, Path> writeCsvFiles(Path directory) throws IOException {
+        List<List<String>> continentRows = new ArrayList<>();
+        List<List<String>> countryRows = new ArrayList<>();
+        List<List<String>> cityRows = new ArrayList<>();
+        List<List<String>> currencyRows = new ArrayList<>();
+        List<List<String>> countryCurrencyRows = new ArrayList<>();
+        List<List<String>> countryLanguageRows = new ArrayList<>();
+
+        for (int i = 0; i < continents; i++) {
+            String continent = uniqueName();
+            continentRows.add(Arrays.asList(continent));
+            for (int j = 0; j < countriesPerContinent; j++) {
+                String country = uniqueName();
+                countryRows.add(Arrays.asList(country, continent));
+                String currency = country + " Mark";
+                currencyRows.add(Arrays.asList(currency, currencyCode(currencyRows.size())));
+                countryCurrencyRows.add(Arrays.asList(country, currency));
+                countryLanguageRows.add(Arrays.asList(country, LANGUAGES[random.nextInt(LANGUAGES.length)]));
+                for (int k = 0; k < citiesPerCountry; k++) {
+                    cityRows.add(Arrays.asList(uniqueName(), country));
+                }
+            }
+        }
+
+        Map<String, Path> files = new HashMap<>();
+        files.put("continents.csv", writeCsv(directory.resolve("continents.csv"), continentRows));
+        files.put("countries.csv", writeCsv(directory.resolve("countries.csv"), countryRows));
+        files.put("cities.csv", writeCsv(directory.resolve("cities.csv"), cityRows));
+        files.put("currencies.csv", writeCsv(directory.resolve("currencies.csv"), currencyRows));
+        files.put("country_currencies.csv", writeCsv(directory.resolve("country_currencies.csv"), countryCurrencyRows));
+        files.put("country_languages.csv", writeCsv(directory.resolve("country_languages.csv"), countryLanguageRows));
+        return files;
+    }
+
+    private static Path writeCsv(Path path, List<List<String>> rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+             CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
+            printer.printRecords(rows);
+        }
+        return path;
+    }
+
+    private String uniqueName() {
+        String name;
+        do {
+            StringBuilder builder = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int i = 0; i < syllables; i++) {
+                builder.append(CONSONANTS[random.nextInt(CONSONANTS.length)]).append(VOWELS[random.nextInt(VOWELS.length)]);
+            }
+            builder.setCharAt(0, Character.toUpperCase(builder.charAt(0)));
+            name = builder.toString();
+        } while (!usedNames.add(name));
+        return name;
+    }
+
+    /**
+     * @return A code of at least three letters that is unique to the index, "AAA", "AAB", ...
+     */
+    private static String currencyCode(int index) {
+        StringBuilder code = new StringBuilder();
+        do {
+            code.append((char) ('A' + index % 26));
+            index /= 26;
+        } while (index > 0 || code.length() < 3);
+        return code.reverse().toString();
+    }
+}
@@ -20,8 +20,10 @@ package grakn.benchmark.common.yaml_tool;
 import graql.lang.common.util.Strings;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -32,6 +34,7 @@ import java.util.regex.Pattern;
  */
 public class QueryTemplate {
     private static final Pattern TEMPLATE_VAR_PATTERN = Pattern.compile("<(\\d+)>");
+    private static final String PARAMETER_PREFIX = "column";
 
     private String[] templateComponents;
     private List<Integer> vars;
@@ -69,4 +72,36 @@ public class QueryTemplate {
 
         return builder.toString();
     }
+
+    /**
+     * The template with a reference to a named parameter in place of each variable, so that the query text is the same
+     * for every row and only the parameters change.
+     *
+     * @param referencePrefix What precedes a parameter name to refer to it in the query language, eg. "$" in Cypher.
+     * @return The parameterised query.
+     */
+    public String parameterise(String referencePrefix) {
+        StringBuilder builder = new StringBuilder(templateComponents[0]);
+
+        for (int i = 1; i < templateComponents.length; ++i) {
+            builder.append(referencePrefix).append(PARAMETER_PREFIX).append(vars.get(i - 1));
+            builder.append(templateComponents[i]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * The parameters of a parameterised query, using the same getter as {@link #interpolate(Function)}.
+     *
+     * @param getter A function to map the indices to values.
+     * @return The value of every parameter, by name.
+     */
+    public Map<String, Object> parameters(Function<Integer, String> getter) {
+        Map<String, Object> parameters = new HashMap<>();
+        for (Integer column : columns) {
+            parameters.put(PARAMETER_PREFIX + column, getter.apply(column));
+        }
+        return parameters;
+    }
 }
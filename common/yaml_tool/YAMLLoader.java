@@ -19,6 +19,7 @@ package grakn.benchmark.common.yaml_tool;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
@@ -28,7 +29,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * A class to automate loading data into Grakn simply using YAML files with embedded Graql and CSV.
@@ -38,6 +49,10 @@ import java.util.Map;
  * The YAML document should contain a "template" and a "data" parameter. The "template" should be a Graql query using
  * angle brackets with numbers to indicate the column index (beginning with 0) of the variable in the CSV "data"
  * section.
+ *
+ * The CSV is read lazily and loaded in batches of "batch_size" rows, each in its own transaction, by "parallelism"
+ * workers at once. By default all of the rows are loaded in a single transaction. Each document is fully loaded before
+ * the next one starts, so later documents can refer to data loaded by earlier ones.
  */
 public abstract class YAMLLoader {
 
@@ -74,19 +89,74 @@ public abstract class YAMLLoader {
         }
         QueryTemplate template = new QueryTemplate(templateString);
 
+        int batchSize = getPositiveInteger(documentMap, "batch_size", Integer.MAX_VALUE);
+        int parallelism = getPositiveInteger(documentMap, "parallelism", 1);
+
         // Try data_file
         String dataFile = getString(documentMap, "data_file");
         if (dataFile != null) {
-            try {
-                CSVParser parser = CSVParser.parse(accessibleFiles.get(dataFile), StandardCharsets.UTF_8, CSVFormat.DEFAULT);
-                parseCSV(template, parser);
+            try (CSVParser parser = CSVParser.parse(accessibleFiles.get(dataFile), StandardCharsets.UTF_8, CSVFormat.DEFAULT)) {
+                loadRecords(template, parser.iterator(), batchSize, parallelism);
             } catch (IOException e) {
                 throw new YAMLException("Could not parse CSV data.", e);
             }
         }
     }
 
-    protected abstract void parseCSV(QueryTemplate template, CSVParser parser) throws IOException;
+    private void loadRecords(QueryTemplate template, Iterator<CSVRecord> records, int batchSize, int parallelism) throws YAMLException {
+        if (parallelism == 1) {
+            while (records.hasNext()) {
+                loadBatch(template, nextBatch(records, batchSize));
+            }
+            return;
+        }
+
+        // Read at most two batches ahead per worker, so memory is bounded however large the CSV is
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        Semaphore batchesAhead = new Semaphore(parallelism * 2);
+        Deque<Future<?>> loaded = new ArrayDeque<>();
+        try {
+            while (records.hasNext()) {
+                batchesAhead.acquire();
+                List<CSVRecord> batch = nextBatch(records, batchSize);
+                loaded.add(workers.submit(() -> {
+                    try {
+                        loadBatch(template, batch);
+                    } finally {
+                        batchesAhead.release();
+                    }
+                }));
+                // Stop at the first failure rather than reading the rest of the CSV
+                while (!loaded.isEmpty() && loaded.peek().isDone()) {
+                    loaded.poll().get();
+                }
+            }
+            for (Future<?> batch : loaded) {
+                batch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new YAMLException("Interrupted while loading CSV data.", e);
+        } catch (ExecutionException e) {
+            throw new YAMLException("Could not load CSV data.", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static List<CSVRecord> nextBatch(Iterator<CSVRecord> records, int batchSize) {
+        List<CSVRecord> batch = new ArrayList<>();
+        while (records.hasNext() && batch.size() < batchSize) {
+            batch.add(records.next());
+        }
+        return batch;
+    }
+
+    /**
+     * Load a batch of records in a single transaction. When a document is loaded in parallel, this is called from
+     * several threads at once.
+     */
+    protected abstract void loadBatch(QueryTemplate template, List<CSVRecord> records);
 
     /**
      * Helper method to avoid repeating nasty type checking code.
@@ -106,4 +176,15 @@ public abstract class YAMLLoader {
         }
         return (String) result;
     }
+
+    private static int getPositiveInteger(Map object, String key, int defaultValue) throws YAMLException {
+        Object result = object.get(key);
+        if (result == null) {
+            return defaultValue;
+        }
+        if (!(result instanceof Integer) || (Integer) result < 1) {
+            throw new YAMLException("Did not find a positive integer for '" + key + "'");
+        }
+        return (Integer) result;
+    }
 }
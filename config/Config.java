@@ -25,13 +25,25 @@ public class Config {
     private final static int DEFAULT_NUM_ITERATIONS = 10;
     private final static int DEFAULT_SCALE_FACTOR = 5;
     private final static String DEFAULT_DATABASE_NAME = "world";
+    private final static int DEFAULT_INSERT_PIPELINE_DEPTH = 0;
+    private final static int DEFAULT_WARM_UP_ITERATIONS = 0;
 
     private List<Agent> agents;
     private TraceSampling traceSampling;
+    private RegionalExecutor regionalExecutor = new RegionalExecutor();
+    private Sessions sessions = new Sessions();
+    private SyntheticWorld syntheticWorld;
+    private SteadyState steadyState = new SteadyState();
     private int randomSeed = DEFAULT_RANDOM_SEED;
     private int iterations = DEFAULT_NUM_ITERATIONS;
+    private int warmUpIterations = DEFAULT_WARM_UP_ITERATIONS;
     private int scaleFactor = DEFAULT_SCALE_FACTOR;
     private String databaseName = DEFAULT_DATABASE_NAME;
+    private int insertPipelineDepth = DEFAULT_INSERT_PIPELINE_DEPTH;
+    private Neo4jExecution neo4jExecution = Neo4jExecution.BLOCKING;
+    private boolean cacheReferenceData = false;
+    private WorkloadMode workload = WorkloadMode.SEQUENTIAL;
+    private Replay replay = new Replay();
 
     public List<Agent> getAgents() {
         return agents;
@@ -49,6 +61,42 @@ public class Config {
         this.traceSampling = traceSampling;
     }
 
+    public RegionalExecutor getRegionalExecutor() {
+        return regionalExecutor;
+    }
+
+    public void setRegionalExecutor(RegionalExecutor regionalExecutor) {
+        this.regionalExecutor = regionalExecutor;
+    }
+
+    public Sessions getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(Sessions sessions) {
+        this.sessions = sessions;
+    }
+
+    /**
+     * @return The dimensions of a generated geography to use in place of the bundled one, or null to use the bundled
+     * geography
+     */
+    public SyntheticWorld getSyntheticWorld() {
+        return syntheticWorld;
+    }
+
+    public void setSyntheticWorld(SyntheticWorld syntheticWorld) {
+        this.syntheticWorld = syntheticWorld;
+    }
+
+    public SteadyState getSteadyState() {
+        return steadyState;
+    }
+
+    public void setSteadyState(SteadyState steadyState) {
+        this.steadyState = steadyState;
+    }
+
     public int getRandomSeed() {
         return randomSeed;
     }
@@ -65,6 +113,19 @@ public class Config {
         this.iterations = iterations;
     }
 
+    /**
+     * @return The number of iterations, out of the total number of iterations, that are run first and whose
+     * measurements are discarded
+     */
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    public void setWarmUpIterations(int warmUpIterations) {
+        if (warmUpIterations < 0) throw new IllegalArgumentException("`warmUpIterations` must be 0 or greater");
+        this.warmUpIterations = warmUpIterations;
+    }
+
     public int getScaleFactor() {
         return scaleFactor;
     }
@@ -81,9 +142,69 @@ public class Config {
         this.databaseName = databaseName;
     }
 
+    /**
+     * @return The number of Grakn inserts each transaction keeps in flight, or 0 to wait for each insert's answer before
+     * issuing the next
+     */
+    public int getInsertPipelineDepth() {
+        return insertPipelineDepth;
+    }
+
+    public void setInsertPipelineDepth(int insertPipelineDepth) {
+        if (insertPipelineDepth < 0) throw new IllegalArgumentException("`insertPipelineDepth` must be 0 or greater");
+        this.insertPipelineDepth = insertPipelineDepth;
+    }
+
+    /**
+     * @return Whether Neo4j queries block a thread each until they are answered, or are run on the driver's async
+     * sessions
+     */
+    public Neo4jExecution getNeo4jExecutionMode() {
+        return neo4jExecution;
+    }
+
+    public void setNeo4jExecution(String neo4jExecution) {
+        this.neo4jExecution = Neo4jExecution.getByName(neo4jExecution);
+    }
+
+    /**
+     * @return Whether agents hold the answers to reference lookups, such as the companies in a country, until an agent
+     * writes to that data, rather than querying them every time
+     */
+    public boolean isCacheReferenceData() {
+        return cacheReferenceData;
+    }
+
+    public void setCacheReferenceData(boolean cacheReferenceData) {
+        this.cacheReferenceData = cacheReferenceData;
+    }
+
+    /**
+     * @return Whether the agents of each iteration run one after another in the order configured, or all at once
+     */
+    public WorkloadMode getWorkloadMode() {
+        return workload;
+    }
+
+    public void setWorkload(String workload) {
+        this.workload = WorkloadMode.getByName(workload);
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public void setReplay(Replay replay) {
+        this.replay = replay;
+    }
+
     public static class TraceSampling {
         private SamplingFunction function;
         private Integer arg;
+        private OperationSampling operations = OperationSampling.ALL;
+        private double probability = 0.1;
+        private int perName = 10;
+        private double slowerThanMillis = 100;
 
         public Function<Integer, Boolean> getSamplingFunction() {
             return SamplingFunction.applyArg(function, arg);
@@ -100,11 +221,190 @@ public class Config {
         public void setArg(Integer arg) {
             this.arg = arg;
         }
+
+        /**
+         * @return Which actions, regional agents and queries of a traced iteration are traced
+         */
+        public OperationSampling getOperationSampling() {
+            return operations;
+        }
+
+        public void setOperations(String operations) {
+            this.operations = OperationSampling.getByName(operations);
+        }
+
+        /**
+         * @return The probability that an operation is traced when sampling by `probability` or `slow`
+         */
+        public double getProbability() {
+            return probability;
+        }
+
+        public void setProbability(double probability) {
+            if (probability < 0 || probability > 1) throw new IllegalArgumentException("`probability` must be between 0 and 1");
+            this.probability = probability;
+        }
+
+        /**
+         * @return The number of runs of each operation always traced each iteration when sampling by `reservoir`
+         */
+        public int getPerName() {
+            return perName;
+        }
+
+        public void setPerName(int perName) {
+            if (perName < 1) throw new IllegalArgumentException("`perName` must be 1 or greater");
+            this.perName = perName;
+        }
+
+        /**
+         * @return The latency above which the next run of an operation is always traced when sampling by `slow`
+         */
+        public double getSlowerThanMillis() {
+            return slowerThanMillis;
+        }
+
+        public void setSlowerThanMillis(double slowerThanMillis) {
+            if (slowerThanMillis < 0) throw new IllegalArgumentException("`slowerThanMillis` must be 0 or greater");
+            this.slowerThanMillis = slowerThanMillis;
+        }
+    }
+
+    public static class RegionalExecutor {
+        private final static int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+
+        private RegionalExecutorType type = RegionalExecutorType.CURRENT;
+        private int threads = DEFAULT_THREADS;
+
+        public RegionalExecutorType getExecutorType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = RegionalExecutorType.getByName(type);
+        }
+
+        /**
+         * @return The size of the thread pool used by the `bounded` executor
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            if (threads < 1) throw new IllegalArgumentException("`threads` must be 1 or greater");
+            this.threads = threads;
+        }
+    }
+
+    public static class Replay {
+        private ReplayTiming timing = ReplayTiming.FASTEST;
+
+        /**
+         * @return Whether replayed writes are issued as fast as possible, or at the times they were recorded
+         */
+        public ReplayTiming getReplayTiming() {
+            return timing;
+        }
+
+        public void setTiming(String timing) {
+            this.timing = ReplayTiming.getByName(timing);
+        }
+    }
+
+    public static class Sessions {
+        private SessionMode mode = SessionMode.PER_ITERATION;
+        private int preWarmedTransactions = 0;
+
+        public SessionMode getSessionMode() {
+            return mode;
+        }
+
+        public void setMode(String mode) {
+            this.mode = SessionMode.getByName(mode);
+        }
+
+        /**
+         * @return The number of read and of write transactions kept open ahead of time in each `pooled` session
+         */
+        public int getPreWarmedTransactions() {
+            return preWarmedTransactions;
+        }
+
+        public void setPreWarmedTransactions(int preWarmedTransactions) {
+            if (preWarmedTransactions < 0) throw new IllegalArgumentException("`preWarmedTransactions` must be 0 or greater");
+            this.preWarmedTransactions = preWarmedTransactions;
+        }
+    }
+
+    public static class SyntheticWorld {
+        private int continents = 1;
+        private int countriesPerContinent = 1;
+        private int citiesPerCountry = 1;
+
+        public int getContinents() {
+            return continents;
+        }
+
+        public void setContinents(int continents) {
+            if (continents < 1) throw new IllegalArgumentException("`continents` must be 1 or greater");
+            this.continents = continents;
+        }
+
+        public int getCountriesPerContinent() {
+            return countriesPerContinent;
+        }
+
+        public void setCountriesPerContinent(int countriesPerContinent) {
+            if (countriesPerContinent < 1) throw new IllegalArgumentException("`countriesPerContinent` must be 1 or greater");
+            this.countriesPerContinent = countriesPerContinent;
+        }
+
+        public int getCitiesPerCountry() {
+            return citiesPerCountry;
+        }
+
+        public void setCitiesPerCountry(int citiesPerCountry) {
+            if (citiesPerCountry < 1) throw new IllegalArgumentException("`citiesPerCountry` must be 1 or greater");
+            this.citiesPerCountry = citiesPerCountry;
+        }
+    }
+
+    public static class SteadyState {
+        private int window = 5;
+        private double maxCoefficientOfVariation = 0.1;
+
+        /**
+         * @return The number of consecutive measured iterations whose throughput and latency are compared
+         */
+        public int getWindow() {
+            return window;
+        }
+
+        public void setWindow(int window) {
+            if (window < 2) throw new IllegalArgumentException("`window` must be 2 or greater");
+            this.window = window;
+        }
+
+        /**
+         * @return The greatest ratio of standard deviation to mean, of both throughput and latency over the window, at
+         * which an iteration is steady
+         */
+        public double getMaxCoefficientOfVariation() {
+            return maxCoefficientOfVariation;
+        }
+
+        public void setMaxCoefficientOfVariation(double maxCoefficientOfVariation) {
+            if (maxCoefficientOfVariation <= 0) throw new IllegalArgumentException("`maxCoefficientOfVariation` must be greater than 0");
+            this.maxCoefficientOfVariation = maxCoefficientOfVariation;
+        }
     }
 
     public static class Agent {
         private AgentMode agentMode;
         private String name;
+        private double startRate;
+        private int weight = 1;
 
         public static Agent ConstructAgentConfig(String name, AgentMode agentMode) {
             // This method is needed because snakeyaml doesn't support declaring a constructor for this class
@@ -129,5 +429,29 @@ public class Config {
         public AgentMode getAgentMode() {
             return agentMode;
         }
+
+        /**
+         * @return The number of actions started per second in each run of the agent, or 0 to run closed-loop
+         */
+        public double getStartRate() {
+            return startRate;
+        }
+
+        public void setStartRate(double startRate) {
+            if (startRate < 0) throw new IllegalArgumentException("`startRate` must be 0 (closed-loop) or greater");
+            this.startRate = startRate;
+        }
+
+        /**
+         * @return The number of times the agent runs each iteration of a `mixed` workload, alongside the other agents
+         */
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            if (weight < 1) throw new IllegalArgumentException("`weight` must be 1 or greater");
+            this.weight = weight;
+        }
     }
 }
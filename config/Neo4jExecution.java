@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum Neo4jExecution {
+
+    BLOCKING("blocking"),
+    ASYNC("async");
+
+    private final String name;
+
+    Neo4jExecution(String name) {
+        this.name = name;
+    }
+
+    public static Neo4jExecution getByName(String name) {
+        for (Neo4jExecution execution : Neo4jExecution.values()) {
+            if (execution.getName().equals(name)) {
+                return execution;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Neo4j execution not recognised, possible executions are %s",
+                                                         Arrays.stream(Neo4jExecution.values()).map(Neo4jExecution::getName).collect(Collectors.toList())));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
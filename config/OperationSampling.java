@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum OperationSampling {
+
+    ALL("all"),
+    PROBABILITY("probability"),
+    RESERVOIR("reservoir"),
+    SLOW("slow");
+
+    private final String name;
+
+    OperationSampling(String name) {
+        this.name = name;
+    }
+
+    public static OperationSampling getByName(String name) {
+        for (OperationSampling sampling : OperationSampling.values()) {
+            if (sampling.getName().equals(name)) {
+                return sampling;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Operation sampling not recognised, possible samplings are %s",
+                                                         Arrays.stream(OperationSampling.values()).map(OperationSampling::getName).collect(Collectors.toList())));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
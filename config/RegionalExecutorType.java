@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum RegionalExecutorType {
+
+    CURRENT("current"),
+    BOUNDED("bounded"),
+    VIRTUAL("virtual");
+
+    private final String name;
+
+    RegionalExecutorType(String name) {
+        this.name = name;
+    }
+
+    public static RegionalExecutorType getByName(String name) {
+        for (RegionalExecutorType type : RegionalExecutorType.values()) {
+            if (type.getName().equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Regional executor type not recognised, possible types are %s",
+                                                         Arrays.stream(RegionalExecutorType.values()).map(RegionalExecutorType::getName).collect(Collectors.toList())));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum ReplayTiming {
+
+    FASTEST("fastest"),
+    RECORDED("recorded");
+
+    private final String name;
+
+    ReplayTiming(String name) {
+        this.name = name;
+    }
+
+    public static ReplayTiming getByName(String name) {
+        for (ReplayTiming timing : ReplayTiming.values()) {
+            if (timing.getName().equals(name)) {
+                return timing;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Replay timing not recognised, possible timings are %s",
+                                                         Arrays.stream(ReplayTiming.values()).map(ReplayTiming::getName).collect(Collectors.toList())));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum SessionMode {
+
+    PER_ITERATION("perIteration"),
+    POOLED("pooled");
+
+    private final String name;
+
+    SessionMode(String name) {
+        this.name = name;
+    }
+
+    public static SessionMode getByName(String name) {
+        for (SessionMode mode : SessionMode.values()) {
+            if (mode.getName().equals(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Session mode not recognised, possible modes are %s",
+                                                         Arrays.stream(SessionMode.values()).map(SessionMode::getName).collect(Collectors.toList())));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
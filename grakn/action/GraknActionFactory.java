@@ -73,13 +73,13 @@ import grakn.benchmark.grakn.action.write.GraknInsertRelocationAction;
 import grakn.benchmark.grakn.action.write.GraknInsertTransactionAction;
 import grakn.benchmark.grakn.action.write.GraknUpdateAgesOfPeopleInCityAction;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import grakn.common.collection.Pair;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 
-public class GraknActionFactory extends ActionFactory<GraknOperation, ConceptMap> {
+public class GraknActionFactory extends ActionFactory<GraknOperation, PendingAnswer> {
 
     @Override
     public GraknResidentsInCityAction residentsInCityAction(GraknOperation dbOperation, World.City city, int numResidents, LocalDateTime earliestDate) {
@@ -92,17 +92,17 @@ public class GraknActionFactory extends ActionFactory<GraknOperation, ConceptMap
     }
 
     @Override
-    public InsertEmploymentAction<GraknOperation, ConceptMap> insertEmploymentAction(GraknOperation dbOperation, World.City city, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
+    public InsertEmploymentAction<GraknOperation, PendingAnswer> insertEmploymentAction(GraknOperation dbOperation, World.City city, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
         return new GraknInsertEmploymentAction(dbOperation, city, employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours);
     }
 
     @Override
-    public InsertCompanyAction<GraknOperation, ConceptMap> insertCompanyAction(GraknOperation dbOperation, World.Country country, LocalDateTime today, int companyNumber, String companyName) {
+    public InsertCompanyAction<GraknOperation, PendingAnswer> insertCompanyAction(GraknOperation dbOperation, World.Country country, LocalDateTime today, int companyNumber, String companyName) {
         return new GraknInsertCompanyAction(dbOperation, country, today, companyNumber, companyName);
     }
 
     @Override
-    public InsertFriendshipAction<GraknOperation, ConceptMap> insertFriendshipAction(GraknOperation dbOperation, LocalDateTime today, String friend1Email, String friend2Email) {
+    public InsertFriendshipAction<GraknOperation, PendingAnswer> insertFriendshipAction(GraknOperation dbOperation, LocalDateTime today, String friend1Email, String friend2Email) {
         return new GraknInsertFriendshipAction(dbOperation, today, friend1Email, friend2Email);
     }
 
@@ -112,7 +112,7 @@ public class GraknActionFactory extends ActionFactory<GraknOperation, ConceptMap
     }
 
     @Override
-    public InsertMarriageAction<GraknOperation, ConceptMap> insertMarriageAction(GraknOperation dbOperation, World.City city, int marriageIdentifier, String wifeEmail, String husbandEmail) {
+    public InsertMarriageAction<GraknOperation, PendingAnswer> insertMarriageAction(GraknOperation dbOperation, World.City city, int marriageIdentifier, String wifeEmail, String husbandEmail) {
         return new GraknInsertMarriageAction(dbOperation, city, marriageIdentifier, wifeEmail, husbandEmail);
     }
 
@@ -127,17 +127,17 @@ public class GraknActionFactory extends ActionFactory<GraknOperation, ConceptMap
     }
 
     @Override
-    public InsertParentShipAction<GraknOperation, ConceptMap> insertParentshipAction(GraknOperation dbOperation, HashMap<SpouseType, String> marriage, String childEmail) {
+    public InsertParentShipAction<GraknOperation, PendingAnswer> insertParentshipAction(GraknOperation dbOperation, HashMap<SpouseType, String> marriage, String childEmail) {
         return new GraknInsertParentShipAction(dbOperation, marriage, childEmail);
     }
 
     @Override
-    public InsertPersonAction<GraknOperation, ConceptMap> insertPersonAction(GraknOperation dbOperation, World.City city, LocalDateTime today, String email, String gender, String forename, String surname) {
+    public InsertPersonAction<GraknOperation, PendingAnswer> insertPersonAction(GraknOperation dbOperation, World.City city, LocalDateTime today, String email, String gender, String forename, String surname) {
         return new GraknInsertPersonAction(dbOperation, city, today, email, gender, forename, surname);
     }
 
     @Override
-    public InsertProductAction<GraknOperation, ConceptMap> insertProductAction(GraknOperation dbOperation, World.Continent continent, Long barcode, String productName, String productDescription) {
+    public InsertProductAction<GraknOperation, PendingAnswer> insertProductAction(GraknOperation dbOperation, World.Continent continent, Long barcode, String productName, String productDescription) {
         return new GraknInsertProductAction(dbOperation, continent, barcode, productName, productDescription);
     }
 
@@ -147,7 +147,7 @@ public class GraknActionFactory extends ActionFactory<GraknOperation, ConceptMap
     }
 
     @Override
-    public InsertRelocationAction<GraknOperation, ConceptMap> insertRelocationAction(GraknOperation dbOperation, World.City city, LocalDateTime today, String residentEmail, String relocationCityName) {
+    public InsertRelocationAction<GraknOperation, PendingAnswer> insertRelocationAction(GraknOperation dbOperation, World.City city, LocalDateTime today, String residentEmail, String relocationCityName) {
         return new GraknInsertRelocationAction(dbOperation, city, today, residentEmail, relocationCityName);
     }
 
@@ -157,7 +157,7 @@ public class GraknActionFactory extends ActionFactory<GraknOperation, ConceptMap
     }
 
     @Override
-    public InsertTransactionAction<GraknOperation, ConceptMap> insertTransactionAction(GraknOperation dbOperation, World.Country country, Pair<Long, Long> transaction, Long sellerCompanyNumber, double value, int productQuantity, boolean isTaxable) {
+    public InsertTransactionAction<GraknOperation, PendingAnswer> insertTransactionAction(GraknOperation dbOperation, World.Country country, Pair<Long, Long> transaction, Long sellerCompanyNumber, double value, int productQuantity, boolean isTaxable) {
         return new GraknInsertTransactionAction(dbOperation, country, transaction, sellerCompanyNumber, value, productQuantity, isTaxable);
     }
 
@@ -60,11 +60,11 @@ public class GraknUnmarriedPeopleInCityAction extends UnmarriedPeopleInCityActio
         } else {
             throw new IllegalArgumentException("Gender must be male or female");
         }
-        GraqlMatch query = query(marriageRole, gender, dobOfAdults, city.name());
+        GraqlMatch.Filtered query = query(marriageRole, gender, dobOfAdults, city.name());
         return dbOperation.sortedExecute(query, EMAIL, null);
     }
 
-    public static GraqlMatch query(String marriageRole, String gender, LocalDateTime dobOfAdults, String cityName) {
+    public static GraqlMatch.Filtered query(String marriageRole, String gender, LocalDateTime dobOfAdults, String cityName) {
         UnboundVariable personVar = var(PERSON);
         UnboundVariable cityVar = var(CITY);
         return match(
@@ -17,11 +17,10 @@
 
 package grakn.benchmark.grakn.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertCompanyAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.query.GraqlInsert;
 
@@ -39,15 +38,15 @@ import static grakn.benchmark.grakn.action.Model.INCORPORATION_INCORPORATING;
 import static grakn.benchmark.grakn.action.Model.LOCATION_NAME;
 import static graql.lang.Graql.var;
 
-public class GraknInsertCompanyAction extends InsertCompanyAction<GraknOperation, ConceptMap> {
+public class GraknInsertCompanyAction extends InsertCompanyAction<GraknOperation, PendingAnswer> {
 
     public GraknInsertCompanyAction(GraknOperation dbOperation, World.Country country, LocalDateTime today, int companyNumber, String companyName) {
         super(dbOperation, country, today, companyNumber, companyName);
     }
 
     @Override
-    public ConceptMap run() {
-        return Action.singleResult(dbOperation.execute(query(country.name(), today, companyNumber, companyName)));
+    public PendingAnswer run() {
+        return dbOperation.executePipelined(query(country.name(), today, companyNumber, companyName));
     }
 
     public static GraqlInsert query(String countryName, LocalDateTime today, int companyNumber, String companyName) {
@@ -66,13 +65,13 @@ public class GraknInsertCompanyAction extends InsertCompanyAction<GraknOperation
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertCompanyActionField.COMPANY_NAME, dbOperation.getOnlyAttributeOfThing(answer, COMPANY, COMPANY_NAME));
-                put(InsertCompanyActionField.COMPANY_NUMBER, dbOperation.getOnlyAttributeOfThing(answer, COMPANY, COMPANY_NUMBER));
-                put(InsertCompanyActionField.COUNTRY, dbOperation.getOnlyAttributeOfThing(answer, COUNTRY, LOCATION_NAME));
-                put(InsertCompanyActionField.DATE_OF_INCORPORATION, dbOperation.getOnlyAttributeOfThing(answer, INCORPORATION, DATE_OF_INCORPORATION));
+                put(InsertCompanyActionField.COMPANY_NAME, dbOperation.getOnlyAttributeOfThing(answer.get(), COMPANY, COMPANY_NAME));
+                put(InsertCompanyActionField.COMPANY_NUMBER, dbOperation.getOnlyAttributeOfThing(answer.get(), COMPANY, COMPANY_NUMBER));
+                put(InsertCompanyActionField.COUNTRY, dbOperation.getOnlyAttributeOfThing(answer.get(), COUNTRY, LOCATION_NAME));
+                put(InsertCompanyActionField.DATE_OF_INCORPORATION, dbOperation.getOnlyAttributeOfThing(answer.get(), INCORPORATION, DATE_OF_INCORPORATION));
             }
         };
     }
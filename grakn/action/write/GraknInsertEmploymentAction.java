@@ -20,7 +20,7 @@ package grakn.benchmark.grakn.action.write;
 import grakn.benchmark.common.action.write.InsertEmploymentAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.pattern.variable.UnboundVariable;
 import graql.lang.query.GraqlInsert;
@@ -53,14 +53,14 @@ import static grakn.benchmark.grakn.action.Model.WAGE;
 import static grakn.benchmark.grakn.action.Model.WAGE_VALUE;
 import static graql.lang.Graql.match;
 
-public class GraknInsertEmploymentAction extends InsertEmploymentAction<GraknOperation, ConceptMap> {
+public class GraknInsertEmploymentAction extends InsertEmploymentAction<GraknOperation, PendingAnswer> {
     public GraknInsertEmploymentAction(GraknOperation dbOperation, World.City worldCity, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
         super(dbOperation, worldCity, employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours);
     }
 
     @Override
-    public ConceptMap run() {
-        return singleResult(dbOperation.execute(query(worldCity.name(), employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours)));
+    public PendingAnswer run() {
+        return dbOperation.executePipelined(query(worldCity.name(), employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours));
     }
 
     public static GraqlInsert query(String worldCityName, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
@@ -116,16 +116,16 @@ public class GraknInsertEmploymentAction extends InsertEmploymentAction<GraknOpe
     }
 
     @Override
-    public HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    public HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertEmploymentActionField.CITY_NAME, dbOperation.getOnlyAttributeOfThing(answer, CITY, LOCATION_NAME));
-            put(InsertEmploymentActionField.PERSON_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, PERSON, EMAIL));
-            put(InsertEmploymentActionField.COMPANY_NUMBER, dbOperation.getOnlyAttributeOfThing(answer, COMPANY, COMPANY_NUMBER));
-            put(InsertEmploymentActionField.START_DATE, dbOperation.getOnlyAttributeOfThing(answer, EMPLOYMENT, START_DATE));
-            put(InsertEmploymentActionField.WAGE, dbOperation.getOnlyAttributeOfThing(answer, WAGE, WAGE_VALUE));
-            put(InsertEmploymentActionField.CURRENCY, dbOperation.getOnlyAttributeOfThing(answer, WAGE, CURRENCY));
-            put(InsertEmploymentActionField.CONTRACT_CONTENT, dbOperation.getOnlyAttributeOfThing(answer, CONTRACT, CONTRACT_CONTENT));
-            put(InsertEmploymentActionField.CONTRACTED_HOURS, dbOperation.getOnlyAttributeOfThing(answer, CONTRACT, CONTRACTED_HOURS));
+            put(InsertEmploymentActionField.CITY_NAME, dbOperation.getOnlyAttributeOfThing(answer.get(), CITY, LOCATION_NAME));
+            put(InsertEmploymentActionField.PERSON_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, EMAIL));
+            put(InsertEmploymentActionField.COMPANY_NUMBER, dbOperation.getOnlyAttributeOfThing(answer.get(), COMPANY, COMPANY_NUMBER));
+            put(InsertEmploymentActionField.START_DATE, dbOperation.getOnlyAttributeOfThing(answer.get(), EMPLOYMENT, START_DATE));
+            put(InsertEmploymentActionField.WAGE, dbOperation.getOnlyAttributeOfThing(answer.get(), WAGE, WAGE_VALUE));
+            put(InsertEmploymentActionField.CURRENCY, dbOperation.getOnlyAttributeOfThing(answer.get(), WAGE, CURRENCY));
+            put(InsertEmploymentActionField.CONTRACT_CONTENT, dbOperation.getOnlyAttributeOfThing(answer.get(), CONTRACT, CONTRACT_CONTENT));
+            put(InsertEmploymentActionField.CONTRACTED_HOURS, dbOperation.getOnlyAttributeOfThing(answer.get(), CONTRACT, CONTRACTED_HOURS));
         }};
     }
 }
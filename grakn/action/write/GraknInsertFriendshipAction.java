@@ -20,7 +20,7 @@ package grakn.benchmark.grakn.action.write;
 import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertFriendshipAction;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.pattern.variable.ThingVariable;
 import graql.lang.pattern.variable.UnboundVariable;
@@ -38,15 +38,15 @@ import static graql.lang.Graql.match;
 import static graql.lang.Graql.not;
 import static graql.lang.Graql.var;
 
-public class GraknInsertFriendshipAction extends InsertFriendshipAction<GraknOperation, ConceptMap> {
+public class GraknInsertFriendshipAction extends InsertFriendshipAction<GraknOperation, PendingAnswer> {
 
     public GraknInsertFriendshipAction(GraknOperation dbOperation, LocalDateTime today, String friend1Email, String friend2Email) {
         super(dbOperation, today, friend1Email, friend2Email);
     }
 
     @Override
-    public ConceptMap run() {
-        return Action.optionalSingleResult(dbOperation.execute(query(today, friend1Email, friend2Email)));
+    public PendingAnswer run() {
+        return PendingAnswer.of(Action.optionalSingleResult(dbOperation.execute(query(today, friend1Email, friend2Email))));
     }
 
     public static GraqlInsert query(LocalDateTime today, String friend1Email, String friend2Email) {
@@ -79,12 +79,12 @@ public class GraknInsertFriendshipAction extends InsertFriendshipAction<GraknOpe
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertFriendshipActionField.FRIEND1_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "p1", EMAIL));
-                put(InsertFriendshipActionField.FRIEND2_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "p2", EMAIL));
-                put(InsertFriendshipActionField.START_DATE, dbOperation.getOnlyAttributeOfThing(answer, FRIENDSHIP, START_DATE));
+                put(InsertFriendshipActionField.FRIEND1_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "p1", EMAIL));
+                put(InsertFriendshipActionField.FRIEND2_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "p2", EMAIL));
+                put(InsertFriendshipActionField.START_DATE, dbOperation.getOnlyAttributeOfThing(answer.get(), FRIENDSHIP, START_DATE));
             }
         };
 
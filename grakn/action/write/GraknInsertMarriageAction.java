@@ -17,11 +17,10 @@
 
 package grakn.benchmark.grakn.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertMarriageAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.pattern.variable.ThingVariable;
 import graql.lang.pattern.variable.UnboundVariable;
@@ -43,16 +42,16 @@ import static grakn.benchmark.grakn.action.Model.PERSON;
 import static graql.lang.Graql.match;
 import static graql.lang.Graql.var;
 
-public class GraknInsertMarriageAction extends InsertMarriageAction<GraknOperation, ConceptMap> {
+public class GraknInsertMarriageAction extends InsertMarriageAction<GraknOperation, PendingAnswer> {
 
     public GraknInsertMarriageAction(GraknOperation dbOperation, World.City city, int marriageIdentifier, String wifeEmail, String husbandEmail) {
         super(dbOperation, city, marriageIdentifier, wifeEmail, husbandEmail);
     }
 
     @Override
-    public ConceptMap run() {
+    public PendingAnswer run() {
         GraqlInsert marriageQuery = query(worldCity.name(), marriageIdentifier, wifeEmail, husbandEmail);
-        return Action.singleResult(dbOperation.execute(marriageQuery));
+        return dbOperation.executePipelined(marriageQuery);
     }
 
     private GraqlInsert query(String worldCityName, int marriageIdentifier, String wifeEmail, String husbandEmail) {
@@ -81,12 +80,12 @@ public class GraknInsertMarriageAction extends InsertMarriageAction<GraknOperati
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertMarriageActionField.MARRIAGE_IDENTIFIER, dbOperation.getOnlyAttributeOfThing(answer, "marriage", MARRIAGE_ID));
-            put(InsertMarriageActionField.WIFE_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "wife", EMAIL));
-            put(InsertMarriageActionField.HUSBAND_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "husband", EMAIL));
-            put(InsertMarriageActionField.CITY_NAME, dbOperation.getOnlyAttributeOfThing(answer, CITY, LOCATION_NAME));
+            put(InsertMarriageActionField.MARRIAGE_IDENTIFIER, dbOperation.getOnlyAttributeOfThing(answer.get(), "marriage", MARRIAGE_ID));
+            put(InsertMarriageActionField.WIFE_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "wife", EMAIL));
+            put(InsertMarriageActionField.HUSBAND_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "husband", EMAIL));
+            put(InsertMarriageActionField.CITY_NAME, dbOperation.getOnlyAttributeOfThing(answer.get(), CITY, LOCATION_NAME));
         }};
     }
 }
@@ -17,11 +17,10 @@
 
 package grakn.benchmark.grakn.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.SpouseType;
 import grakn.benchmark.common.action.write.InsertParentShipAction;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.pattern.variable.UnboundVariable;
 import graql.lang.query.GraqlInsert;
@@ -36,17 +35,17 @@ import static grakn.benchmark.grakn.action.Model.PERSON;
 import static graql.lang.Graql.match;
 import static graql.lang.Graql.var;
 
-public class GraknInsertParentShipAction extends InsertParentShipAction<GraknOperation, ConceptMap> {
+public class GraknInsertParentShipAction extends InsertParentShipAction<GraknOperation, PendingAnswer> {
     public GraknInsertParentShipAction(GraknOperation dbOperation, HashMap<SpouseType, String> marriage, String childEmail) {
         super(dbOperation, marriage, childEmail);
     }
 
     @Override
-    public ConceptMap run() {
+    public PendingAnswer run() {
         // Parentship where parents have multiple children is represented as multiple ternary relations, each with
         // both parents and one child. They had these children at the same time, and will not have any subsequently.
         GraqlInsert parentshipQuery = query(marriage, childEmail);
-        return Action.singleResult(dbOperation.execute(parentshipQuery));
+        return dbOperation.executePipelined(parentshipQuery);
 
     }
 
@@ -70,12 +69,12 @@ public class GraknInsertParentShipAction extends InsertParentShipAction<GraknOpe
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertParentShipActionField.WIFE_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "mother", EMAIL));
-                put(InsertParentShipActionField.HUSBAND_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "father", EMAIL));
-                put(InsertParentShipActionField.CHILD_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, "child", EMAIL));
+                put(InsertParentShipActionField.WIFE_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "mother", EMAIL));
+                put(InsertParentShipActionField.HUSBAND_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "father", EMAIL));
+                put(InsertParentShipActionField.CHILD_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), "child", EMAIL));
             }
         };
     }
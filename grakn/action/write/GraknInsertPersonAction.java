@@ -17,11 +17,10 @@
 
 package grakn.benchmark.grakn.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertPersonAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.pattern.variable.UnboundVariable;
 import graql.lang.query.GraqlInsert;
@@ -42,15 +41,15 @@ import static grakn.benchmark.grakn.action.Model.PERSON;
 import static grakn.benchmark.grakn.action.Model.SURNAME;
 import static graql.lang.Graql.var;
 
-public class GraknInsertPersonAction extends InsertPersonAction<GraknOperation, ConceptMap> {
+public class GraknInsertPersonAction extends InsertPersonAction<GraknOperation, PendingAnswer> {
     public GraknInsertPersonAction(GraknOperation dbOperation, World.City city, LocalDateTime today, String email, String gender, String forename, String surname) {
         super(dbOperation, city, today, email, gender, forename, surname);
     }
 
     @Override
-    public ConceptMap run() {
+    public PendingAnswer run() {
         GraqlInsert query = query(worldCity.name(), email, gender, forename, surname, today);
-        return Action.singleResult(dbOperation.execute(query));
+        return dbOperation.executePipelined(query);
     }
 
     public static GraqlInsert query(String worldCityName, String email, String gender, String forename, String surname, LocalDateTime today) {
@@ -75,14 +74,14 @@ public class GraknInsertPersonAction extends InsertPersonAction<GraknOperation,
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertPersonActionField.EMAIL, dbOperation.getOnlyAttributeOfThing(answer, PERSON, EMAIL));
-                put(InsertPersonActionField.DATE_OF_BIRTH, dbOperation.getOnlyAttributeOfThing(answer, PERSON, DATE_OF_BIRTH));
-                put(InsertPersonActionField.GENDER, dbOperation.getOnlyAttributeOfThing(answer, PERSON, GENDER));
-                put(InsertPersonActionField.FORENAME, dbOperation.getOnlyAttributeOfThing(answer, PERSON, FORENAME));
-                put(InsertPersonActionField.SURNAME, dbOperation.getOnlyAttributeOfThing(answer, PERSON, SURNAME));
+                put(InsertPersonActionField.EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, EMAIL));
+                put(InsertPersonActionField.DATE_OF_BIRTH, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, DATE_OF_BIRTH));
+                put(InsertPersonActionField.GENDER, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, GENDER));
+                put(InsertPersonActionField.FORENAME, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, FORENAME));
+                put(InsertPersonActionField.SURNAME, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, SURNAME));
             }
         };
     }
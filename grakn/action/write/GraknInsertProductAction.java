@@ -20,7 +20,7 @@ package grakn.benchmark.grakn.action.write;
 import grakn.benchmark.common.action.write.InsertProductAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.query.GraqlInsert;
 
@@ -38,15 +38,15 @@ import static grakn.benchmark.grakn.action.Model.PRODUCT_NAME;
 import static graql.lang.Graql.match;
 import static graql.lang.Graql.var;
 
-public class GraknInsertProductAction extends InsertProductAction<GraknOperation, ConceptMap> {
+public class GraknInsertProductAction extends InsertProductAction<GraknOperation, PendingAnswer> {
     public GraknInsertProductAction(GraknOperation dbOperation, World.Continent continent, Long barcode, String productName, String productDescription) {
         super(dbOperation, continent, barcode, productName, productDescription);
     }
 
     @Override
-    public ConceptMap run() {
+    public PendingAnswer run() {
         GraqlInsert insertProductQuery = query(continent.name(), barcode, productName, productDescription);
-        return singleResult(dbOperation.execute(insertProductQuery));
+        return dbOperation.executePipelined(insertProductQuery);
     }
 
     public static GraqlInsert query(String continentName, Long barcode, String productName, String productDescription) {
@@ -68,12 +68,12 @@ public class GraknInsertProductAction extends InsertProductAction<GraknOperation
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertProductActionField.PRODUCT_BARCODE, dbOperation.getOnlyAttributeOfThing(answer, PRODUCT, PRODUCT_BARCODE));
-            put(InsertProductActionField.PRODUCT_NAME, dbOperation.getOnlyAttributeOfThing(answer, PRODUCT, PRODUCT_NAME));
-            put(InsertProductActionField.PRODUCT_DESCRIPTION, dbOperation.getOnlyAttributeOfThing(answer, PRODUCT, PRODUCT_DESCRIPTION));
-            put(InsertProductActionField.CONTINENT, dbOperation.getOnlyAttributeOfThing(answer, CONTINENT, LOCATION_NAME));
+            put(InsertProductActionField.PRODUCT_BARCODE, dbOperation.getOnlyAttributeOfThing(answer.get(), PRODUCT, PRODUCT_BARCODE));
+            put(InsertProductActionField.PRODUCT_NAME, dbOperation.getOnlyAttributeOfThing(answer.get(), PRODUCT, PRODUCT_NAME));
+            put(InsertProductActionField.PRODUCT_DESCRIPTION, dbOperation.getOnlyAttributeOfThing(answer.get(), PRODUCT, PRODUCT_DESCRIPTION));
+            put(InsertProductActionField.CONTINENT, dbOperation.getOnlyAttributeOfThing(answer.get(), CONTINENT, LOCATION_NAME));
         }};
     }
 }
@@ -17,11 +17,10 @@
 
 package grakn.benchmark.grakn.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertRelocationAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import graql.lang.Graql;
 import graql.lang.query.GraqlInsert;
 
@@ -40,15 +39,15 @@ import static grakn.benchmark.grakn.action.Model.RELOCATION_RELOCATED_PERSON;
 import static graql.lang.Graql.match;
 import static graql.lang.Graql.var;
 
-public class GraknInsertRelocationAction extends InsertRelocationAction<GraknOperation, ConceptMap> {
+public class GraknInsertRelocationAction extends InsertRelocationAction<GraknOperation, PendingAnswer> {
     public GraknInsertRelocationAction(GraknOperation dbOperation, World.City city, LocalDateTime today, String relocateeEmail, String relocationCityName) {
         super(dbOperation, city, today, relocateeEmail, relocationCityName);
     }
 
     @Override
-    public ConceptMap run() {
+    public PendingAnswer run() {
         GraqlInsert relocatePersonQuery = query(relocateeEmail, relocationCityName, city.name(), today);
-        return Action.singleResult(dbOperation.execute(relocatePersonQuery));
+        return dbOperation.executePipelined(relocatePersonQuery);
     }
 
     public static GraqlInsert query(String relocateeEmail, String relocationCityName, String cityName, LocalDateTime today) {
@@ -67,11 +66,11 @@ public class GraknInsertRelocationAction extends InsertRelocationAction<GraknOpe
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertRelocationActionField.PERSON_EMAIL, dbOperation.getOnlyAttributeOfThing(answer, PERSON, EMAIL));
-            put(InsertRelocationActionField.NEW_CITY_NAME, dbOperation.getOnlyAttributeOfThing(answer, "new-city", LOCATION_NAME));
-            put(InsertRelocationActionField.RELOCATION_DATE, dbOperation.getOnlyAttributeOfThing(answer, RELOCATION, RELOCATION_DATE));
+            put(InsertRelocationActionField.PERSON_EMAIL, dbOperation.getOnlyAttributeOfThing(answer.get(), PERSON, EMAIL));
+            put(InsertRelocationActionField.NEW_CITY_NAME, dbOperation.getOnlyAttributeOfThing(answer.get(), "new-city", LOCATION_NAME));
+            put(InsertRelocationActionField.RELOCATION_DATE, dbOperation.getOnlyAttributeOfThing(answer.get(), RELOCATION, RELOCATION_DATE));
         }};
     }
 }
@@ -20,7 +20,7 @@ package grakn.benchmark.grakn.action.write;
 import grakn.benchmark.common.action.write.InsertTransactionAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.grakn.driver.GraknOperation;
-import grakn.client.concept.answer.ConceptMap;
+import grakn.benchmark.grakn.driver.PendingAnswer;
 import grakn.common.collection.Pair;
 import graql.lang.Graql;
 import graql.lang.query.GraqlInsert;
@@ -46,16 +46,16 @@ import static grakn.benchmark.grakn.action.Model.VALUE;
 import static graql.lang.Graql.match;
 import static graql.lang.Graql.var;
 
-public class GraknInsertTransactionAction extends InsertTransactionAction<GraknOperation, ConceptMap> {
+public class GraknInsertTransactionAction extends InsertTransactionAction<GraknOperation, PendingAnswer> {
 
     public GraknInsertTransactionAction(GraknOperation dbOperation, World.Country country, Pair<Long, Long> transaction, Long sellerCompanyNumber, double value, int productQuantity, boolean isTaxable) {
         super(dbOperation, country, transaction, sellerCompanyNumber, value, productQuantity, isTaxable);
     }
 
     @Override
-    public ConceptMap run() {
+    public PendingAnswer run() {
         GraqlInsert insertTransactionQuery = query(transaction, sellerCompanyNumber, country.name(), value, productQuantity, isTaxable);
-        return singleResult(dbOperation.execute(insertTransactionQuery));
+        return dbOperation.executePipelined(insertTransactionQuery);
     }
 
     public static GraqlInsert query(Pair<Long, Long> transaction, Long sellerCompanyNumber, String countryName, double value, int productQuantity, boolean isTaxable) {
@@ -87,15 +87,15 @@ public class GraknInsertTransactionAction extends InsertTransactionAction<GraknO
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(ConceptMap answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingAnswer answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertTransactionActionField.SELLER, dbOperation.getOnlyAttributeOfThing(answer, "c-seller", COMPANY_NUMBER));
-            put(InsertTransactionActionField.BUYER, dbOperation.getOnlyAttributeOfThing(answer, "c-buyer", COMPANY_NUMBER));
-            put(InsertTransactionActionField.MERCHANDISE, dbOperation.getOnlyAttributeOfThing(answer, PRODUCT, PRODUCT_BARCODE));
-            put(InsertTransactionActionField.VALUE, dbOperation.getOnlyAttributeOfThing(answer, TRANSACTION, VALUE));
-            put(InsertTransactionActionField.PRODUCT_QUANTITY, dbOperation.getOnlyAttributeOfThing(answer, TRANSACTION, PRODUCT_QUANTITY));
-            put(InsertTransactionActionField.IS_TAXABLE, dbOperation.getOnlyAttributeOfThing(answer, TRANSACTION, IS_TAXABLE));
-            put(InsertTransactionActionField.COUNTRY, dbOperation.getOnlyAttributeOfThing(answer, COUNTRY, LOCATION_NAME));
+            put(InsertTransactionActionField.SELLER, dbOperation.getOnlyAttributeOfThing(answer.get(), "c-seller", COMPANY_NUMBER));
+            put(InsertTransactionActionField.BUYER, dbOperation.getOnlyAttributeOfThing(answer.get(), "c-buyer", COMPANY_NUMBER));
+            put(InsertTransactionActionField.MERCHANDISE, dbOperation.getOnlyAttributeOfThing(answer.get(), PRODUCT, PRODUCT_BARCODE));
+            put(InsertTransactionActionField.VALUE, dbOperation.getOnlyAttributeOfThing(answer.get(), TRANSACTION, VALUE));
+            put(InsertTransactionActionField.PRODUCT_QUANTITY, dbOperation.getOnlyAttributeOfThing(answer.get(), TRANSACTION, PRODUCT_QUANTITY));
+            put(InsertTransactionActionField.IS_TAXABLE, dbOperation.getOnlyAttributeOfThing(answer.get(), TRANSACTION, IS_TAXABLE));
+            put(InsertTransactionActionField.COUNTRY, dbOperation.getOnlyAttributeOfThing(answer.get(), COUNTRY, LOCATION_NAME));
         }};
     }
 }
@@ -18,7 +18,9 @@
 package grakn.benchmark.grakn.driver;
 
 import grabl.tracing.client.GrablTracingThreadStatic;
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.driver.TransactionPool;
 import grakn.benchmark.common.driver.TransactionalDbDriver;
 import grakn.benchmark.common.world.Region;
 import grakn.client.GraknClient;
@@ -28,9 +30,11 @@ import org.slf4j.Logger;
 
 import java.text.DecimalFormat;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static grabl.tracing.client.GrablTracingThreadStatic.traceOnThread;
 import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.OPEN_SESSION;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.OPEN_TRANSACTION;
 import static graql.lang.Graql.match;
 import static graql.lang.Graql.var;
 
@@ -38,19 +42,34 @@ public class GraknDriver extends TransactionalDbDriver<GraknClient.Transaction,
 
     private final GraknClient client;
     private final String database;
+    private final int insertPipelineDepth;
     private final ConcurrentHashMap<String, GraknClient.Session> sessionMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TransactionPool<GraknClient.Transaction>> transactionPoolMap = new ConcurrentHashMap<>();
+    private final AtomicLong commits = new AtomicLong();
 
     public static GraknDriver core(String hostUri, String database) {
-        return new GraknDriver(GraknClient.core(hostUri), database);
+        return core(hostUri, database, 0);
+    }
+
+    /**
+     * @param insertPipelineDepth The number of inserts each transaction keeps in flight, or 0 to wait for each one
+     */
+    public static GraknDriver core(String hostUri, String database, int insertPipelineDepth) {
+        return new GraknDriver(GraknClient.core(hostUri), database, insertPipelineDepth);
     }
 
     public static GraknDriver cluster(String hostUri, String database) {
-        return new GraknDriver(GraknClient.cluster(hostUri), database);
+        return cluster(hostUri, database, 0);
     }
 
-    private GraknDriver(GraknClient client, String database) {
+    public static GraknDriver cluster(String hostUri, String database, int insertPipelineDepth) {
+        return new GraknDriver(GraknClient.cluster(hostUri), database, insertPipelineDepth);
+    }
+
+    private GraknDriver(GraknClient client, String database, int insertPipelineDepth) {
         this.client = client;
         this.database = database;
+        this.insertPipelineDepth = insertPipelineDepth;
     }
 
     public void createDatabase() {
@@ -76,8 +95,30 @@ public class GraknDriver extends TransactionalDbDriver<GraknClient.Transaction,
         });
     }
 
+    /**
+     * The transactions of a data session, of which some may have been opened ahead of time.
+     */
+    public TransactionPool<GraknClient.Transaction> transactionPool(String sessionKey) {
+        return transactionPoolMap.computeIfAbsent(sessionKey, k -> {
+            GraknClient.Session session = session(sessionKey);
+            return new TransactionPool<>(accessMode -> {
+                try (GrablTracingThreadStatic.ThreadTrace ignored = traceOnThread(OPEN_TRANSACTION.getName())) {
+                    return session.transaction(transactionType(accessMode));
+                }
+            }, GraknClient.Transaction::close, preWarmedTransactions(), commits);
+        });
+    }
+
+    private static GraknClient.Transaction.Type transactionType(AccessMode accessMode) {
+        return accessMode == AccessMode.READ ? GraknClient.Transaction.Type.READ : GraknClient.Transaction.Type.WRITE;
+    }
+
     @Override
     public void closeSessions() {
+        for (TransactionPool<GraknClient.Transaction> transactionPool : transactionPoolMap.values()) {
+            transactionPool.close();
+        }
+        transactionPoolMap.clear();
         for (GraknClient.Session session : sessionMap.values()) {
             session.close();
         }
@@ -116,7 +157,7 @@ public class GraknDriver extends TransactionalDbDriver<GraknClient.Transaction,
     }
 
     @Override
-    public DbOperationFactory<GraknOperation> getDbOperationFactory(Region region, Logger logger) {
-        return new GraknOperationFactory(session(region.topLevelName()), logger);
+    public DbOperationFactory<GraknOperation> getDbOperationFactory(String agentName, Region region, Logger logger) {
+        return new GraknOperationFactory(transactionPool(region.topLevelName()), logger, insertPipelineDepth);
     }
 }
@@ -17,7 +17,9 @@
 
 package grakn.benchmark.grakn.driver;
 
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.LogWrapper;
+import grakn.benchmark.common.driver.TransactionPool;
 import grakn.benchmark.common.driver.TransactionalDbOperation;
 import grakn.client.GraknClient;
 import grakn.client.concept.answer.ConceptMap;
@@ -27,35 +29,75 @@ import graql.lang.query.GraqlInsert;
 import graql.lang.query.GraqlMatch;
 import graql.lang.query.GraqlUpdate;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.CLOSE_TRANSACTION;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.COMMIT_TRANSACTION;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.DRAIN;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.EXECUTE;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.EXECUTE_ASYNC;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.OPEN_TRANSACTION;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.SORTED_EXECUTE;
 
 public class GraknOperation extends TransactionalDbOperation {
 
-    private final GraknClient.Transaction transaction;
+    private final TransactionPool<GraknClient.Transaction> transactionPool;
+    private GraknClient.Transaction transaction;
     private final LogWrapper log;
+    private final int insertPipelineDepth;
+    private final Deque<PendingAnswer> insertsInFlight = new ArrayDeque<>();
 
     boolean closed = false;
 
-    public GraknOperation(GraknClient.Session session, LogWrapper log, String tracker, long iteration, boolean trace) {
-        super(tracker, iteration, trace);
-        this.transaction = session.transaction(GraknClient.Transaction.Type.WRITE);
+    public GraknOperation(TransactionPool<GraknClient.Transaction> transactionPool, AccessMode accessMode, LogWrapper log, String tracker, long iteration, boolean trace, int insertPipelineDepth) {
+        super(tracker, iteration, trace, accessMode);
+        this.transactionPool = transactionPool;
         this.log = log;
+        this.insertPipelineDepth = insertPipelineDepth;
+        if (accessMode != null) open(accessMode);
+    }
+
+    @Override
+    protected void open(AccessMode accessMode) {
+        transaction = timed(OPEN_TRANSACTION, () -> transactionPool.take(accessMode));
+        transactionTaken();
+    }
+
+    /**
+     * @return The operation's transaction, opening a write transaction if no action has run to decide its access mode
+     */
+    private GraknClient.Transaction transaction() {
+        if (transaction == null) begin(AccessMode.WRITE);
+        return transaction;
     }
 
     @Override
     public void close() {
-        transaction.close();
+        insertsInFlight.clear();
         closed = true;
+        if (transaction == null) return;
+        try {
+            timedRun(CLOSE_TRANSACTION, transaction::close);
+        } finally {
+            transaction = null;
+            transactionReleased();
+        }
+        transactionPool.refill(accessMode());
     }
 
     @Override
-    public void save() {
+    protected void commit() {
         throwIfClosed();
-        transaction.commit();
+        drainInserts();
+        if (transaction != null) {
+            timedRun(COMMIT_TRANSACTION, transaction::commit);
+            if (accessMode() == AccessMode.WRITE) transactionPool.committed();
+        }
         closed = true;
     }
 
@@ -65,60 +107,120 @@ public class GraknOperation extends TransactionalDbOperation {
         }
     }
 
-    public <T> List<T> sortedExecute(GraqlMatch query, String attributeName, Integer limit) {
+    /**
+     * Run a query for the values of one attribute variable, sorted and limited by the server rather than the client,
+     * so that only the answers kept are sent back. Answers are read from the stream as they arrive.
+     */
+    public <T> List<T> sortedExecute(GraqlMatch.Unfiltered query, String attributeName, Integer limit) {
+        GraqlMatch.Sorted sorted = query.sort(attributeName);
+        return attributeValues(limit == null ? sorted : sorted.limit(limit), attributeName);
+    }
+
+    /**
+     * Run a filtered query for the values of one of the variables it gets, sorted and limited by the server.
+     */
+    public <T> List<T> sortedExecute(GraqlMatch.Filtered query, String attributeName, Integer limit) {
+        GraqlMatch.Sorted sorted = query.sort(attributeName);
+        return attributeValues(limit == null ? sorted : sorted.limit(limit), attributeName);
+    }
+
+    private <T> List<T> attributeValues(GraqlMatch query, String attributeName) {
         throwIfClosed();
+        drainInserts();
         log.query(tracker, iteration, query);
-        Stream<T> answerStream = transaction.query().match(query)
+        GraknClient.Transaction tx = transaction();
+        Stream<ConceptMap> answers = timed(SORTED_EXECUTE, () -> tx.query().match(query));
+        return timed(DRAIN, () -> answers
                 .map(conceptMap -> (T) conceptMap.get(attributeName).asThing().asAttribute().getValue())
-                .sorted();
-        if (limit != null) {
-            answerStream = answerStream.limit(limit);
-        }
-        return answerStream.collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public void execute(GraqlDelete query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        transaction.query().delete(query).get();
+        GraknClient.Transaction tx = transaction();
+        timed(EXECUTE, () -> tx.query().delete(query).get());
     }
 
     public void executeAsync(GraqlDelete query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        transaction.query().delete(query);
+        GraknClient.Transaction tx = transaction();
+        timed(EXECUTE_ASYNC, () -> tx.query().delete(query));
     }
 
     public List<ConceptMap> execute(GraqlInsert query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        return transaction.query().insert(query).collect(Collectors.toList());
+        GraknClient.Transaction tx = transaction();
+        Stream<ConceptMap> answers = timed(EXECUTE, () -> tx.query().insert(query));
+        return timed(DRAIN, () -> answers.collect(Collectors.toList()));
     }
 
     public Stream<ConceptMap> executeAsync(GraqlInsert query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        return transaction.query().insert(query);
+        GraknClient.Transaction tx = transaction();
+        return timed(EXECUTE_ASYNC, () -> tx.query().insert(query));
     }
 
     public Stream<ConceptMap> executeAsync(GraqlUpdate query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        return transaction.query().update(query);
+        GraknClient.Transaction tx = transaction();
+        return timed(EXECUTE_ASYNC, () -> tx.query().update(query));
     }
 
     public List<ConceptMap> execute(GraqlMatch query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        return transaction.query().match(query).collect(Collectors.toList());
+        GraknClient.Transaction tx = transaction();
+        Stream<ConceptMap> answers = timed(EXECUTE, () -> tx.query().match(query));
+        return timed(DRAIN, () -> answers.collect(Collectors.toList()));
     }
 
     public Stream<ConceptMap> executeAsync(GraqlMatch query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        return transaction.query().match(query);
+        GraknClient.Transaction tx = transaction();
+        return timed(EXECUTE_ASYNC, () -> tx.query().match(query));
     }
 
     public Numeric execute(GraqlMatch.Aggregate query) {
+        drainInserts();
         log.query(tracker, iteration, query);
-        return transaction.query().match(query).get();
+        GraknClient.Transaction tx = transaction();
+        return timed(EXECUTE, () -> tx.query().match(query).get());
+    }
+
+    /**
+     * Issue an insert without waiting for its answer, keeping up to the pipeline depth of inserts in flight in this
+     * transaction. The oldest insert is answered when the window is full, and all of them before any other query or
+     * when the operation is saved. With a depth of 0 each insert is answered before the next is issued.
+     *
+     * @return The only answer of the insert, which is received when it is first read if it has not been already
+     */
+    public PendingAnswer executePipelined(GraqlInsert query) {
+        if (insertPipelineDepth == 0) return PendingAnswer.of(getOnlyElement(execute(query)));
+        throwIfClosed();
+        log.query(tracker, iteration, query);
+        GraknClient.Transaction tx = transaction();
+        Stream<ConceptMap> answers = timed(EXECUTE_ASYNC, () -> tx.query().insert(query));
+        PendingAnswer insert = new PendingAnswer(() -> getOnlyElement(timed(DRAIN, () -> answers.collect(Collectors.toList()))));
+        insertsInFlight.add(insert);
+        deferred(insert);
+        if (insertsInFlight.size() > insertPipelineDepth) insertsInFlight.remove().get();
+        return insert;
+    }
+
+    private void drainInserts() {
+        while (!insertsInFlight.isEmpty()) {
+            insertsInFlight.remove().get();
+        }
     }
 
     public Object getOnlyAttributeOfThing(ConceptMap answer, String varName, String attributeType) {
-        return getOnlyElement(answer.get(varName).asThing().asRemote(transaction).asThing().getHas(transaction.concepts().getAttributeType(attributeType)).collect(Collectors.toList())).getValue();
+        return getOnlyElement(answer.get(varName).asThing().asRemote(transaction()).asThing().getHas(transaction().concepts().getAttributeType(attributeType)).collect(Collectors.toList())).getValue();
     }
 
     public Object getValueOfAttribute(ConceptMap answer, String varName) {
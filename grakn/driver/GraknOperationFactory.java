@@ -17,21 +17,25 @@
 
 package grakn.benchmark.grakn.driver;
 
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.TransactionPool;
 import grakn.benchmark.common.driver.TransactionalDbOperationFactory;
 import grakn.client.GraknClient;
 import org.slf4j.Logger;
 
 public class GraknOperationFactory extends TransactionalDbOperationFactory<GraknOperation> {
 
-    private final GraknClient.Session session;
+    private final TransactionPool<GraknClient.Transaction> transactionPool;
+    private final int insertPipelineDepth;
 
-    public GraknOperationFactory(GraknClient.Session session, Logger logger) {
+    public GraknOperationFactory(TransactionPool<GraknClient.Transaction> transactionPool, Logger logger, int insertPipelineDepth) {
         super(logger);
-        this.session = session;
+        this.transactionPool = transactionPool;
+        this.insertPipelineDepth = insertPipelineDepth;
     }
 
     @Override
-    public GraknOperation newDbOperation(String tracker, long iteration, boolean trace) {
-        return new GraknOperation(session, logger(), tracker, iteration, trace);
+    public GraknOperation newDbOperation(String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        return new GraknOperation(transactionPool, accessMode, logger(), tracker, iteration, trace, insertPipelineDepth);
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package grakn.benchmark.grakn.driver;
+
+import grakn.benchmark.common.driver.PendingWrite;
+import grakn.client.concept.answer.ConceptMap;
+
+import java.util.function.Supplier;
+
+/**
+ * The answer of an insert, which for a pipelined insert may have been issued but not yet received. It is received
+ * when it is first read, if the operation has not already received it.
+ */
+public class PendingAnswer extends PendingWrite {
+
+    private final Supplier<ConceptMap> receive;
+    private ConceptMap answer;
+
+    PendingAnswer(Supplier<ConceptMap> receive) {
+        this.receive = receive;
+    }
+
+    /**
+     * @return An answer that has already been received, because the insert that gave it was not pipelined
+     */
+    public static PendingAnswer of(ConceptMap answer) {
+        PendingAnswer pending = new PendingAnswer(null);
+        pending.answer = answer;
+        pending.answered();
+        return pending;
+    }
+
+    /**
+     * @return The answer, or null if the insert gave none
+     */
+    public ConceptMap get() {
+        if (!isAnswered()) {
+            answer = receive.get();
+            answered();
+        }
+        return answer;
+    }
+}
@@ -22,11 +22,10 @@ import grakn.benchmark.common.yaml_tool.YAMLLoader;
 import grakn.client.GraknClient;
 import graql.lang.Graql;
 import graql.lang.query.GraqlInsert;
-import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 public class GraknYAMLLoader extends YAMLLoader {
@@ -38,10 +37,14 @@ public class GraknYAMLLoader extends YAMLLoader {
         this.session = session;
     }
 
+    /**
+     * Inserts each row as its own query, interpolated from the template and parsed. Graql has no query parameters, and
+     * a parsed query can't have values bound into it, so unlike Neo4j the query can't be parsed once per template.
+     */
     @Override
-    protected void parseCSV(QueryTemplate template, CSVParser parser) throws IOException {
+    protected void loadBatch(QueryTemplate template, List<CSVRecord> records) {
         try (GraknClient.Transaction tx = session.transaction(GraknClient.Transaction.Type.WRITE)) {
-            for (CSVRecord record : parser.getRecords()) {
+            for (CSVRecord record : records) {
                 String interpolatedQuery = template.interpolate(record::get);
                 GraqlInsert insert = Graql.parseQuery(interpolatedQuery);
                 tx.query().insert(insert);
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.jmh;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertFriendshipAction.InsertFriendshipActionField;
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.LogWrapper;
+import grakn.benchmark.memory.action.write.MemoryInsertFriendshipAction;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+/**
+ * Constructing an action and the report of its answer, as done for every action an agent runs. The in-memory backend
+ * is used so that no database is needed, and its operation has no deferred writes, so the report reads its output
+ * straight away.
+ */
+public class ActionReportBenchmark extends HarnessBenchmark {
+
+    private static final LocalDateTime TODAY = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private MemoryOperation dbOperation;
+
+    @Setup
+    public void setup() {
+        dbOperation = new MemoryOperation(new MemoryGraph(), new LogWrapper(LoggerFactory.getLogger(ActionReportBenchmark.class)),
+                                          "jmh", 0, false, AccessMode.WRITE);
+    }
+
+    @Benchmark
+    public void report(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            String friend1Email = "friend1." + i + "@gmail.com";
+            String friend2Email = "friend2." + i + "@gmail.com";
+            MemoryInsertFriendshipAction action = new MemoryInsertFriendshipAction(dbOperation, TODAY, friend1Email, friend2Email);
+            HashMap<Action.ComparableField, Object> answer = new HashMap<Action.ComparableField, Object>() {{
+                put(InsertFriendshipActionField.FRIEND1_EMAIL, friend1Email);
+                put(InsertFriendshipActionField.FRIEND2_EMAIL, friend2Email);
+                put(InsertFriendshipActionField.START_DATE, TODAY);
+            }};
+            blackhole.consume(action.report(answer));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.jmh;
+
+import grakn.benchmark.common.agent.base.Allocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Allocating items evenly to buckets, as done by the agents to pair up newborns with marriages and employees with
+ * companies.
+ */
+public class AllocationBenchmark extends HarnessBenchmark {
+
+    private static final int NUM_BUCKETS = 10;
+
+    @Benchmark
+    public LinkedHashMap<Integer, List<Integer>> allocateEvenlyToMap() {
+        return Allocation.allocateEvenlyToMap(scaleFactor * NUM_BUCKETS, NUM_BUCKETS);
+    }
+
+    @Benchmark
+    public void allocateEvenlyByBucket(Blackhole blackhole) {
+        Allocation.allocateEvenlyByBucket(scaleFactor * NUM_BUCKETS, NUM_BUCKETS, (item, bucket) -> {
+            blackhole.consume(item);
+            blackhole.consume(bucket);
+        });
+    }
+}
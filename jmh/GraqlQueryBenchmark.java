@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.jmh;
+
+import grakn.benchmark.grakn.action.read.GraknMarriedCoupleAction;
+import grakn.benchmark.grakn.action.read.GraknUnmarriedPeopleInCityAction;
+import grakn.benchmark.grakn.action.write.GraknInsertEmploymentAction;
+import grakn.benchmark.grakn.action.write.GraknInsertPersonAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+
+import static grakn.benchmark.grakn.action.Model.MARRIAGE_WIFE;
+
+/**
+ * Building Graql queries with the builders of the Grakn actions, as done for every action run against Grakn. No
+ * connection to Grakn is needed to build a query.
+ */
+public class GraqlQueryBenchmark extends HarnessBenchmark {
+
+    private static final LocalDateTime TODAY = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Benchmark
+    public void insertPerson(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            blackhole.consume(GraknInsertPersonAction.query("London", "person." + i + "@gmail.com", "female", "Jane", "Smith", TODAY));
+        }
+    }
+
+    @Benchmark
+    public void insertEmployment(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            blackhole.consume(GraknInsertEmploymentAction.query("London", "person." + i + "@gmail.com", i, TODAY, 30000.0, "A contract", 37.5));
+        }
+    }
+
+    @Benchmark
+    public void unmarriedPeopleInCity(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            blackhole.consume(GraknUnmarriedPeopleInCityAction.query(MARRIAGE_WIFE, "female", TODAY.minusYears(18), "London"));
+        }
+    }
+
+    @Benchmark
+    public void marriedCouple(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            blackhole.consume(GraknMarriedCoupleAction.query("London"));
+        }
+    }
+}
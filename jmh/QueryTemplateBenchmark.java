@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.jmh;
+
+import grakn.benchmark.common.yaml_tool.QueryTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Templating of a row of initialisation data into a query, as done once per CSV record by the YAML loaders.
+ */
+public class QueryTemplateBenchmark extends HarnessBenchmark {
+
+    private static final String TEMPLATE = "match\n" +
+            "  $c isa country, has location-name <1>;\n" +
+            "insert\n" +
+            "  $x isa city, has location-name <0>;\n" +
+            "  (superior: $c, subordinate: $x) isa location-hierarchy;\n";
+
+    private QueryTemplate template;
+    private List<String[]> rows;
+
+    @Setup
+    public void setup() {
+        template = new QueryTemplate(TEMPLATE);
+        rows = new ArrayList<>();
+        for (int i = 0; i < scaleFactor; i++) {
+            rows.add(new String[]{"City " + i, "Country " + (i % 10)});
+        }
+    }
+
+    @Benchmark
+    public void interpolate(Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(template.interpolate(column -> row[column]));
+        }
+    }
+
+    @Benchmark
+    public void parameters(Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(template.parameters(column -> row[column]));
+        }
+    }
+}
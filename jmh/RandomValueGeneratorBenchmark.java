@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.jmh;
+
+import grakn.benchmark.common.agent.base.RandomValueGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * Generating random strings, as done by the agents for the names, descriptions and contracts that they insert.
+ */
+public class RandomValueGeneratorBenchmark extends HarnessBenchmark {
+
+    private RandomValueGenerator randomValueGenerator;
+
+    @Setup
+    public void setup() {
+        randomValueGenerator = new RandomValueGenerator(new Random(1));
+    }
+
+    @Benchmark
+    public void boundRandomLengthRandomString(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            blackhole.consume(randomValueGenerator.boundRandomLengthRandomString(5, 20));
+        }
+    }
+}
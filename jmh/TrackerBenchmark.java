@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.jmh;
+
+import grakn.benchmark.common.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Building the tracker of a region and of each action in it, as done for every operation an agent opens.
+ */
+public class TrackerBenchmark extends HarnessBenchmark {
+
+    @Benchmark
+    public void trackerOf(Blackhole blackhole) {
+        for (int i = 0; i < scaleFactor; i++) {
+            blackhole.consume(World.Tracker.of("Europe", "United Kingdom", "London", i));
+        }
+    }
+}
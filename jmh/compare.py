@@ -0,0 +1,69 @@
+#  Copyright (C) 2020 Grakn Labs
+#
+#  This program is free software: you can redistribute it and/or modify
+#  it under the terms of the GNU Affero General Public License as
+#  published by the Free Software Foundation, either version 3 of the
+#  License, or (at your option) any later version.
+#
+#  This program is distributed in the hope that it will be useful,
+#  but WITHOUT ANY WARRANTY; without even the implied warranty of
+#  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+#  GNU Affero General Public License for more details.
+#
+#  You should have received a copy of the GNU Affero General Public License
+#  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+
+"""Compare the JMH results of the harness microbenchmarks with a recorded baseline.
+
+Usage: python3 jmh/compare.py <results.json> [<baseline.json>]
+
+The baseline defaults to jmh/baseline.json next to this script. If there is no baseline the comparison is skipped. A
+result is marked slower or faster only when the scores differ by more than the error of both of them.
+"""
+
+import json
+import os
+import sys
+
+
+def load(path):
+    with open(path) as file:
+        return {key(result): result['primaryMetric'] for result in json.load(file)}
+
+
+def key(result):
+    params = result.get('params') or {}
+    return result['benchmark'], tuple(sorted(params.items()))
+
+
+def describe(benchmark_key):
+    benchmark, params = benchmark_key
+    name = benchmark.split('.', 3)[-1]
+    return name + ''.join(' {}={}'.format(param, value) for param, value in params)
+
+
+def compare(results_path, baseline_path):
+    if not os.path.exists(baseline_path):
+        print('No baseline at {}, skipping comparison'.format(baseline_path))
+        return
+    baseline = load(baseline_path)
+    results = load(results_path)
+    for benchmark_key in sorted(set(baseline) | set(results)):
+        before = baseline.get(benchmark_key)
+        after = results.get(benchmark_key)
+        if before is None or after is None:
+            print('{}: only in the {}'.format(describe(benchmark_key), 'results' if before is None else 'baseline'))
+            continue
+        change = (after['score'] - before['score']) / before['score'] * 100
+        verdict = ''
+        if abs(after['score'] - before['score']) > before['scoreError'] + after['scoreError']:
+            verdict = ' slower' if change > 0 else ' faster'
+        print('{}: {:.3f} -> {:.3f} {} ({:+.1f}%){}'.format(
+            describe(benchmark_key), before['score'], after['score'], after['scoreUnit'], change, verdict))
+
+
+if __name__ == '__main__':
+    if len(sys.argv) not in (2, 3):
+        sys.exit(__doc__)
+    default_baseline = os.path.join(os.path.dirname(os.path.abspath(__file__)), 'baseline.json')
+    compare(sys.argv[1], sys.argv[2] if len(sys.argv) == 3 else default_baseline)
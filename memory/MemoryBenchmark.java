@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory;
+
+import grakn.benchmark.common.action.ActionFactory;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.config.Config;
+import grakn.benchmark.memory.action.MemoryActionFactory;
+import grakn.benchmark.memory.driver.MemoryDriver;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class MemoryBenchmark extends grakn.benchmark.common.TransactionalBenchmark<MemoryDriver, MemoryOperation> {
+
+    public MemoryBenchmark(MemoryDriver driver, Map<String, Path> initialisationDataPaths, int randomSeed, World world, List<Config.Agent> agentConfigs, Function<Integer, Boolean> iterationSamplingFunction, boolean test) {
+        super(driver, initialisationDataPaths, randomSeed, world, agentConfigs, iterationSamplingFunction, test);
+    }
+
+    @Override
+    protected ActionFactory<MemoryOperation, ?> actionFactory() {
+        return new MemoryActionFactory();
+    }
+
+    @Override
+    protected void initialise(Map<String, Path> initialisationDataPaths) {
+        try {
+            driver.session("initialise").loadWorld(world(), initialisationDataPaths.get("country_currencies.csv"));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
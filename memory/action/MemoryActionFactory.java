@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.ActionFactory;
+import grakn.benchmark.common.action.SpouseType;
+import grakn.benchmark.common.action.insight.ArbitraryOneHopAction;
+import grakn.benchmark.common.action.insight.FindCurrentResidentsAction;
+import grakn.benchmark.common.action.insight.FindLivedInAction;
+import grakn.benchmark.common.action.insight.FindSpecificMarriageAction;
+import grakn.benchmark.common.action.insight.FindSpecificPersonAction;
+import grakn.benchmark.common.action.insight.FindTransactionCurrencyAction;
+import grakn.benchmark.common.action.insight.FourHopAction;
+import grakn.benchmark.common.action.insight.MeanWageOfPeopleInWorldAction;
+import grakn.benchmark.common.action.insight.ThreeHopAction;
+import grakn.benchmark.common.action.insight.TwoHopAction;
+import grakn.benchmark.common.action.read.BirthsInCityAction;
+import grakn.benchmark.common.action.read.CitiesInContinentAction;
+import grakn.benchmark.common.action.read.CompaniesInCountryAction;
+import grakn.benchmark.common.action.read.MarriedCoupleAction;
+import grakn.benchmark.common.action.read.ProductsInContinentAction;
+import grakn.benchmark.common.action.read.ResidentsInCityAction;
+import grakn.benchmark.common.action.read.UnmarriedPeopleInCityAction;
+import grakn.benchmark.common.action.write.InsertCompanyAction;
+import grakn.benchmark.common.action.write.InsertEmploymentAction;
+import grakn.benchmark.common.action.write.InsertFriendshipAction;
+import grakn.benchmark.common.action.write.InsertMarriageAction;
+import grakn.benchmark.common.action.write.InsertParentShipAction;
+import grakn.benchmark.common.action.write.InsertPersonAction;
+import grakn.benchmark.common.action.write.InsertProductAction;
+import grakn.benchmark.common.action.write.InsertRelocationAction;
+import grakn.benchmark.common.action.write.InsertTransactionAction;
+import grakn.benchmark.common.action.write.UpdateAgesOfPeopleInCityAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.action.insight.MemoryArbitraryOneHopAction;
+import grakn.benchmark.memory.action.insight.MemoryFindCurrentResidentsAction;
+import grakn.benchmark.memory.action.insight.MemoryFindLivedInAction;
+import grakn.benchmark.memory.action.insight.MemoryFindSpecificMarriageAction;
+import grakn.benchmark.memory.action.insight.MemoryFindSpecificPersonAction;
+import grakn.benchmark.memory.action.insight.MemoryFindTransactionCurrencyAction;
+import grakn.benchmark.memory.action.insight.MemoryFourHopAction;
+import grakn.benchmark.memory.action.insight.MemoryMeanWageOfPeopleInWorldAction;
+import grakn.benchmark.memory.action.insight.MemoryThreeHopAction;
+import grakn.benchmark.memory.action.insight.MemoryTwoHopAction;
+import grakn.benchmark.memory.action.read.MemoryBirthsInCityAction;
+import grakn.benchmark.memory.action.read.MemoryCitiesInContinentAction;
+import grakn.benchmark.memory.action.read.MemoryCompaniesInCountryAction;
+import grakn.benchmark.memory.action.read.MemoryMarriedCoupleAction;
+import grakn.benchmark.memory.action.read.MemoryProductsInContinentAction;
+import grakn.benchmark.memory.action.read.MemoryResidentsInCityAction;
+import grakn.benchmark.memory.action.read.MemoryUnmarriedPeopleInCityAction;
+import grakn.benchmark.memory.action.write.MemoryInsertCompanyAction;
+import grakn.benchmark.memory.action.write.MemoryInsertEmploymentAction;
+import grakn.benchmark.memory.action.write.MemoryInsertFriendshipAction;
+import grakn.benchmark.memory.action.write.MemoryInsertMarriageAction;
+import grakn.benchmark.memory.action.write.MemoryInsertParentShipAction;
+import grakn.benchmark.memory.action.write.MemoryInsertPersonAction;
+import grakn.benchmark.memory.action.write.MemoryInsertProductAction;
+import grakn.benchmark.memory.action.write.MemoryInsertRelocationAction;
+import grakn.benchmark.memory.action.write.MemoryInsertTransactionAction;
+import grakn.benchmark.memory.action.write.MemoryUpdateAgesOfPeopleInCityAction;
+import grakn.benchmark.memory.driver.MemoryOperation;
+import grakn.common.collection.Pair;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+public class MemoryActionFactory extends ActionFactory<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+
+    @Override
+    public ResidentsInCityAction<MemoryOperation> residentsInCityAction(MemoryOperation dbOperation, World.City city, int numResidents, LocalDateTime earliestDate) {
+        return new MemoryResidentsInCityAction(dbOperation, city, numResidents, earliestDate);
+    }
+
+    @Override
+    public CompaniesInCountryAction<MemoryOperation> companiesInCountryAction(MemoryOperation dbOperation, World.Country country, int numCompanies) {
+        return new MemoryCompaniesInCountryAction(dbOperation, country, numCompanies);
+    }
+
+    @Override
+    public InsertEmploymentAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertEmploymentAction(MemoryOperation dbOperation, World.City city, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
+        return new MemoryInsertEmploymentAction(dbOperation, city, employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours);
+    }
+
+    @Override
+    public InsertCompanyAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertCompanyAction(MemoryOperation dbOperation, World.Country country, LocalDateTime today, int companyNumber, String companyName) {
+        return new MemoryInsertCompanyAction(dbOperation, country, today, companyNumber, companyName);
+    }
+
+    @Override
+    public InsertFriendshipAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertFriendshipAction(MemoryOperation dbOperation, LocalDateTime today, String friend1Email, String friend2Email) {
+        return new MemoryInsertFriendshipAction(dbOperation, today, friend1Email, friend2Email);
+    }
+
+    @Override
+    public UnmarriedPeopleInCityAction<MemoryOperation> unmarriedPeopleInCityAction(MemoryOperation dbOperation, World.City city, String gender, LocalDateTime dobOfAdults) {
+        return new MemoryUnmarriedPeopleInCityAction(dbOperation, city, gender, dobOfAdults);
+    }
+
+    @Override
+    public InsertMarriageAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertMarriageAction(MemoryOperation dbOperation, World.City city, int marriageIdentifier, String wifeEmail, String husbandEmail) {
+        return new MemoryInsertMarriageAction(dbOperation, city, marriageIdentifier, wifeEmail, husbandEmail);
+    }
+
+    @Override
+    public BirthsInCityAction<MemoryOperation> birthsInCityAction(MemoryOperation dbOperation, World.City city, LocalDateTime today) {
+        return new MemoryBirthsInCityAction(dbOperation, city, today);
+    }
+
+    @Override
+    public MarriedCoupleAction<MemoryOperation> marriedCoupleAction(MemoryOperation dbOperation, World.City city, LocalDateTime today) {
+        return new MemoryMarriedCoupleAction(dbOperation, city, today);
+    }
+
+    @Override
+    public InsertParentShipAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertParentshipAction(MemoryOperation dbOperation, HashMap<SpouseType, String> marriage, String childEmail) {
+        return new MemoryInsertParentShipAction(dbOperation, marriage, childEmail);
+    }
+
+    @Override
+    public InsertPersonAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertPersonAction(MemoryOperation dbOperation, World.City city, LocalDateTime today, String email, String gender, String forename, String surname) {
+        return new MemoryInsertPersonAction(dbOperation, city, today, email, gender, forename, surname);
+    }
+
+    @Override
+    public InsertProductAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertProductAction(MemoryOperation dbOperation, World.Continent continent, Long barcode, String productName, String productDescription) {
+        return new MemoryInsertProductAction(dbOperation, continent, barcode, productName, productDescription);
+    }
+
+    @Override
+    public CitiesInContinentAction<MemoryOperation> citiesInContinentAction(MemoryOperation dbOperation, World.City city) {
+        return new MemoryCitiesInContinentAction(dbOperation, city);
+    }
+
+    @Override
+    public InsertRelocationAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertRelocationAction(MemoryOperation dbOperation, World.City city, LocalDateTime today, String residentEmail, String relocationCityName) {
+        return new MemoryInsertRelocationAction(dbOperation, city, today, residentEmail, relocationCityName);
+    }
+
+    @Override
+    public ProductsInContinentAction<MemoryOperation> productsInContinentAction(MemoryOperation dbOperation, World.Continent continent) {
+        return new MemoryProductsInContinentAction(dbOperation, continent);
+    }
+
+    @Override
+    public InsertTransactionAction<MemoryOperation, HashMap<Action.ComparableField, Object>> insertTransactionAction(MemoryOperation dbOperation, World.Country country, Pair<Long, Long> transaction, Long sellerCompanyNumber, double value, int productQuantity, boolean isTaxable) {
+        return new MemoryInsertTransactionAction(dbOperation, country, transaction, sellerCompanyNumber, value, productQuantity, isTaxable);
+    }
+
+    @Override
+    public UpdateAgesOfPeopleInCityAction<MemoryOperation> updateAgesOfPeopleInCityAction(MemoryOperation dbOperation, LocalDateTime today, World.City city) {
+        return new MemoryUpdateAgesOfPeopleInCityAction(dbOperation, today, city);
+    }
+
+    @Override
+    public MeanWageOfPeopleInWorldAction<MemoryOperation> meanWageOfPeopleInWorldAction(MemoryOperation dbOperation) {
+        return new MemoryMeanWageOfPeopleInWorldAction(dbOperation);
+    }
+
+    @Override
+    public FindLivedInAction<MemoryOperation> findlivedInAction(MemoryOperation dbOperation) {
+        return new MemoryFindLivedInAction(dbOperation);
+    }
+
+    @Override
+    public FindCurrentResidentsAction<MemoryOperation> findCurrentResidentsAction(MemoryOperation dbOperation) {
+        return new MemoryFindCurrentResidentsAction(dbOperation);
+    }
+
+    @Override
+    public FindTransactionCurrencyAction<MemoryOperation> findTransactionCurrencyAction(MemoryOperation dbOperation) {
+        return new MemoryFindTransactionCurrencyAction(dbOperation);
+    }
+
+    @Override
+    public ArbitraryOneHopAction<MemoryOperation> arbitraryOneHopAction(MemoryOperation dbOperation) {
+        return new MemoryArbitraryOneHopAction(dbOperation);
+    }
+
+    @Override
+    public TwoHopAction<MemoryOperation> twoHopAction(MemoryOperation dbOperation) {
+        return new MemoryTwoHopAction(dbOperation);
+    }
+
+    @Override
+    public ThreeHopAction<MemoryOperation> threeHopAction(MemoryOperation dbOperation) {
+        return new MemoryThreeHopAction(dbOperation);
+    }
+
+    @Override
+    public FourHopAction<MemoryOperation> fourHopAction(MemoryOperation dbOperation) {
+        return new MemoryFourHopAction(dbOperation);
+    }
+
+    @Override
+    public FindSpecificMarriageAction<MemoryOperation> findSpecificMarriageAction(MemoryOperation dbOperation) {
+        return new MemoryFindSpecificMarriageAction(dbOperation);
+    }
+
+    @Override
+    public FindSpecificPersonAction<MemoryOperation> findSpecificPersonAction(MemoryOperation dbOperation) {
+        return new MemoryFindSpecificPersonAction(dbOperation);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.insight;
+
+import grakn.benchmark.common.action.insight.ArbitraryOneHopAction;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MemoryArbitraryOneHopAction extends ArbitraryOneHopAction<MemoryOperation> {
+    public MemoryArbitraryOneHopAction(MemoryOperation dbOperation) {
+        super(dbOperation);
+    }
+
+    @Override
+    public Integer run() {
+        List<Object> results = dbOperation.execute(name(), graph -> {
+            List<Object> neighbours = new ArrayList<>();
+            MemoryGraph.Person person = graph.person(PERSON_EMAIL_FOR_QUERY);
+            if (person == null) return neighbours;
+            neighbours.add(graph.city(person.birthCity));
+            person.relocations().forEach(relocation -> neighbours.add(graph.city(relocation.newCity)));
+            person.marriages().forEach(marriage -> neighbours.add(marriage.husband == person ? marriage.wife : marriage.husband));
+            neighbours.addAll(person.parents());
+            neighbours.addAll(person.children());
+            neighbours.addAll(person.friends());
+            person.employments().forEach(employment -> neighbours.add(employment.employer));
+            return neighbours;
+        });
+        return null;
+    }
+}
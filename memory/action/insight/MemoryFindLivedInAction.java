@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.insight;
+
+import grakn.benchmark.common.action.insight.FindLivedInAction;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+public class MemoryFindLivedInAction extends FindLivedInAction<MemoryOperation> {
+    public MemoryFindLivedInAction(MemoryOperation dbOperation) {
+        super(dbOperation);
+    }
+
+    @Override
+    public List<String> run() {
+        // One answer per residency, so someone who has moved to Berlin more than once is found more than once
+        return dbOperation.execute(name(), graph -> Stream.concat(
+                graph.peopleBornIn("Berlin").stream().map(person -> person.email),
+                graph.peopleRelocatedTo("Berlin").stream().map(person -> person.email))
+                .sorted()
+                .collect(toList()));
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.insight;
+
+import grakn.benchmark.common.action.insight.FindSpecificPersonAction;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryFindSpecificPersonAction extends FindSpecificPersonAction<MemoryOperation> {
+    public MemoryFindSpecificPersonAction(MemoryOperation dbOperation) {
+        super(dbOperation);
+    }
+
+    @Override
+    public String run() {
+        MemoryGraph.Person person = optionalSingleResult(dbOperation.execute(name(), graph -> answers(graph.person(PERSON_EMAIL_FOR_QUERY))));
+        return person == null ? null : person.email;
+    }
+}
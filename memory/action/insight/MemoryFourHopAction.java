@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.insight;
+
+import grakn.benchmark.common.action.insight.FourHopAction;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+public class MemoryFourHopAction extends FourHopAction<MemoryOperation> {
+    public MemoryFourHopAction(MemoryOperation dbOperation) {
+        super(dbOperation);
+    }
+
+    @Override
+    public List<String> run() {
+        return dbOperation.execute(name(), graph -> graph.peopleBornIn("London").stream()
+                .flatMap(child -> child.parents().stream())
+                .flatMap(parent -> parent.employments().stream())
+                .flatMap(employment -> employment.employer.purchases().stream())
+                .map(transaction -> transaction.seller.companyName)
+                .sorted()
+                .collect(toList()));
+    }
+}
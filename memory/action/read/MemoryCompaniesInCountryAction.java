@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.read;
+
+import grakn.benchmark.common.action.read.CompaniesInCountryAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+public class MemoryCompaniesInCountryAction extends CompaniesInCountryAction<MemoryOperation> {
+    public MemoryCompaniesInCountryAction(MemoryOperation dbOperation, World.Country country, int numCompanies) {
+        super(dbOperation, country, numCompanies);
+    }
+
+    @Override
+    public List<Long> run() {
+        return dbOperation.execute(name(), graph -> graph.companiesIn(country.name()).stream()
+                .map(company -> company.companyNumber)
+                .sorted()
+                .limit(numCompanies)
+                .collect(toList()));
+    }
+}
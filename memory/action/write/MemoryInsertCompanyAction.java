@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertCompanyAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertCompanyAction extends InsertCompanyAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+
+    public MemoryInsertCompanyAction(MemoryOperation dbOperation, World.Country country, LocalDateTime today, int companyNumber, String companyName) {
+        super(dbOperation, country, today, companyNumber, companyName);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        World.Country matchedCountry = singleResult(dbOperation.execute(name(), graph -> answers(graph.country(country.name()))));
+        MemoryGraph.Company company = new MemoryGraph.Company(companyNumber, companyName, matchedCountry.name(), today);
+        dbOperation.write(graph -> graph.putCompany(company));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertCompanyActionField.COMPANY_NAME, company.companyName);
+            put(InsertCompanyActionField.COMPANY_NUMBER, company.companyNumber);
+            put(InsertCompanyActionField.COUNTRY, company.country);
+            put(InsertCompanyActionField.DATE_OF_INCORPORATION, company.dateOfIncorporation);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
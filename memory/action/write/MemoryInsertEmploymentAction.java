@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertEmploymentAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertEmploymentAction extends InsertEmploymentAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+    public MemoryInsertEmploymentAction(MemoryOperation dbOperation, World.City worldCity, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
+        super(dbOperation, worldCity, employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        MemoryGraph.Employment employment = singleResult(dbOperation.execute(name(), graph -> {
+            World.City city = graph.city(worldCity.name());
+            MemoryGraph.Person employee = graph.person(employeeEmail);
+            MemoryGraph.Company employer = graph.company(companyNumber);
+            if (city == null || employee == null || employer == null) return answers(null);
+            String currency = graph.currency(city.country());
+            return answers(new MemoryGraph.Employment(employer, employee, city.name(), employmentDate, wageValue, currency, contractContent, contractedHours));
+        }));
+        dbOperation.write(graph -> graph.putEmployment(employment));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertEmploymentActionField.CITY_NAME, employment.city);
+            put(InsertEmploymentActionField.PERSON_EMAIL, employment.employee.email);
+            put(InsertEmploymentActionField.COMPANY_NUMBER, employment.employer.companyNumber);
+            put(InsertEmploymentActionField.START_DATE, employment.startDate);
+            put(InsertEmploymentActionField.WAGE, employment.wage);
+            put(InsertEmploymentActionField.CURRENCY, employment.currency);
+            put(InsertEmploymentActionField.CONTRACT_CONTENT, employment.contractContent);
+            put(InsertEmploymentActionField.CONTRACTED_HOURS, employment.contractedHours);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertFriendshipAction;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertFriendshipAction extends InsertFriendshipAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+
+    public MemoryInsertFriendshipAction(MemoryOperation dbOperation, LocalDateTime today, String friend1Email, String friend2Email) {
+        super(dbOperation, today, friend1Email, friend2Email);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        MemoryGraph.Friendship friendship = optionalSingleResult(dbOperation.execute(name(), graph -> {
+            MemoryGraph.Person friend1 = graph.person(friend1Email);
+            MemoryGraph.Person friend2 = graph.person(friend2Email);
+            if (friend1 == null || friend2 == null || friend1.friends().contains(friend2)) return answers(null);
+            return answers(new MemoryGraph.Friendship(friend1, friend2, today));
+        }));
+        if (friendship == null) return null;
+        dbOperation.write(graph -> graph.putFriendship(friendship));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertFriendshipActionField.FRIEND1_EMAIL, friendship.friend1.email);
+            put(InsertFriendshipActionField.FRIEND2_EMAIL, friendship.friend2.email);
+            put(InsertFriendshipActionField.START_DATE, friendship.startDate);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer == null ? new HashMap<>() : answer;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertMarriageAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertMarriageAction extends InsertMarriageAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+
+    public MemoryInsertMarriageAction(MemoryOperation dbOperation, World.City city, int marriageIdentifier, String wifeEmail, String husbandEmail) {
+        super(dbOperation, city, marriageIdentifier, wifeEmail, husbandEmail);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        MemoryGraph.Marriage marriage = singleResult(dbOperation.execute(name(), graph -> {
+            MemoryGraph.Person wife = graph.person(wifeEmail);
+            MemoryGraph.Person husband = graph.person(husbandEmail);
+            if (wife == null || husband == null || graph.city(worldCity.name()) == null) return answers(null);
+            return answers(new MemoryGraph.Marriage(marriageIdentifier, husband, wife, worldCity.name()));
+        }));
+        dbOperation.write(graph -> graph.putMarriage(marriage));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertMarriageActionField.MARRIAGE_IDENTIFIER, marriage.marriageId);
+            put(InsertMarriageActionField.WIFE_EMAIL, marriage.wife.email);
+            put(InsertMarriageActionField.HUSBAND_EMAIL, marriage.husband.email);
+            put(InsertMarriageActionField.CITY_NAME, marriage.city);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.SpouseType;
+import grakn.benchmark.common.action.write.InsertParentShipAction;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertParentShipAction extends InsertParentShipAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+    public MemoryInsertParentShipAction(MemoryOperation dbOperation, HashMap<SpouseType, String> marriage, String childEmail) {
+        super(dbOperation, marriage, childEmail);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        MemoryGraph.Parentship parentship = singleResult(dbOperation.execute(name(), graph -> {
+            MemoryGraph.Person mother = graph.person(marriage.get(SpouseType.WIFE));
+            MemoryGraph.Person father = graph.person(marriage.get(SpouseType.HUSBAND));
+            MemoryGraph.Person child = graph.person(childEmail);
+            if (mother == null || father == null || child == null) return answers(null);
+            return answers(new MemoryGraph.Parentship(mother, father, child));
+        }));
+        dbOperation.write(graph -> graph.putParentship(parentship));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertParentShipActionField.WIFE_EMAIL, parentship.mother.email);
+            put(InsertParentShipActionField.HUSBAND_EMAIL, parentship.father.email);
+            put(InsertParentShipActionField.CHILD_EMAIL, parentship.child.email);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertPersonAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertPersonAction extends InsertPersonAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+    public MemoryInsertPersonAction(MemoryOperation dbOperation, World.City city, LocalDateTime today, String email, String gender, String forename, String surname) {
+        super(dbOperation, city, today, email, gender, forename, surname);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        World.City city = singleResult(dbOperation.execute(name(), graph -> answers(graph.city(worldCity.name()))));
+        MemoryGraph.Person person = new MemoryGraph.Person(email, today, gender, forename, surname, city.name());
+        dbOperation.write(graph -> graph.putPerson(person));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertPersonActionField.EMAIL, person.email);
+            put(InsertPersonActionField.DATE_OF_BIRTH, person.dateOfBirth);
+            put(InsertPersonActionField.GENDER, person.gender);
+            put(InsertPersonActionField.FORENAME, person.forename);
+            put(InsertPersonActionField.SURNAME, person.surname);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertProductAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertProductAction extends InsertProductAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+    public MemoryInsertProductAction(MemoryOperation dbOperation, World.Continent continent, Long barcode, String productName, String productDescription) {
+        super(dbOperation, continent, barcode, productName, productDescription);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        World.Continent matchedContinent = singleResult(dbOperation.execute(name(), graph -> answers(graph.continent(continent.name()))));
+        MemoryGraph.Product product = new MemoryGraph.Product(barcode, productName, productDescription, matchedContinent.name());
+        dbOperation.write(graph -> graph.putProduct(product));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertProductActionField.PRODUCT_BARCODE, product.barcode);
+            put(InsertProductActionField.PRODUCT_NAME, product.name);
+            put(InsertProductActionField.PRODUCT_DESCRIPTION, product.description);
+            put(InsertProductActionField.CONTINENT, product.continent);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
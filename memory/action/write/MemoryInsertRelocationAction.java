@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertRelocationAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertRelocationAction extends InsertRelocationAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+    public MemoryInsertRelocationAction(MemoryOperation dbOperation, World.City city, LocalDateTime today, String relocateeEmail, String relocationCityName) {
+        super(dbOperation, city, today, relocateeEmail, relocationCityName);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        MemoryGraph.Person person = singleResult(dbOperation.execute(name(), graph -> {
+            if (graph.city(city.name()) == null || graph.city(relocationCityName) == null) return answers(null);
+            return answers(graph.person(relocateeEmail));
+        }));
+        MemoryGraph.Relocation relocation = new MemoryGraph.Relocation(city.name(), relocationCityName, today);
+        dbOperation.write(graph -> graph.putRelocation(person, relocation));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertRelocationActionField.PERSON_EMAIL, person.email);
+            put(InsertRelocationActionField.NEW_CITY_NAME, relocation.newCity);
+            put(InsertRelocationActionField.RELOCATION_DATE, relocation.date);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
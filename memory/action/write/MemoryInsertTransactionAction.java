@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.write.InsertTransactionAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+import grakn.common.collection.Pair;
+
+import java.util.HashMap;
+
+import static grakn.benchmark.memory.driver.MemoryGraph.answers;
+
+public class MemoryInsertTransactionAction extends InsertTransactionAction<MemoryOperation, HashMap<Action.ComparableField, Object>> {
+
+    public MemoryInsertTransactionAction(MemoryOperation dbOperation, World.Country country, Pair<Long, Long> transaction, Long sellerCompanyNumber, double value, int productQuantity, boolean isTaxable) {
+        super(dbOperation, country, transaction, sellerCompanyNumber, value, productQuantity, isTaxable);
+    }
+
+    @Override
+    public HashMap<ComparableField, Object> run() {
+        MemoryGraph.Transaction inserted = singleResult(dbOperation.execute(name(), graph -> {
+            MemoryGraph.Product product = graph.product(transaction.second());
+            MemoryGraph.Company buyer = graph.company(transaction.first());
+            MemoryGraph.Company seller = graph.company(sellerCompanyNumber);
+            if (product == null || buyer == null || seller == null || graph.country(country.name()) == null) return answers(null);
+            return answers(new MemoryGraph.Transaction(seller, buyer, product, value, productQuantity, isTaxable, country.name()));
+        }));
+        dbOperation.write(graph -> graph.putTransaction(inserted));
+        return new HashMap<ComparableField, Object>() {{
+            put(InsertTransactionActionField.SELLER, inserted.seller.companyNumber);
+            put(InsertTransactionActionField.BUYER, inserted.buyer.companyNumber);
+            put(InsertTransactionActionField.MERCHANDISE, inserted.merchandise.barcode);
+            put(InsertTransactionActionField.VALUE, inserted.value);
+            put(InsertTransactionActionField.PRODUCT_QUANTITY, inserted.productQuantity);
+            put(InsertTransactionActionField.IS_TAXABLE, inserted.isTaxable);
+            put(InsertTransactionActionField.COUNTRY, inserted.country);
+        }};
+    }
+
+    @Override
+    protected HashMap<ComparableField, Object> outputForReport(HashMap<ComparableField, Object> answer) {
+        return answer;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.action.write;
+
+import grakn.benchmark.common.action.write.UpdateAgesOfPeopleInCityAction;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import grakn.benchmark.memory.driver.MemoryOperation;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MemoryUpdateAgesOfPeopleInCityAction extends UpdateAgesOfPeopleInCityAction<MemoryOperation> {
+    public MemoryUpdateAgesOfPeopleInCityAction(MemoryOperation dbOperation, LocalDateTime today, World.City city) {
+        super(dbOperation, today, city);
+    }
+
+    @Override
+    public Integer run() {
+        List<MemoryGraph.Person> people = dbOperation.execute(name(), graph -> new ArrayList<>(graph.peopleBornIn(city.name())));
+        for (MemoryGraph.Person person : people) {
+            long age = ChronoUnit.YEARS.between(person.dateOfBirth, today);
+            dbOperation.write(graph -> person.age(age));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.driver;
+
+import grakn.benchmark.common.driver.DbOperationFactory;
+import grakn.benchmark.common.driver.TransactionalDbDriver;
+import grakn.benchmark.common.world.Region;
+import org.slf4j.Logger;
+
+import java.text.DecimalFormat;
+
+/**
+ * A driver for a reference database held in memory, to check the results of the other backends and to measure the
+ * overhead of the benchmark itself. There is a single graph, so every session key gives the same session.
+ */
+public class MemoryDriver extends TransactionalDbDriver<MemoryOperation, MemoryGraph, MemoryOperation> {
+
+    private final MemoryGraph graph = new MemoryGraph();
+
+    @Override
+    public MemoryGraph session(String sessionKey) {
+        return graph;
+    }
+
+    @Override
+    public void closeSessions() {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void printStatistics(Logger LOG) {
+        MemoryGraph.Statistics statistics = graph.statistics();
+        DecimalFormat formatter = new DecimalFormat("#,###");
+
+        LOG.info("");
+        LOG.info("Benchmark statistic:");
+        LOG.info("");
+
+        LOG.info("Count 'person': {}", formatter.format(statistics.people));
+        LOG.info("Count 'company': {}", formatter.format(statistics.companies));
+        LOG.info("Count 'product': {}", formatter.format(statistics.products));
+        LOG.info("Count 'marriage': {}", formatter.format(statistics.marriages));
+        LOG.info("Count 'employment': {}", formatter.format(statistics.employments));
+        LOG.info("Count 'transaction': {}", formatter.format(statistics.transactions));
+        LOG.info("Count 'friendship': {}", formatter.format(statistics.friendships));
+        LOG.info("");
+    }
+
+    @Override
+    public DbOperationFactory<MemoryOperation> getDbOperationFactory(String agentName, Region region, Logger logger) {
+        return new MemoryOperationFactory(graph, logger);
+    }
+}
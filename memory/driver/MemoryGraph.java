@@ -0,0 +1,472 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.driver;
+
+import grakn.benchmark.common.world.World;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The world graph held in memory, indexed by the lookups that the actions make.
+ *
+ * Reads see only committed data, and a batch of writes is committed atomically, so that a {@link MemoryOperation} has
+ * the same visibility as a transaction against a real database.
+ */
+public class MemoryGraph {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, World.Continent> continents = new HashMap<>();
+    private final Map<String, World.Country> countries = new HashMap<>();
+    private final Map<String, World.City> cities = new HashMap<>();
+    private final Map<String, String> currencies = new HashMap<>();
+
+    private final Map<String, Person> people = new HashMap<>();
+    private final Map<String, List<Person>> peopleBornIn = new HashMap<>();
+    private final Map<String, List<Person>> peopleRelocatedTo = new HashMap<>();
+    private final Map<Long, Company> companies = new HashMap<>();
+    private final Map<String, List<Company>> companiesIn = new HashMap<>();
+    private final Map<Long, Product> products = new HashMap<>();
+    private final Map<String, List<Product>> productsIn = new HashMap<>();
+    private final Map<Integer, Marriage> marriages = new HashMap<>();
+    private final Map<String, List<Marriage>> marriagesIn = new HashMap<>();
+    private final List<Employment> employments = new ArrayList<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<Friendship> friendships = new ArrayList<>();
+
+    public void loadWorld(World world, Path countryCurrenciesPath) throws IOException {
+        lock.writeLock().lock();
+        try {
+            world.getContinents().forEach(continent -> continents.put(continent.name(), continent));
+            world.getCountries().forEach(country -> countries.put(country.name(), country));
+            world.getCities().forEach(city -> cities.put(city.name(), city));
+            for (CSVRecord record : CSVParser.parse(countryCurrenciesPath, StandardCharsets.UTF_8, CSVFormat.DEFAULT)) {
+                currencies.put(record.get(0), record.get(1));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public <T> T read(Function<MemoryGraph, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(this);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void write(List<Consumer<MemoryGraph>> mutations) {
+        lock.writeLock().lock();
+        try {
+            mutations.forEach(mutation -> mutation.accept(this));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /////////////
+    // LOOKUPS //
+    /////////////
+
+    /**
+     * @return The answers to a match of a single element, which are empty if it was not found
+     */
+    public static <T> List<T> answers(T element) {
+        return element == null ? Collections.emptyList() : Collections.singletonList(element);
+    }
+
+    public World.Continent continent(String name) {
+        return continents.get(name);
+    }
+
+    public World.Country country(String name) {
+        return countries.get(name);
+    }
+
+    public World.City city(String name) {
+        return cities.get(name);
+    }
+
+    public String currency(World.Country country) {
+        return currencies.get(country.name());
+    }
+
+    public Person person(String email) {
+        return people.get(email);
+    }
+
+    public Company company(long companyNumber) {
+        return companies.get(companyNumber);
+    }
+
+    public Product product(long barcode) {
+        return products.get(barcode);
+    }
+
+    public Marriage marriage(int marriageId) {
+        return marriages.get(marriageId);
+    }
+
+    public List<Person> peopleBornIn(String cityName) {
+        return peopleBornIn.getOrDefault(cityName, Collections.emptyList());
+    }
+
+    public List<Person> peopleRelocatedTo(String cityName) {
+        return peopleRelocatedTo.getOrDefault(cityName, Collections.emptyList());
+    }
+
+    public List<Company> companiesIn(String countryName) {
+        return companiesIn.getOrDefault(countryName, Collections.emptyList());
+    }
+
+    public List<Product> productsIn(String continentName) {
+        return productsIn.getOrDefault(continentName, Collections.emptyList());
+    }
+
+    public List<Marriage> marriagesIn(String cityName) {
+        return marriagesIn.getOrDefault(cityName, Collections.emptyList());
+    }
+
+    public List<Employment> employments() {
+        return employments;
+    }
+
+    public List<Transaction> transactions() {
+        return transactions;
+    }
+
+    public List<Friendship> friendships() {
+        return friendships;
+    }
+
+    /**
+     * @return Everyone whose most recent residency, either their birth or their last relocation, is in the city
+     */
+    public List<Person> currentResidents(String cityName) {
+        Set<Person> residents = new LinkedHashSet<>();
+        for (Person person : peopleBornIn(cityName)) {
+            if (person.relocations.isEmpty()) residents.add(person);
+        }
+        for (Person person : peopleRelocatedTo(cityName)) {
+            if (person.currentCity().equals(cityName)) residents.add(person);
+        }
+        return new ArrayList<>(residents);
+    }
+
+    ///////////////
+    // MUTATIONS //
+    ///////////////
+
+    public void putPerson(Person person) {
+        people.put(person.email, person);
+        peopleBornIn.computeIfAbsent(person.birthCity, k -> new ArrayList<>()).add(person);
+    }
+
+    public void putRelocation(Person person, Relocation relocation) {
+        person.relocations.add(relocation);
+        peopleRelocatedTo.computeIfAbsent(relocation.newCity, k -> new ArrayList<>()).add(person);
+    }
+
+    public void putCompany(Company company) {
+        companies.put(company.companyNumber, company);
+        companiesIn.computeIfAbsent(company.country, k -> new ArrayList<>()).add(company);
+    }
+
+    public void putProduct(Product product) {
+        products.put(product.barcode, product);
+        productsIn.computeIfAbsent(product.continent, k -> new ArrayList<>()).add(product);
+    }
+
+    public void putMarriage(Marriage marriage) {
+        marriages.put(marriage.marriageId, marriage);
+        marriagesIn.computeIfAbsent(marriage.city, k -> new ArrayList<>()).add(marriage);
+        marriage.husband.marriages.add(marriage);
+        marriage.wife.marriages.add(marriage);
+    }
+
+    public void putParentship(Parentship parentship) {
+        parentship.child.parents.add(parentship.mother);
+        parentship.child.parents.add(parentship.father);
+        parentship.mother.children.add(parentship.child);
+        parentship.father.children.add(parentship.child);
+    }
+
+    public void putEmployment(Employment employment) {
+        employments.add(employment);
+        employment.employee.employments.add(employment);
+    }
+
+    public void putTransaction(Transaction transaction) {
+        transactions.add(transaction);
+        transaction.buyer.purchases.add(transaction);
+    }
+
+    public void putFriendship(Friendship friendship) {
+        friendships.add(friendship);
+        friendship.friend1.friends.add(friendship.friend2);
+        friendship.friend2.friends.add(friendship.friend1);
+    }
+
+    //////////////
+    // ELEMENTS //
+    //////////////
+
+    public static class Person {
+        public final String email;
+        public final LocalDateTime dateOfBirth;
+        public final String gender;
+        public final String forename;
+        public final String surname;
+        public final String birthCity;
+        private final List<Relocation> relocations = new ArrayList<>();
+        private final List<Marriage> marriages = new ArrayList<>();
+        private final List<Person> parents = new ArrayList<>();
+        private final List<Person> children = new ArrayList<>();
+        private final List<Person> friends = new ArrayList<>();
+        private final List<Employment> employments = new ArrayList<>();
+        private long age;
+
+        public Person(String email, LocalDateTime dateOfBirth, String gender, String forename, String surname, String birthCity) {
+            this.email = email;
+            this.dateOfBirth = dateOfBirth;
+            this.gender = gender;
+            this.forename = forename;
+            this.surname = surname;
+            this.birthCity = birthCity;
+        }
+
+        public List<Relocation> relocations() {
+            return relocations;
+        }
+
+        public List<Marriage> marriages() {
+            return marriages;
+        }
+
+        public List<Person> parents() {
+            return parents;
+        }
+
+        public List<Person> children() {
+            return children;
+        }
+
+        public List<Person> friends() {
+            return friends;
+        }
+
+        public List<Employment> employments() {
+            return employments;
+        }
+
+        public long age() {
+            return age;
+        }
+
+        public void age(long age) {
+            this.age = age;
+        }
+
+        private Relocation lastRelocation() {
+            Relocation last = null;
+            for (Relocation relocation : relocations) {
+                if (last == null || !relocation.date.isBefore(last.date)) last = relocation;
+            }
+            return last;
+        }
+
+        public String currentCity() {
+            Relocation last = lastRelocation();
+            return last == null ? birthCity : last.newCity;
+        }
+
+        public LocalDateTime currentResidencyStart() {
+            Relocation last = lastRelocation();
+            return last == null ? dateOfBirth : last.date;
+        }
+    }
+
+    public static class Relocation {
+        public final String previousCity;
+        public final String newCity;
+        public final LocalDateTime date;
+
+        public Relocation(String previousCity, String newCity, LocalDateTime date) {
+            this.previousCity = previousCity;
+            this.newCity = newCity;
+            this.date = date;
+        }
+    }
+
+    public static class Company {
+        public final long companyNumber;
+        public final String companyName;
+        public final String country;
+        public final LocalDateTime dateOfIncorporation;
+        private final List<Transaction> purchases = new ArrayList<>();
+
+        public Company(long companyNumber, String companyName, String country, LocalDateTime dateOfIncorporation) {
+            this.companyNumber = companyNumber;
+            this.companyName = companyName;
+            this.country = country;
+            this.dateOfIncorporation = dateOfIncorporation;
+        }
+
+        public List<Transaction> purchases() {
+            return purchases;
+        }
+    }
+
+    public static class Product {
+        public final long barcode;
+        public final String name;
+        public final String description;
+        public final String continent;
+
+        public Product(long barcode, String name, String description, String continent) {
+            this.barcode = barcode;
+            this.name = name;
+            this.description = description;
+            this.continent = continent;
+        }
+    }
+
+    public static class Marriage {
+        public final int marriageId;
+        public final Person husband;
+        public final Person wife;
+        public final String city;
+
+        public Marriage(int marriageId, Person husband, Person wife, String city) {
+            this.marriageId = marriageId;
+            this.husband = husband;
+            this.wife = wife;
+            this.city = city;
+        }
+    }
+
+    public static class Parentship {
+        public final Person mother;
+        public final Person father;
+        public final Person child;
+
+        public Parentship(Person mother, Person father, Person child) {
+            this.mother = mother;
+            this.father = father;
+            this.child = child;
+        }
+    }
+
+    public static class Employment {
+        public final Company employer;
+        public final Person employee;
+        public final String city;
+        public final LocalDateTime startDate;
+        public final double wage;
+        public final String currency;
+        public final String contractContent;
+        public final double contractedHours;
+
+        public Employment(Company employer, Person employee, String city, LocalDateTime startDate, double wage, String currency, String contractContent, double contractedHours) {
+            this.employer = employer;
+            this.employee = employee;
+            this.city = city;
+            this.startDate = startDate;
+            this.wage = wage;
+            this.currency = currency;
+            this.contractContent = contractContent;
+            this.contractedHours = contractedHours;
+        }
+    }
+
+    public static class Transaction {
+        public final Company seller;
+        public final Company buyer;
+        public final Product merchandise;
+        public final double value;
+        public final int productQuantity;
+        public final boolean isTaxable;
+        public final String country;
+
+        public Transaction(Company seller, Company buyer, Product merchandise, double value, int productQuantity, boolean isTaxable, String country) {
+            this.seller = seller;
+            this.buyer = buyer;
+            this.merchandise = merchandise;
+            this.value = value;
+            this.productQuantity = productQuantity;
+            this.isTaxable = isTaxable;
+            this.country = country;
+        }
+    }
+
+    public static class Friendship {
+        public final Person friend1;
+        public final Person friend2;
+        public final LocalDateTime startDate;
+
+        public Friendship(Person friend1, Person friend2, LocalDateTime startDate) {
+            this.friend1 = friend1;
+            this.friend2 = friend2;
+            this.startDate = startDate;
+        }
+    }
+
+    public Statistics statistics() {
+        return read(graph -> new Statistics(people.size(), companies.size(), products.size(), marriages.size(),
+                                            employments.size(), transactions.size(), friendships.size()));
+    }
+
+    public static class Statistics {
+        public final int people;
+        public final int companies;
+        public final int products;
+        public final int marriages;
+        public final int employments;
+        public final int transactions;
+        public final int friendships;
+
+        Statistics(int people, int companies, int products, int marriages, int employments, int transactions, int friendships) {
+            this.people = people;
+            this.companies = companies;
+            this.products = products;
+            this.marriages = marriages;
+            this.employments = employments;
+            this.transactions = transactions;
+            this.friendships = friendships;
+        }
+    }
+}
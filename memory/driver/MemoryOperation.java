@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.driver;
+
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.LogWrapper;
+import grakn.benchmark.common.driver.TransactionalDbOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A transaction against the {@link MemoryGraph}. Reads see only committed data, and writes are buffered until
+ * {@link #save()} commits them together, or discarded when the operation is closed without saving.
+ */
+public class MemoryOperation extends TransactionalDbOperation {
+
+    private final MemoryGraph graph;
+    private final LogWrapper log;
+    private final List<Consumer<MemoryGraph>> pendingWrites = new ArrayList<>();
+    private boolean closed = false;
+
+    public MemoryOperation(MemoryGraph graph, LogWrapper log, String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        super(tracker, iteration, trace, accessMode);
+        this.graph = graph;
+        this.log = log;
+    }
+
+    @Override
+    public void close() {
+        pendingWrites.clear();
+        closed = true;
+    }
+
+    @Override
+    protected void commit() {
+        throwIfClosed();
+        graph.write(pendingWrites);
+        pendingWrites.clear();
+        closed = true;
+    }
+
+    private void throwIfClosed() {
+        if (closed) {
+            throw new RuntimeException("Transaction is closed, please open a new one.");
+        }
+    }
+
+    public <T> T execute(String queryName, Function<MemoryGraph, T> query) {
+        throwIfClosed();
+        log.query(tracker, iteration, queryName);
+        return graph.read(query);
+    }
+
+    /**
+     * Buffer a write, to be applied to the graph when this operation is saved.
+     */
+    public void write(Consumer<MemoryGraph> mutation) {
+        throwIfClosed();
+        pendingWrites.add(mutation);
+    }
+}
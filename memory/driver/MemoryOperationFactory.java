@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.memory.driver;
+
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.TransactionalDbOperationFactory;
+import org.slf4j.Logger;
+
+public class MemoryOperationFactory extends TransactionalDbOperationFactory<MemoryOperation> {
+    private final MemoryGraph graph;
+
+    public MemoryOperationFactory(MemoryGraph graph, Logger logger) {
+        super(logger);
+        this.graph = graph;
+    }
+
+    @Override
+    public MemoryOperation newDbOperation(String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        return new MemoryOperation(graph, logger(), tracker, iteration, trace, accessMode);
+    }
+}
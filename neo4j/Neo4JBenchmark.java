@@ -22,6 +22,7 @@ import grakn.benchmark.common.world.World;
 import grakn.benchmark.common.yaml_tool.YAMLException;
 import grakn.benchmark.common.yaml_tool.YAMLLoader;
 import grakn.benchmark.config.Config;
+import grakn.benchmark.config.WorkloadMode;
 import grakn.benchmark.neo4j.action.Neo4jActionFactory;
 import grakn.benchmark.neo4j.driver.Neo4jDriver;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
@@ -43,6 +44,12 @@ public class Neo4JBenchmark extends grakn.benchmark.common.TransactionalBenchmar
         super(driver, initialisationDataPaths, randomSeed, world, agentConfigs, iterationSamplingFunction, test);
     }
 
+    @Override
+    public void setWorkloadMode(WorkloadMode workloadMode) {
+        super.setWorkloadMode(workloadMode);
+        driver.setWorkloadMode(workloadMode);
+    }
+
     @Override
     protected ActionFactory<Neo4jOperation, ?> actionFactory() {
         return new Neo4jActionFactory();
@@ -53,7 +60,7 @@ public class Neo4JBenchmark extends grakn.benchmark.common.TransactionalBenchmar
         Session session = driver.session("initialise");
         addKeyConstraints(session);
         cleanDatabase(session);
-        YAMLLoader loader = new Neo4jYAMLLoader(session, initialisationDataPaths);
+        YAMLLoader loader = new Neo4jYAMLLoader(driver, initialisationDataPaths);
         try {
             loader.loadFile(initialisationDataPaths.get("cypher_templates.yml").toFile());
         } catch (YAMLException | FileNotFoundException e) {
@@ -23,15 +23,24 @@ import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jArbitraryOneHopAction extends ArbitraryOneHopAction<Neo4jOperation> {
+    private CompletionStage<List<Record>> answer;
+
     public Neo4jArbitraryOneHopAction(Neo4jOperation dbOperation) {
         super(dbOperation);
     }
 
+    @Override
+    public void send() {
+        answer = dbOperation.executeAsync(new Query(query()));
+    }
+
     @Override
     public Integer run() {
-        List<Record> results = dbOperation.execute(new Query(query()));
+        if (answer == null) send();
+        List<Record> results = dbOperation.await(answer);
         return null;
     }
 
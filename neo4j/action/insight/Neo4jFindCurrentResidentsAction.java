@@ -22,15 +22,24 @@ import grakn.benchmark.neo4j.driver.Neo4jOperation;
 import org.neo4j.driver.Query;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jFindCurrentResidentsAction extends FindCurrentResidentsAction<Neo4jOperation> {
+    private CompletionStage<List<String>> answer;
+
     public Neo4jFindCurrentResidentsAction(Neo4jOperation dbOperation) {
         super(dbOperation);
     }
 
+    @Override
+    public void send() {
+        answer = dbOperation.sortedExecuteAsync(new Query(query()), "email", null);
+    }
+
     @Override
     public List<String> run() {
-        return dbOperation.sortedExecute(new Query(query()), "email", null);
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
@@ -20,17 +20,28 @@ package grakn.benchmark.neo4j.action.insight;
 import grakn.benchmark.common.action.insight.FindSpecificMarriageAction;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
 import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 public class Neo4jFindSpecificMarriageAction extends FindSpecificMarriageAction<Neo4jOperation> {
+    private CompletionStage<List<Record>> answer;
+
     public Neo4jFindSpecificMarriageAction(Neo4jOperation dbOperation) {
         super(dbOperation);
     }
 
+    @Override
+    public void send() {
+        answer = dbOperation.executeAsync(new Query(query()));
+    }
+
     @Override
     public String run() {
-        return optionalSingleResult(dbOperation.execute(new Query(query())).stream().map(ans -> ans.get("marriedTo.marriageId").asString()).collect(Collectors.toList()));
+        if (answer == null) send();
+        return optionalSingleResult(dbOperation.await(answer).stream().map(ans -> ans.get("marriedTo.marriageId").asString()).collect(Collectors.toList()));
     }
 
     public static String query() {
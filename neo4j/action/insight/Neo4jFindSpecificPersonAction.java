@@ -22,14 +22,25 @@ import grakn.benchmark.neo4j.driver.Neo4jOperation;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
 public class Neo4jFindSpecificPersonAction extends FindSpecificPersonAction<Neo4jOperation> {
+    private CompletionStage<List<Record>> answer;
+
     public Neo4jFindSpecificPersonAction(Neo4jOperation dbOperation) {
         super(dbOperation);
     }
 
+    @Override
+    public void send() {
+        answer = dbOperation.executeAsync(new Query(query()));
+    }
+
     @Override
     public String run() {
-        Record result = singleResult(dbOperation.execute(new Query(query())));
+        if (answer == null) send();
+        Record result = singleResult(dbOperation.await(answer));
         return result.get("person.email").asString();
     }
 
@@ -22,15 +22,24 @@ import grakn.benchmark.neo4j.driver.Neo4jOperation;
 import org.neo4j.driver.Query;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jFourHopAction extends FourHopAction<Neo4jOperation> {
+    private CompletionStage<List<String>> answer;
+
     public Neo4jFourHopAction(Neo4jOperation dbOperation) {
         super(dbOperation);
     }
 
+    @Override
+    public void send() {
+        answer = dbOperation.sortedExecuteAsync(new Query(query()), "seller.companyName", null);
+    }
+
     @Override
     public List<String> run() {
-        return dbOperation.sortedExecute(new Query(query()), "seller.companyName", null);
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
@@ -23,19 +23,28 @@ import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 
 public class Neo4jMeanWageOfPeopleInWorldAction extends MeanWageOfPeopleInWorldAction<Neo4jOperation> {
+    private CompletionStage<List<Record>> answer;
+
 
     public Neo4jMeanWageOfPeopleInWorldAction(Neo4jOperation dbOperation) {
         super(dbOperation);
     }
 
     @Override
-    public Double run() {
+    public void send() {
         String template = query();
-        List<Record> records = dbOperation.execute(new Query(template));
+        answer = dbOperation.executeAsync(new Query(template));
+    }
+
+    @Override
+    public Double run() {
+        if (answer == null) send();
+        List<Record> records = dbOperation.await(answer);
         return (Double) getOnlyElement(records).asMap().get("avg(employs.wage)");
     }
 
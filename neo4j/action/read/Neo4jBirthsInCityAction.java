@@ -25,19 +25,28 @@ import org.neo4j.driver.Query;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jBirthsInCityAction extends BirthsInCityAction<Neo4jOperation> {
+    private CompletionStage<List<String>> answer;
+
     public Neo4jBirthsInCityAction(Neo4jOperation dbOperation, World.City city, LocalDateTime today) {
         super(dbOperation, city, today);
     }
 
     @Override
-    public List<String> run() {
+    public void send() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("dateOfBirth", today);
             put("locationName", worldCity.name());
         }};
-        return dbOperation.sortedExecute(new Query(query(), parameters), "child.email", null);
+        answer = dbOperation.sortedExecuteAsync(new Query(query(), parameters), "child.email", null);
+    }
+
+    @Override
+    public List<String> run() {
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
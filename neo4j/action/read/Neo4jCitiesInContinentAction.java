@@ -24,19 +24,28 @@ import org.neo4j.driver.Query;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jCitiesInContinentAction extends CitiesInContinentAction<Neo4jOperation> {
+    private CompletionStage<List<String>> answer;
+
     public Neo4jCitiesInContinentAction(Neo4jOperation dbOperation, World.City city) {
         super(dbOperation, city);
     }
 
     @Override
-    public List<String> run() {
+    public void send() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("continentName", city.country().continent().name());
             put("cityName", city.name());
         }};
-        return dbOperation.sortedExecute(new Query(query(), parameters), "city.locationName", null);
+        answer = dbOperation.sortedExecuteAsync(new Query(query(), parameters), "city.locationName", null);
+    }
+
+    @Override
+    public List<String> run() {
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
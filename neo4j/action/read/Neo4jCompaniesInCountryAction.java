@@ -24,18 +24,27 @@ import org.neo4j.driver.Query;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jCompaniesInCountryAction extends CompaniesInCountryAction<Neo4jOperation> {
+    private CompletionStage<List<Long>> answer;
+
     public Neo4jCompaniesInCountryAction(Neo4jOperation dbOperation, World.Country country, int numCompanies) {
         super(dbOperation, country, numCompanies);
     }
 
     @Override
-    public List<Long> run() {
+    public void send() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("countryName", country.name());
         }};
-        return dbOperation.sortedExecute(new Query(query(), parameters), "company.companyNumber", numCompanies);
+        answer = dbOperation.sortedExecuteAsync(new Query(query(), parameters), "company.companyNumber", numCompanies);
+    }
+
+    @Override
+    public List<Long> run() {
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
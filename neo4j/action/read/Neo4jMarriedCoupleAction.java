@@ -27,21 +27,30 @@ import org.neo4j.driver.Record;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import static java.util.stream.Collectors.toList;
 
 public class Neo4jMarriedCoupleAction extends MarriedCoupleAction<Neo4jOperation> {
+    private CompletionStage<List<Record>> answer;
+
     public Neo4jMarriedCoupleAction(Neo4jOperation dbOperation, World.City city, LocalDateTime today) {
         super(dbOperation, city, today);
     }
 
     @Override
-    public List<HashMap<SpouseType, String>> run() {
+    public void send() {
         String template = query();
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("locationName", city.name());
         }};
-        List<Record> records = dbOperation.execute(new Query(template, parameters));
+        answer = dbOperation.executeAsync(new Query(template, parameters));
+    }
+
+    @Override
+    public List<HashMap<SpouseType, String>> run() {
+        if (answer == null) send();
+        List<Record> records = dbOperation.await(answer);
         return records.stream().map(Record::asMap).map(r -> new HashMap<SpouseType, String>() {{
             put(SpouseType.WIFE, r.get("wife.email").toString());
             put(SpouseType.HUSBAND, r.get("husband.email").toString());
@@ -24,19 +24,28 @@ import org.neo4j.driver.Query;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jProductsInContinentAction extends ProductsInContinentAction<Neo4jOperation> {
+    private CompletionStage<List<Long>> answer;
+
 
     public Neo4jProductsInContinentAction(Neo4jOperation dbOperation, World.Continent continent) {
         super(dbOperation, continent);
     }
 
     @Override
-    public List<Long> run() {
+    public void send() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("continentName", continent.name());
         }};
-        return dbOperation.sortedExecute(new Query(query(), parameters), "product.barcode", null);
+        answer = dbOperation.sortedExecuteAsync(new Query(query(), parameters), "product.barcode", null);
+    }
+
+    @Override
+    public List<Long> run() {
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
@@ -25,21 +25,30 @@ import org.neo4j.driver.Query;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public class Neo4jResidentsInCityAction extends ResidentsInCityAction<Neo4jOperation> {
+    private CompletionStage<List<String>> answer;
+
 
     public Neo4jResidentsInCityAction(Neo4jOperation dbOperation, World.City city, int numResidents, LocalDateTime earliestDate) {
         super(dbOperation, city, numResidents, earliestDate);
     }
 
     @Override
-    public List<String> run() {
+    public void send() {
         String template = query();
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("locationName", city.name());
             put("earliestDate", earliestDate);
         }};
-        return dbOperation.sortedExecute(new Query(template, parameters), "email", numResidents);
+        answer = dbOperation.sortedExecuteAsync(new Query(template, parameters), "email", numResidents);
+    }
+
+    @Override
+    public List<String> run() {
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
@@ -25,23 +25,32 @@ import org.neo4j.driver.Query;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import static grakn.benchmark.neo4j.action.Model.GENDER;
 import static grakn.benchmark.neo4j.action.Model.LOCATION_NAME;
 
 public class Neo4jUnmarriedPeopleInCityAction extends UnmarriedPeopleInCityAction<Neo4jOperation> {
+    private CompletionStage<List<String>> answer;
+
     public Neo4jUnmarriedPeopleInCityAction(Neo4jOperation dbOperation, World.City city, String gender, LocalDateTime dobOfAdults) {
         super(dbOperation, city, gender, dobOfAdults);
     }
 
     @Override
-    public List<String> run() {
+    public void send() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put(LOCATION_NAME, city.name());
             put(GENDER, gender);
             put("dobOfAdults", dobOfAdults);
         }};
-        return dbOperation.sortedExecute(new Query(query(), parameters), "email", null);
+        answer = dbOperation.sortedExecuteAsync(new Query(query(), parameters), "email", null);
+    }
+
+    @Override
+    public List<String> run() {
+        if (answer == null) send();
+        return dbOperation.await(answer);
     }
 
     public static String query() {
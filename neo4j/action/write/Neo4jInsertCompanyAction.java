@@ -17,12 +17,10 @@
 
 package grakn.benchmark.neo4j.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertCompanyAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -32,37 +30,38 @@ import static grakn.benchmark.neo4j.action.Model.COMPANY_NUMBER;
 import static grakn.benchmark.neo4j.action.Model.DATE_OF_INCORPORATION;
 import static grakn.benchmark.neo4j.action.Model.LOCATION_NAME;
 
-public class Neo4jInsertCompanyAction extends InsertCompanyAction<Neo4jOperation, Record> {
+public class Neo4jInsertCompanyAction extends InsertCompanyAction<Neo4jOperation, PendingRecord> {
 
     public Neo4jInsertCompanyAction(Neo4jOperation dbOperation, World.Country country, LocalDateTime today, int companyNumber, String companyName) {
         super(dbOperation, country, today, companyNumber, companyName);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("countryName", country.name());
             put("companyNumber", companyNumber);
             put("companyName", companyName);
             put("dateOfIncorporation", today);
         }};
-        return Action.singleResult(dbOperation.execute(new Query(query(), parameters)));
+        return dbOperation.executeBatched(query(), parameters);
     }
 
     public static String query() {
-        return "MATCH (country:Country {locationName: $countryName})\n" +
-                "CREATE (company:Company {companyNumber: $companyNumber, companyName: $companyName})-[incorporation:INCORPORATED_IN {dateOfIncorporation: $dateOfIncorporation}]->(country)" +
-                "RETURN company.companyName, company.companyNumber, country.locationName, incorporation.dateOfIncorporation";
+        return "UNWIND $rows AS row\n" +
+                "MATCH (country:Country {locationName: row.countryName})\n" +
+                "CREATE (company:Company {companyNumber: row.companyNumber, companyName: row.companyName})-[incorporation:INCORPORATED_IN {dateOfIncorporation: row.dateOfIncorporation}]->(country)" +
+                "RETURN row.rowIndex AS rowIndex, company.companyName, company.companyNumber, country.locationName, incorporation.dateOfIncorporation";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertCompanyActionField.COMPANY_NAME, answer.asMap().get("company." + COMPANY_NAME));
-                put(InsertCompanyActionField.COMPANY_NUMBER, answer.asMap().get("company." + COMPANY_NUMBER));
-                put(InsertCompanyActionField.COUNTRY, answer.asMap().get("country." + LOCATION_NAME));
-                put(InsertCompanyActionField.DATE_OF_INCORPORATION, answer.asMap().get("incorporation." + DATE_OF_INCORPORATION));
+                put(InsertCompanyActionField.COMPANY_NAME, answer.get().asMap().get("company." + COMPANY_NAME));
+                put(InsertCompanyActionField.COMPANY_NUMBER, answer.get().asMap().get("company." + COMPANY_NUMBER));
+                put(InsertCompanyActionField.COUNTRY, answer.get().asMap().get("country." + LOCATION_NAME));
+                put(InsertCompanyActionField.DATE_OF_INCORPORATION, answer.get().asMap().get("incorporation." + DATE_OF_INCORPORATION));
             }
         };
     }
@@ -20,8 +20,7 @@ package grakn.benchmark.neo4j.action.write;
 import grakn.benchmark.common.action.write.InsertEmploymentAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -35,13 +34,13 @@ import static grakn.benchmark.neo4j.action.Model.LOCATION_NAME;
 import static grakn.benchmark.neo4j.action.Model.START_DATE;
 import static grakn.benchmark.neo4j.action.Model.WAGE;
 
-public class Neo4jInsertEmploymentAction extends InsertEmploymentAction<Neo4jOperation, Record> {
+public class Neo4jInsertEmploymentAction extends InsertEmploymentAction<Neo4jOperation, PendingRecord> {
     public Neo4jInsertEmploymentAction(Neo4jOperation dbOperation, World.City worldCity, String employeeEmail, long companyNumber, LocalDateTime employmentDate, double wageValue, String contractContent, double contractedHours) {
         super(dbOperation, worldCity, employeeEmail, companyNumber, employmentDate, wageValue, contractContent, contractedHours);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("locationName", worldCity.name());
             put("email", employeeEmail);
@@ -51,36 +50,37 @@ public class Neo4jInsertEmploymentAction extends InsertEmploymentAction<Neo4jOpe
             put("contractContent", contractContent);
             put("contractedHours", contractedHours);
         }};
-        return singleResult(dbOperation.execute(new Query(query(), parameters)));
+        return dbOperation.executeBatched(query(), parameters);
     }
 
     public static String query() {
-        return "MATCH (city:City {locationName: $locationName})-[:LOCATED_IN]->(country:Country),\n" +
-                "(person:Person {email: $email}),\n" +
-                "(company:Company {companyNumber: $companyNumber})\n" +
+        return "UNWIND $rows AS row\n" +
+                "MATCH (city:City {locationName: row.locationName})-[:LOCATED_IN]->(country:Country),\n" +
+                "(person:Person {email: row.email}),\n" +
+                "(company:Company {companyNumber: row.companyNumber})\n" +
                 "CREATE (company)-[employs:EMPLOYS {\n" +
-                "   startDate: $startDate,\n" +
-                "   wage: $wage,\n" +
+                "   startDate: row.startDate,\n" +
+                "   wage: row.wage,\n" +
                 "   currency: country.currency,\n" +
                 "   locationName: city.locationName,\n" +
-                "   contractContent: $contractContent,\n" +
-                "   contractedHours: $contractedHours}\n" +
+                "   contractContent: row.contractContent,\n" +
+                "   contractedHours: row.contractedHours}\n" +
                 "]->(person)\n" +
-                "RETURN city.locationName, person.email, company.companyNumber, country.locationName, \n" +
+                "RETURN row.rowIndex AS rowIndex, city.locationName, person.email, company.companyNumber, country.locationName, \n" +
                 "employs.startDate, employs.wage, employs.currency, employs.contractContent, employs.contractedHours";
     }
 
     @Override
-    public HashMap<ComparableField, Object> outputForReport(Record answer) {
+    public HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertEmploymentActionField.CITY_NAME, answer.asMap().get("city." + LOCATION_NAME));
-            put(InsertEmploymentActionField.PERSON_EMAIL, answer.asMap().get("person." + EMAIL));
-            put(InsertEmploymentActionField.COMPANY_NUMBER, answer.asMap().get("company." + COMPANY_NUMBER));
-            put(InsertEmploymentActionField.START_DATE, answer.asMap().get("employs." + START_DATE));
-            put(InsertEmploymentActionField.WAGE, answer.asMap().get("employs." + WAGE));
-            put(InsertEmploymentActionField.CURRENCY, answer.asMap().get("employs." + CURRENCY));
-            put(InsertEmploymentActionField.CONTRACT_CONTENT, answer.asMap().get("employs." + CONTRACT_CONTENT));
-            put(InsertEmploymentActionField.CONTRACTED_HOURS, answer.asMap().get("employs." + CONTRACTED_HOURS));
+            put(InsertEmploymentActionField.CITY_NAME, answer.get().asMap().get("city." + LOCATION_NAME));
+            put(InsertEmploymentActionField.PERSON_EMAIL, answer.get().asMap().get("person." + EMAIL));
+            put(InsertEmploymentActionField.COMPANY_NUMBER, answer.get().asMap().get("company." + COMPANY_NUMBER));
+            put(InsertEmploymentActionField.START_DATE, answer.get().asMap().get("employs." + START_DATE));
+            put(InsertEmploymentActionField.WAGE, answer.get().asMap().get("employs." + WAGE));
+            put(InsertEmploymentActionField.CURRENCY, answer.get().asMap().get("employs." + CURRENCY));
+            put(InsertEmploymentActionField.CONTRACT_CONTENT, answer.get().asMap().get("employs." + CONTRACT_CONTENT));
+            put(InsertEmploymentActionField.CONTRACTED_HOURS, answer.get().asMap().get("employs." + CONTRACTED_HOURS));
         }};
     }
 }
@@ -20,8 +20,8 @@ package grakn.benchmark.neo4j.action.write;
 import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertFriendshipAction;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -29,20 +29,20 @@ import java.util.HashMap;
 import static grakn.benchmark.neo4j.action.Model.EMAIL;
 import static grakn.benchmark.neo4j.action.Model.START_DATE;
 
-public class Neo4jInsertFriendshipAction extends InsertFriendshipAction<Neo4jOperation, Record> {
+public class Neo4jInsertFriendshipAction extends InsertFriendshipAction<Neo4jOperation, PendingRecord> {
 
     public Neo4jInsertFriendshipAction(Neo4jOperation dbOperation, LocalDateTime today, String friend1Email, String friend2Email) {
         super(dbOperation, today, friend1Email, friend2Email);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("p1Email", friend1Email);
             put("p2Email", friend2Email);
             put("startDate", today);
         }};
-        return Action.optionalSingleResult(dbOperation.execute(new Query(query(), parameters)));
+        return PendingRecord.of(Action.optionalSingleResult(dbOperation.execute(new Query(query(), parameters))));
     }
 
     public static String query() {
@@ -55,12 +55,12 @@ public class Neo4jInsertFriendshipAction extends InsertFriendshipAction<Neo4jOpe
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertFriendshipActionField.FRIEND1_EMAIL, answer.asMap().get("p1." + EMAIL));
-                put(InsertFriendshipActionField.FRIEND2_EMAIL, answer.asMap().get("p2." + EMAIL));
-                put(InsertFriendshipActionField.START_DATE, answer.asMap().get("friendOf." + START_DATE));
+                put(InsertFriendshipActionField.FRIEND1_EMAIL, answer.get().asMap().get("p1." + EMAIL));
+                put(InsertFriendshipActionField.FRIEND2_EMAIL, answer.get().asMap().get("p2." + EMAIL));
+                put(InsertFriendshipActionField.START_DATE, answer.get().asMap().get("friendOf." + START_DATE));
             }
         };
     }
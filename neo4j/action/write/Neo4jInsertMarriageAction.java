@@ -17,12 +17,10 @@
 
 package grakn.benchmark.neo4j.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertMarriageAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.util.HashMap;
 
@@ -30,36 +28,37 @@ import static grakn.benchmark.neo4j.action.Model.EMAIL;
 import static grakn.benchmark.neo4j.action.Model.LOCATION_NAME;
 import static grakn.benchmark.neo4j.action.Model.MARRIAGE_ID;
 
-public class Neo4jInsertMarriageAction extends InsertMarriageAction<Neo4jOperation, Record> {
+public class Neo4jInsertMarriageAction extends InsertMarriageAction<Neo4jOperation, PendingRecord> {
 
     public Neo4jInsertMarriageAction(Neo4jOperation dbOperation, World.City city, int marriageIdentifier, String wifeEmail, String husbandEmail) {
         super(dbOperation, city, marriageIdentifier, wifeEmail, husbandEmail);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put(MARRIAGE_ID, marriageIdentifier);
             put("wifeEmail", wifeEmail);
             put("husbandEmail", husbandEmail);
             put(LOCATION_NAME, worldCity.name());
         }};
-        return Action.singleResult(dbOperation.execute(new Query(query(), parameters)));
+        return dbOperation.executeBatched(query(), parameters);
     }
 
     public static String query() {
-        return "MATCH (wife:Person {email: $wifeEmail}), (husband:Person {email: $husbandEmail}), (city:City {locationName: $locationName})\n" +
-                "CREATE (husband)-[marriage:MARRIED_TO {marriageId: $marriageId, locationName: city.locationName}]->(wife)" +
-                "RETURN marriage.marriageId, husband.email, wife.email, city.locationName";
+        return "UNWIND $rows AS row\n" +
+                "MATCH (wife:Person {email: row.wifeEmail}), (husband:Person {email: row.husbandEmail}), (city:City {locationName: row.locationName})\n" +
+                "CREATE (husband)-[marriage:MARRIED_TO {marriageId: row.marriageId, locationName: city.locationName}]->(wife)" +
+                "RETURN row.rowIndex AS rowIndex, marriage.marriageId, husband.email, wife.email, city.locationName";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertMarriageActionField.MARRIAGE_IDENTIFIER, answer.asMap().get("marriage." + MARRIAGE_ID));
-            put(InsertMarriageActionField.WIFE_EMAIL, answer.asMap().get("wife." + EMAIL));
-            put(InsertMarriageActionField.HUSBAND_EMAIL, answer.asMap().get("husband." + EMAIL));
-            put(InsertMarriageActionField.CITY_NAME, answer.asMap().get("city." + LOCATION_NAME));
+            put(InsertMarriageActionField.MARRIAGE_IDENTIFIER, answer.get().asMap().get("marriage." + MARRIAGE_ID));
+            put(InsertMarriageActionField.WIFE_EMAIL, answer.get().asMap().get("wife." + EMAIL));
+            put(InsertMarriageActionField.HUSBAND_EMAIL, answer.get().asMap().get("husband." + EMAIL));
+            put(InsertMarriageActionField.CITY_NAME, answer.get().asMap().get("city." + LOCATION_NAME));
         }};
     }
 }
@@ -17,46 +17,45 @@
 
 package grakn.benchmark.neo4j.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.SpouseType;
 import grakn.benchmark.common.action.write.InsertParentShipAction;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.util.HashMap;
 
 import static grakn.benchmark.neo4j.action.Model.EMAIL;
 
-public class Neo4jInsertParentShipAction extends InsertParentShipAction<Neo4jOperation, Record> {
+public class Neo4jInsertParentShipAction extends InsertParentShipAction<Neo4jOperation, PendingRecord> {
     public Neo4jInsertParentShipAction(Neo4jOperation dbOperation, HashMap<SpouseType, String> marriage, String childEmail) {
         super(dbOperation, marriage, childEmail);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("motherEmail", marriage.get(SpouseType.WIFE));
             put("fatherEmail", marriage.get(SpouseType.HUSBAND));
             put("childEmail", childEmail);
         }};
-        return Action.singleResult(dbOperation.execute(new Query(query(), parameters)));
+        return dbOperation.executeBatched(query(), parameters);
     }
 
     public static String query() {
-        return "MATCH (mother:Person {email: $motherEmail}), (father:Person {email: $fatherEmail}),\n" +
-                "(child:Person {email: $childEmail})\n" +
+        return "UNWIND $rows AS row\n" +
+                "MATCH (mother:Person {email: row.motherEmail}), (father:Person {email: row.fatherEmail}),\n" +
+                "(child:Person {email: row.childEmail})\n" +
                 "CREATE (father)<-[:CHILD_OF]-(child)-[:CHILD_OF]->(mother)\n" +
-                "RETURN mother.email, father.email, child.email";
+                "RETURN row.rowIndex AS rowIndex, mother.email, father.email, child.email";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertParentShipActionField.WIFE_EMAIL, answer.asMap().get("mother." + EMAIL));
-                put(InsertParentShipActionField.HUSBAND_EMAIL, answer.asMap().get("father." + EMAIL));
-                put(InsertParentShipActionField.CHILD_EMAIL, answer.asMap().get("child." + EMAIL));
+                put(InsertParentShipActionField.WIFE_EMAIL, answer.get().asMap().get("mother." + EMAIL));
+                put(InsertParentShipActionField.HUSBAND_EMAIL, answer.get().asMap().get("father." + EMAIL));
+                put(InsertParentShipActionField.CHILD_EMAIL, answer.get().asMap().get("child." + EMAIL));
             }
         };
     }
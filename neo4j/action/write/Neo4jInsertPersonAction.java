@@ -17,12 +17,10 @@
 
 package grakn.benchmark.neo4j.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertPersonAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -34,13 +32,13 @@ import static grakn.benchmark.neo4j.action.Model.GENDER;
 import static grakn.benchmark.neo4j.action.Model.LOCATION_NAME;
 import static grakn.benchmark.neo4j.action.Model.SURNAME;
 
-public class Neo4jInsertPersonAction extends InsertPersonAction<Neo4jOperation, Record> {
+public class Neo4jInsertPersonAction extends InsertPersonAction<Neo4jOperation, PendingRecord> {
     public Neo4jInsertPersonAction(Neo4jOperation dbOperation, World.City city, LocalDateTime today, String email, String gender, String forename, String surname) {
         super(dbOperation, city, today, email, gender, forename, surname);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put(LOCATION_NAME, worldCity.name());
             put(EMAIL, email);
@@ -49,30 +47,31 @@ public class Neo4jInsertPersonAction extends InsertPersonAction<Neo4jOperation,
             put(FORENAME, forename);
             put(SURNAME, surname);
         }};
-        return Action.singleResult(dbOperation.execute(new Query(query(), parameters)));
+        return dbOperation.executeBatched(query(), parameters);
     }
 
     public static String query() {
-        return "MATCH (c:City {locationName: $locationName})" +
+        return "UNWIND $rows AS row\n" +
+                "MATCH (c:City {locationName: row.locationName})" +
                 "CREATE (person:Person {" +
-                "email: $email, " +
-                "dateOfBirth: $dateOfBirth, " +
-                "gender: $gender, " +
-                "forename: $forename, " +
-                "surname: $surname" +
+                "email: row.email, " +
+                "dateOfBirth: row.dateOfBirth, " +
+                "gender: row.gender, " +
+                "forename: row.forename, " +
+                "surname: row.surname" +
                 "})-[:BORN_IN]->(c)" +
-                "RETURN person.email, person.dateOfBirth, person.gender, person.forename, person.surname";
+                "RETURN row.rowIndex AS rowIndex, person.email, person.dateOfBirth, person.gender, person.forename, person.surname";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {
             {
-                put(InsertPersonActionField.EMAIL, answer.asMap().get("person." + EMAIL));
-                put(InsertPersonActionField.DATE_OF_BIRTH, answer.asMap().get("person." + DATE_OF_BIRTH));
-                put(InsertPersonActionField.GENDER, answer.asMap().get("person." + GENDER));
-                put(InsertPersonActionField.FORENAME, answer.asMap().get("person." + FORENAME));
-                put(InsertPersonActionField.SURNAME, answer.asMap().get("person." + SURNAME));
+                put(InsertPersonActionField.EMAIL, answer.get().asMap().get("person." + EMAIL));
+                put(InsertPersonActionField.DATE_OF_BIRTH, answer.get().asMap().get("person." + DATE_OF_BIRTH));
+                put(InsertPersonActionField.GENDER, answer.get().asMap().get("person." + GENDER));
+                put(InsertPersonActionField.FORENAME, answer.get().asMap().get("person." + FORENAME));
+                put(InsertPersonActionField.SURNAME, answer.get().asMap().get("person." + SURNAME));
             }
         };
     }
@@ -20,8 +20,7 @@ package grakn.benchmark.neo4j.action.write;
 import grakn.benchmark.common.action.write.InsertProductAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.util.HashMap;
 
@@ -30,13 +29,13 @@ import static grakn.benchmark.neo4j.action.Model.PRODUCT_BARCODE;
 import static grakn.benchmark.neo4j.action.Model.PRODUCT_DESCRIPTION;
 import static grakn.benchmark.neo4j.action.Model.PRODUCT_NAME;
 
-public class Neo4jInsertProductAction extends InsertProductAction<Neo4jOperation, Record> {
+public class Neo4jInsertProductAction extends InsertProductAction<Neo4jOperation, PendingRecord> {
     public Neo4jInsertProductAction(Neo4jOperation dbOperation, World.Continent continent, Long barcode, String productName, String productDescription) {
         super(dbOperation, continent, barcode, productName, productDescription);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         String template = query();
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("continentName", continent.name());
@@ -44,26 +43,27 @@ public class Neo4jInsertProductAction extends InsertProductAction<Neo4jOperation
             put("productName", productName);
             put("description", productDescription);
         }};
-        return singleResult(dbOperation.execute(new Query(template, parameters)));
+        return dbOperation.executeBatched(template, parameters);
     }
 
     public static String query() {
-        return "MATCH (continent:Continent {locationName: $continentName})\n" +
+        return "UNWIND $rows AS row\n" +
+                "MATCH (continent:Continent {locationName: row.continentName})\n" +
                 "CREATE (product:Product {\n" +
-                "   barcode: $barcode,\n" +
-                "   name: $productName,\n" +
-                "   description: $description\n" +
+                "   barcode: row.barcode,\n" +
+                "   name: row.productName,\n" +
+                "   description: row.description\n" +
                 "})-[:PRODUCED_IN]->(continent)\n" +
-                "RETURN product.barcode, product.name, product.description, continent.locationName";
+                "RETURN row.rowIndex AS rowIndex, product.barcode, product.name, product.description, continent.locationName";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertProductActionField.PRODUCT_BARCODE, answer.asMap().get("product." + PRODUCT_BARCODE));
-            put(InsertProductActionField.PRODUCT_NAME, answer.asMap().get("product." + PRODUCT_NAME));
-            put(InsertProductActionField.PRODUCT_DESCRIPTION, answer.asMap().get("product." + PRODUCT_DESCRIPTION));
-            put(InsertProductActionField.CONTINENT, answer.asMap().get("continent." + LOCATION_NAME));
+            put(InsertProductActionField.PRODUCT_BARCODE, answer.get().asMap().get("product." + PRODUCT_BARCODE));
+            put(InsertProductActionField.PRODUCT_NAME, answer.get().asMap().get("product." + PRODUCT_NAME));
+            put(InsertProductActionField.PRODUCT_DESCRIPTION, answer.get().asMap().get("product." + PRODUCT_DESCRIPTION));
+            put(InsertProductActionField.CONTINENT, answer.get().asMap().get("continent." + LOCATION_NAME));
         }};
     }
 }
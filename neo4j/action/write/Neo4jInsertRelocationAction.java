@@ -17,12 +17,10 @@
 
 package grakn.benchmark.neo4j.action.write;
 
-import grakn.benchmark.common.action.Action;
 import grakn.benchmark.common.action.write.InsertRelocationAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -31,13 +29,13 @@ import static grakn.benchmark.neo4j.action.Model.EMAIL;
 import static grakn.benchmark.neo4j.action.Model.LOCATION_NAME;
 import static grakn.benchmark.neo4j.action.Model.RELOCATION_DATE;
 
-public class Neo4jInsertRelocationAction extends InsertRelocationAction<Neo4jOperation, Record> {
+public class Neo4jInsertRelocationAction extends InsertRelocationAction<Neo4jOperation, PendingRecord> {
     public Neo4jInsertRelocationAction(Neo4jOperation dbOperation, World.City city, LocalDateTime today, String relocateeEmail, String relocationCityName) {
         super(dbOperation, city, today, relocateeEmail, relocationCityName);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         // This raises questions over whether the person's ResidentOf end-date should be updated in this step, or
         // figured out at query-time, which would be more in-line with Grakn
 
@@ -49,22 +47,23 @@ public class Neo4jInsertRelocationAction extends InsertRelocationAction<Neo4jOpe
             put("newCityName", relocationCityName);
             put("relocationDate", today);
         }};
-        return Action.singleResult(dbOperation.execute(new Query(createRelocationQuery(), parameters)));
+        return dbOperation.executeBatched(createRelocationQuery(), parameters);
     }
 
     public static String createRelocationQuery() {
         // Not making this ternary is losing the information of where the person if relocating from
-        return "MATCH (person:Person {email: $email}), (newCity:City {locationName: $newCityName})\n" +
-                "CREATE (person)-[relocatedTo:RELOCATED_TO {relocationDate:$relocationDate}]->(newCity)" +
-                "RETURN person.email, newCity.locationName, relocatedTo.relocationDate";
+        return "UNWIND $rows AS row\n" +
+                "MATCH (person:Person {email: row.email}), (newCity:City {locationName: row.newCityName})\n" +
+                "CREATE (person)-[relocatedTo:RELOCATED_TO {relocationDate:row.relocationDate}]->(newCity)" +
+                "RETURN row.rowIndex AS rowIndex, person.email, newCity.locationName, relocatedTo.relocationDate";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertRelocationActionField.PERSON_EMAIL, answer.asMap().get("person." + EMAIL));
-            put(InsertRelocationActionField.NEW_CITY_NAME, answer.asMap().get("newCity." + LOCATION_NAME));
-            put(InsertRelocationActionField.RELOCATION_DATE, answer.asMap().get("relocatedTo." + RELOCATION_DATE));
+            put(InsertRelocationActionField.PERSON_EMAIL, answer.get().asMap().get("person." + EMAIL));
+            put(InsertRelocationActionField.NEW_CITY_NAME, answer.get().asMap().get("newCity." + LOCATION_NAME));
+            put(InsertRelocationActionField.RELOCATION_DATE, answer.get().asMap().get("relocatedTo." + RELOCATION_DATE));
         }};
     }
 }
@@ -21,20 +21,19 @@ import grakn.benchmark.common.action.write.InsertTransactionAction;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.neo4j.action.Model;
 import grakn.benchmark.neo4j.driver.Neo4jOperation;
+import grakn.benchmark.neo4j.driver.PendingRecord;
 import grakn.common.collection.Pair;
-import org.neo4j.driver.Query;
-import org.neo4j.driver.Record;
 
 import java.util.HashMap;
 
-public class Neo4jInsertTransactionAction extends InsertTransactionAction<Neo4jOperation, Record> {
+public class Neo4jInsertTransactionAction extends InsertTransactionAction<Neo4jOperation, PendingRecord> {
 
     public Neo4jInsertTransactionAction(Neo4jOperation dbOperation, World.Country country, Pair<Long, Long> transaction, Long sellerCompanyNumber, double value, int productQuantity, boolean isTaxable) {
         super(dbOperation, country, transaction, sellerCompanyNumber, value, productQuantity, isTaxable);
     }
 
     @Override
-    public Record run() {
+    public PendingRecord run() {
         HashMap<String, Object> parameters = new HashMap<String, Object>() {{
             put("barcode", transaction.second());
             put("buyerNumber", transaction.first());
@@ -44,36 +43,37 @@ public class Neo4jInsertTransactionAction extends InsertTransactionAction<Neo4jO
             put("productQuantity", productQuantity);
             put("isTaxable", isTaxable);
         }};
-        return singleResult(dbOperation.execute(new Query(query(), parameters)));
+        return dbOperation.executeBatched(query(), parameters);
     }
 
     public static String query() {
-        return "MATCH (product:Product {barcode: $barcode}),\n" +
-                "(buyer:Company {companyNumber: $buyerNumber}),\n" +
-                "(seller:Company {companyNumber: $sellerNumber}),\n" +
-                "(country:Country {locationName: $countryName})\n" +
+        return "UNWIND $rows AS row\n" +
+                "MATCH (product:Product {barcode: row.barcode}),\n" +
+                "(buyer:Company {companyNumber: row.buyerNumber}),\n" +
+                "(seller:Company {companyNumber: row.sellerNumber}),\n" +
+                "(country:Country {locationName: row.countryName})\n" +
                 "CREATE (transaction:Transaction{\n" +
-                "   value: $value,\n" +
-                "   productQuantity: $productQuantity,\n" +
-                "   isTaxable: $isTaxable,\n" +
+                "   value: row.value,\n" +
+                "   productQuantity: row.productQuantity,\n" +
+                "   isTaxable: row.isTaxable,\n" +
                 "   locationName: country.locationName\n" + // This could be a relation, but would be inconsistent with how location is represented elsewhere
                 "}),\n" +
                 "(transaction)-[:SELLER]->(seller)," +
                 "(transaction)-[:BUYER]->(buyer)," +
                 "(transaction)-[:MERCHANDISE]->(product)\n" +
-                "RETURN seller.companyNumber, buyer.companyNumber, product.barcode, transaction.value, transaction.productQuantity, transaction.isTaxable, country.locationName";
+                "RETURN row.rowIndex AS rowIndex, seller.companyNumber, buyer.companyNumber, product.barcode, transaction.value, transaction.productQuantity, transaction.isTaxable, country.locationName";
     }
 
     @Override
-    protected HashMap<ComparableField, Object> outputForReport(Record answer) {
+    protected HashMap<ComparableField, Object> outputForReport(PendingRecord answer) {
         return new HashMap<ComparableField, Object>() {{
-            put(InsertTransactionActionField.SELLER, answer.asMap().get("seller." + Model.COMPANY_NUMBER));
-            put(InsertTransactionActionField.BUYER, answer.asMap().get("buyer." + Model.COMPANY_NUMBER));
-            put(InsertTransactionActionField.MERCHANDISE, answer.asMap().get("product." + Model.PRODUCT_BARCODE));
-            put(InsertTransactionActionField.VALUE, answer.asMap().get("transaction." + Model.VALUE));
-            put(InsertTransactionActionField.PRODUCT_QUANTITY, answer.asMap().get("transaction." + Model.PRODUCT_QUANTITY));
-            put(InsertTransactionActionField.IS_TAXABLE, answer.asMap().get("transaction." + Model.IS_TAXABLE));
-            put(InsertTransactionActionField.COUNTRY, answer.asMap().get("country." + Model.LOCATION_NAME));
+            put(InsertTransactionActionField.SELLER, answer.get().asMap().get("seller." + Model.COMPANY_NUMBER));
+            put(InsertTransactionActionField.BUYER, answer.get().asMap().get("buyer." + Model.COMPANY_NUMBER));
+            put(InsertTransactionActionField.MERCHANDISE, answer.get().asMap().get("product." + Model.PRODUCT_BARCODE));
+            put(InsertTransactionActionField.VALUE, answer.get().asMap().get("transaction." + Model.VALUE));
+            put(InsertTransactionActionField.PRODUCT_QUANTITY, answer.get().asMap().get("transaction." + Model.PRODUCT_QUANTITY));
+            put(InsertTransactionActionField.IS_TAXABLE, answer.get().asMap().get("transaction." + Model.IS_TAXABLE));
+            put(InsertTransactionActionField.COUNTRY, answer.get().asMap().get("country." + Model.LOCATION_NAME));
         }};
     }
 }
@@ -21,6 +21,8 @@ import grabl.tracing.client.GrablTracingThreadStatic;
 import grakn.benchmark.common.driver.DbOperationFactory;
 import grakn.benchmark.common.driver.TransactionalDbDriver;
 import grakn.benchmark.common.world.Region;
+import grakn.benchmark.config.Neo4jExecution;
+import grakn.benchmark.config.WorkloadMode;
 import org.neo4j.driver.*;
 import org.slf4j.Logger;
 
@@ -35,10 +37,21 @@ import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.O
 public class Neo4jDriver extends TransactionalDbDriver<org.neo4j.driver.Transaction, org.neo4j.driver.Session, Neo4jOperation> {
 
     private final Driver driver;
+    private final Neo4jExecution execution;
     private final ConcurrentHashMap<String, org.neo4j.driver.Session> sessionMap = new ConcurrentHashMap<>();
+    private volatile boolean sessionPerAgent = false;
 
     public Neo4jDriver(String hostUri) {
+        this(hostUri, Neo4jExecution.BLOCKING);
+    }
+
+    /**
+     * @param execution Whether operations run their queries on blocking sessions, or each transaction on an async session
+     *                  of its own, so that the queries of a region can be in flight together
+     */
+    public Neo4jDriver(String hostUri, Neo4jExecution execution) {
         this.driver = GraphDatabase.driver(hostUri, AuthTokens.basic("neo4j", "admin"));
+        this.execution = execution;
     }
 
     @Override
@@ -50,6 +63,14 @@ public class Neo4jDriver extends TransactionalDbDriver<org.neo4j.driver.Transact
         });
     }
 
+    /**
+     * Keep a blocking session per agent in each region when the agents of a region run at once, as a session is used
+     * by one thread at a time, and otherwise one session per region.
+     */
+    public void setWorkloadMode(WorkloadMode workloadMode) {
+        sessionPerAgent = workloadMode == WorkloadMode.MIXED;
+    }
+
     @Override
     public void closeSessions() {
         for (org.neo4j.driver.Session session : sessionMap.values()) {
@@ -93,7 +114,8 @@ public class Neo4jDriver extends TransactionalDbDriver<org.neo4j.driver.Transact
     }
 
     @Override
-    public DbOperationFactory<Neo4jOperation> getDbOperationFactory(Region region, Logger logger) {
-        return new Neo4jOperationFactory(session(region.name()), logger);
+    public DbOperationFactory<Neo4jOperation> getDbOperationFactory(String agentName, Region region, Logger logger) {
+        if (execution == Neo4jExecution.ASYNC) return new Neo4jOperationFactory(driver::asyncSession, logger);
+        return new Neo4jOperationFactory(session(sessionPerAgent ? agentName + "/" + region.name() : region.name()), logger);
     }
 }
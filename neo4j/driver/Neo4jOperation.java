@@ -17,56 +17,489 @@
 
 package grakn.benchmark.neo4j.driver;
 
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.LogWrapper;
+import grakn.benchmark.common.driver.TransactionalDbDriver;
 import grakn.benchmark.common.driver.TransactionalDbOperation;
+import grakn.benchmark.common.jfr.DbOperationEvent;
+import grakn.benchmark.common.utils.LatencyRecorder;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.TransactionWork;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransactionWork;
+import org.neo4j.driver.async.ResultCursor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.COMMIT_TRANSACTION;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.DRAIN;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.EXECUTE;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.OPEN_TRANSACTION;
+import static grakn.benchmark.common.driver.TransactionalDbDriver.TracingLabel.SORTED_EXECUTE;
+
 public class Neo4jOperation extends TransactionalDbOperation {
 
+    private static final String ROWS = "rows";
+    private static final String ROW_INDEX = "rowIndex";
+    private static final Pattern UNION = Pattern.compile("\\bUNION\\b");
+    private static final Pattern TRAILING_SEMICOLON = Pattern.compile(";\\s*$");
+    private static final String LIMIT = "resultLimit";
+
     private final Session session;
+    private final Supplier<AsyncSession> asyncSessions;
     private final LogWrapper log;
+    private final List<Batch> batches = new ArrayList<>();
+    private final List<InFlight<?>> inFlight = new ArrayList<>();
+
+    public Neo4jOperation(Session session, LogWrapper log, String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        this(session, null, log, tracker, iteration, trace, accessMode);
+    }
+
+    /**
+     * @param asyncSessions Opens an async session for each transaction the operation runs, so that its queries can be
+     *                      in flight together
+     */
+    public Neo4jOperation(Supplier<AsyncSession> asyncSessions, LogWrapper log, String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        this(null, asyncSessions, log, tracker, iteration, trace, accessMode);
+    }
 
-    public Neo4jOperation(Session session, LogWrapper log, String tracker, long iteration, boolean trace) {
-        super(tracker, iteration, trace);
+    private Neo4jOperation(Session session, Supplier<AsyncSession> asyncSessions, LogWrapper log, String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        super(tracker, iteration, trace, accessMode);
         this.session = session;
+        this.asyncSessions = asyncSessions;
         this.log = log;
     }
 
     /**
-     * Not necessary when using Neo4j's Transaction Functions
+     * Discards any batched writes that have not been saved, and waits for any async queries still in flight. Otherwise
+     * not necessary when using Neo4j's Transaction Functions
      */
     @Override
-    public void close() {}
+    public void close() {
+        batches.clear();
+        awaitQueries();
+    }
 
     /**
-     * Not necessary when using Neo4j's Transaction Functions
+     * Writes any batched queries, each batch as a single `UNWIND` query, in one transaction, and waits for any async
+     * queries still in flight
      */
     @Override
-    public void save() {}
+    protected void commit() {
+        flush();
+        awaitQueries();
+    }
 
+    /**
+     * Run a query in a transaction function of its own, a read transaction if the operation is read-only.
+     */
     public List<Record> execute(Query query) {
+        return execute(query, EXECUTE, records -> records.collect(Collectors.toList()));
+    }
+
+    /**
+     * Run a query in a transaction function of its own, passing its records to a consumer as they are streamed from
+     * the database, so that the records are never all held in memory unless the consumer collects them.
+     */
+    private <T> T execute(Query query, TransactionalDbDriver.TracingLabel executeLabel, Function<Stream<Record>, T> consumer) {
+        if (asyncSessions != null) return consumer.apply(await(executeAsync(query, executeLabel)).stream());
+        flush();
         log.query(tracker, iteration, query);
-        return session.writeTransaction(tx -> {
-            Result result = tx.run(query);
-            return result.list();
+        TransactionTimer timer = new TransactionTimer();
+        TransactionWork<T> work = tx -> {
+            timer.begun();
+            Result result = timed(executeLabel, () -> tx.run(query));
+            T answer = timed(DRAIN, () -> consumer.apply(result.stream()));
+            timer.worked();
+            return answer;
+        };
+        T answer;
+        transactionTaken();
+        try {
+            if (accessMode() == AccessMode.READ) answer = session.readTransaction(work);
+            else answer = session.writeTransaction(work);
+        } finally {
+            transactionReleased();
+        }
+        timer.committed();
+        timer.record();
+        return answer;
+    }
+
+    /**
+     * Run a read query in a transaction of its own without waiting for its answer, so that the operation can send
+     * further queries while it runs. Any batched writes are written first. On blocking sessions the query is answered
+     * before this returns. Its answer is read with {@link #await}.
+     *
+     * The query's phases are timed on the thread running the operation, the next time the operation waits for its
+     * queries: when it awaits an answer or runs a blocking query, or is saved or closed.
+     */
+    public CompletionStage<List<Record>> executeAsync(Query query) {
+        if (asyncSessions == null) return CompletableFuture.completedFuture(execute(query));
+        return executeAsync(query, EXECUTE);
+    }
+
+    private CompletableFuture<List<Record>> executeAsync(Query query, TransactionalDbDriver.TracingLabel executeLabel) {
+        flush();
+        log.query(tracker, iteration, query);
+        QueryTimer timer = new QueryTimer(executeLabel);
+        return runAsync(accessMode(), tx -> {
+            timer.begun();
+            return tx.runAsync(query).thenCompose(cursor -> {
+                timer.executed();
+                return cursor.listAsync();
+            }).thenApply(records -> {
+                timer.worked();
+                return records;
+            });
+        }, timer);
+    }
+
+    /**
+     * Run a transaction function in an async session of its own, which is closed once the transaction is over.
+     */
+    private <T> CompletableFuture<T> runAsync(AccessMode accessMode, AsyncTransactionWork<CompletionStage<T>> work, TransactionTimer timer) {
+        AsyncSession asyncSession = asyncSessions.get();
+        transactionTaken();
+        CompletionStage<T> transaction = accessMode == AccessMode.READ
+                ? asyncSession.readTransactionAsync(work)
+                : asyncSession.writeTransactionAsync(work);
+        CompletableFuture<T> answer = new CompletableFuture<>();
+        transaction.whenComplete((result, error) -> {
+            timer.committed();
+            transactionReleased();
+            asyncSession.closeAsync().whenComplete((ignored, closeError) -> {
+                if (error != null) answer.completeExceptionally(error);
+                else if (closeError != null) answer.completeExceptionally(closeError);
+                else answer.complete(result);
+            });
         });
+        inFlight.add(new InFlight<>(answer, timer));
+        return answer;
+    }
+
+    /**
+     * Wait for every async query still in flight, recording the timings of their phases on this thread, and throw the
+     * first of their errors once they are all over.
+     */
+    private void awaitQueries() {
+        if (inFlight.isEmpty()) return;
+        List<InFlight<?>> awaiting = new ArrayList<>(inFlight);
+        inFlight.clear();
+        RuntimeException failure = null;
+        for (InFlight<?> query : awaiting) {
+            try {
+                query.answer.join();
+                query.timer.record();
+            } catch (CompletionException e) {
+                if (failure == null) failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Wait for one async query without waiting for the others the operation has in flight, recording the timings of
+     * its phases on this thread.
+     */
+    private <T> T awaitOnly(CompletableFuture<T> answer) {
+        InFlight<?> query = null;
+        for (InFlight<?> inFlightQuery : inFlight) {
+            if (inFlightQuery.answer == answer) query = inFlightQuery;
+        }
+        inFlight.remove(query);
+        try {
+            T result = answer.join();
+            query.timer.record();
+            return result;
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Wait once for every query the operation has in flight, then read the answer of one of them. Queries sent
+     * together with {@link #executeAsync} are answered together, however many are awaited.
+     */
+    public <T> T await(CompletionStage<T> answer) {
+        awaitQueries();
+        return answer.toCompletableFuture().join();
+    }
+
+    /**
+     * Defer a write until the operation is saved, so that consecutive writes of the same template are sent to the
+     * database together as one query.
+     *
+     * The template is run once for the whole batch, with the parameter `rows` holding the parameters of each write
+     * in order. Each row also holds its position in the batch as `rowIndex`. The template reads each write's
+     * parameters from its row, usually after `UNWIND $rows AS row`, and must return exactly one record per row with
+     * the row's index aliased as `rowIndex`.
+     *
+     * @return The record returned for this row, which can only be read once the operation has been saved
+     */
+    public PendingRecord executeBatched(String template, Map<String, Object> parameters) {
+        Batch batch = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+        if (batch == null || !batch.template.equals(template)) {
+            batch = new Batch(template);
+            batches.add(batch);
+        }
+        PendingRecord record = batch.add(parameters);
+        deferred(record);
+        return record;
+    }
+
+    private void flush() {
+        if (batches.isEmpty()) return;
+        List<Batch> flushing = new ArrayList<>(batches);
+        batches.clear();
+        for (Batch batch : flushing) {
+            log.query(tracker, iteration, batch.query());
+        }
+        // Queries sent before the batches keep running, but those sent after must see the batches' writes
+        List<List<Record>> results = asyncSessions != null ? awaitOnly(writeAsync(flushing)) : write(flushing);
+        for (int i = 0; i < flushing.size(); i++) {
+            flushing.get(i).resolve(results.get(i));
+        }
     }
 
+    private List<List<Record>> write(List<Batch> flushing) {
+        TransactionTimer timer = new TransactionTimer();
+        List<List<Record>> results;
+        transactionTaken();
+        try {
+            results = session.writeTransaction(tx -> {
+                timer.begun();
+                List<List<Record>> batchResults = new ArrayList<>();
+                for (Batch batch : flushing) {
+                    Result result = timed(EXECUTE, () -> tx.run(batch.query()));
+                    batchResults.add(timed(DRAIN, result::list));
+                }
+                timer.worked();
+                return batchResults;
+            });
+        } finally {
+            transactionReleased();
+        }
+        timer.committed();
+        timer.record();
+        return results;
+    }
+
+    /**
+     * Write the batches in one transaction, sending every batch's query before reading any of their records, so that
+     * the batches are pipelined rather than each waiting for the last.
+     */
+    private CompletableFuture<List<List<Record>>> writeAsync(List<Batch> flushing) {
+        QueryTimer timer = new QueryTimer(EXECUTE);
+        return runAsync(AccessMode.WRITE, tx -> {
+            timer.begun();
+            List<CompletableFuture<ResultCursor>> cursors = new ArrayList<>();
+            for (Batch batch : flushing) {
+                cursors.add(tx.runAsync(batch.query()).toCompletableFuture());
+            }
+            return allOf(cursors).thenCompose(executed -> {
+                timer.executed();
+                List<CompletableFuture<List<Record>>> batchResults = new ArrayList<>();
+                for (CompletableFuture<ResultCursor> cursor : cursors) {
+                    batchResults.add(cursor.join().listAsync().toCompletableFuture());
+                }
+                return allOf(batchResults).thenApply(drained -> {
+                    timer.worked();
+                    return batchResults.stream().map(CompletableFuture::join).collect(Collectors.toList());
+                });
+            });
+        }, timer);
+    }
+
+    private static CompletableFuture<Void> allOf(List<? extends CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Run a query for the values of one returned attribute, sorted and limited by the database rather than the client,
+     * so that only the records kept are sent back. A query that is a `UNION` is sorted in a subquery, and its parts
+     * must alias the attribute to the same name.
+     */
     public <T> List<T> sortedExecute(Query query, String attributeName, Integer limit) {
-        log.query(tracker, iteration, query);
-        Stream<T> answerStream = execute(query).stream()
-                .map(record -> (T) record.asMap().get(attributeName))
-                .sorted();
+        return execute(sorted(query, attributeName, limit), SORTED_EXECUTE, records -> values(records, attributeName));
+    }
+
+    /**
+     * Run a query as {@link #sortedExecute} does, without waiting for its answer, as {@link #executeAsync} does.
+     */
+    public <T> CompletionStage<List<T>> sortedExecuteAsync(Query query, String attributeName, Integer limit) {
+        Query sorted = sorted(query, attributeName, limit);
+        if (asyncSessions == null) return CompletableFuture.completedFuture(execute(sorted, SORTED_EXECUTE, records -> values(records, attributeName)));
+        return executeAsync(sorted, SORTED_EXECUTE).thenApply(records -> values(records.stream(), attributeName));
+    }
+
+    private static <T> List<T> values(Stream<Record> records, String attributeName) {
+        return records.map(record -> (T) record.get(attributeName).asObject()).collect(Collectors.toList());
+    }
+
+    private static Query sorted(Query query, String attributeName, Integer limit) {
+        String text = TRAILING_SEMICOLON.matcher(query.text()).replaceFirst("");
+        if (UNION.matcher(text).find()) {
+            text = "CALL {\n" + text + "\n}\nRETURN " + attributeName;
+        }
+        text += "\nORDER BY " + attributeName;
+        Map<String, Object> parameters = new HashMap<>(query.parameters().asMap());
         if (limit != null) {
-            answerStream = answerStream.limit(limit);
+            text += "\nLIMIT $" + LIMIT;
+            parameters.put(LIMIT, limit);
+        }
+        return new Query(text, parameters);
+    }
+
+    /**
+     * Times the opening and committing of a transaction function's transaction, which the driver does around the work
+     * it is given: the time from asking for the transaction to the work starting, and from the work ending to the
+     * transaction function returning. Async transaction functions call back on the driver's threads, so the phases
+     * are only recorded once the transaction is over, on the thread running the operation.
+     */
+    private class TransactionTimer {
+        private final long start;
+        private DbOperationEvent event = new DbOperationEvent();
+        private volatile long begun;
+        private volatile long worked;
+        private volatile long committed;
+
+        TransactionTimer() {
+            event.begin();
+            start = System.nanoTime();
+        }
+
+        void begun() {
+            begun = System.nanoTime();
+            endEvent(event, OPEN_TRANSACTION.getName());
+        }
+
+        void worked() {
+            event = new DbOperationEvent();
+            event.begin();
+            worked = System.nanoTime();
+        }
+
+        void committed() {
+            committed = System.nanoTime();
+            endEvent(event, COMMIT_TRANSACTION.getName());
+        }
+
+        void record() {
+            LatencyRecorder.recordPhase(OPEN_TRANSACTION.getName(), begun - start);
+            LatencyRecorder.recordPhase(COMMIT_TRANSACTION.getName(), committed - worked);
+        }
+    }
+
+    /**
+     * Also times the queries of an async transaction function, which the timers of blocking queries can't: from
+     * sending them to their records starting to arrive, and from then to the last record.
+     */
+    private class QueryTimer extends TransactionTimer {
+        private final TransactionalDbDriver.TracingLabel executeLabel;
+        private DbOperationEvent queryEvent;
+        private volatile long queryStart;
+        private volatile long executed;
+        private volatile long drained;
+
+        QueryTimer(TransactionalDbDriver.TracingLabel executeLabel) {
+            this.executeLabel = executeLabel;
+        }
+
+        @Override
+        void begun() {
+            super.begun();
+            queryEvent = new DbOperationEvent();
+            queryEvent.begin();
+            queryStart = System.nanoTime();
+        }
+
+        void executed() {
+            executed = System.nanoTime();
+            endEvent(queryEvent, executeLabel.getName());
+            queryEvent = new DbOperationEvent();
+            queryEvent.begin();
+        }
+
+        @Override
+        void worked() {
+            drained = System.nanoTime();
+            endEvent(queryEvent, DRAIN.getName());
+            super.worked();
+        }
+
+        @Override
+        void record() {
+            super.record();
+            LatencyRecorder.recordPhase(executeLabel.getName(), executed - queryStart);
+            LatencyRecorder.recordPhase(DRAIN.getName(), drained - executed);
+        }
+    }
+
+    /**
+     * An async query that the operation has not yet waited for.
+     */
+    private static class InFlight<T> {
+        private final CompletableFuture<T> answer;
+        private final TransactionTimer timer;
+
+        InFlight(CompletableFuture<T> answer, TransactionTimer timer) {
+            this.answer = answer;
+            this.timer = timer;
+        }
+    }
+
+    /**
+     * Consecutive writes of the same template, sent as one query that unwinds a parameter map for each write.
+     */
+    private static class Batch {
+        private final String template;
+        private final List<Map<String, Object>> rows = new ArrayList<>();
+        private final List<PendingRecord> records = new ArrayList<>();
+
+        Batch(String template) {
+            this.template = template;
+        }
+
+        PendingRecord add(Map<String, Object> parameters) {
+            Map<String, Object> row = new HashMap<>(parameters);
+            row.put(ROW_INDEX, rows.size());
+            rows.add(row);
+            PendingRecord record = new PendingRecord();
+            records.add(record);
+            return record;
+        }
+
+        Query query() {
+            return new Query(template, Collections.singletonMap(ROWS, rows));
+        }
+
+        void resolve(List<Record> results) {
+            List<List<Record>> resultsByRow = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) resultsByRow.add(new ArrayList<>());
+            for (Record result : results) {
+                if (!result.containsKey(ROW_INDEX)) throw new IllegalStateException("A batched query must return `" + ROW_INDEX + "`: " + template);
+                resultsByRow.get(result.get(ROW_INDEX).asInt()).add(result);
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                records.get(i).resolve(getOnlyElement(resultsByRow.get(i)));
+            }
         }
-        return answerStream.collect(Collectors.toList());
     }
 }
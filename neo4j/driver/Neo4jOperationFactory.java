@@ -17,20 +17,36 @@
 
 package grakn.benchmark.neo4j.driver;
 
+import grakn.benchmark.common.driver.AccessMode;
 import grakn.benchmark.common.driver.TransactionalDbOperationFactory;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.async.AsyncSession;
 import org.slf4j.Logger;
 
+import java.util.function.Supplier;
+
 public class Neo4jOperationFactory extends TransactionalDbOperationFactory<Neo4jOperation> {
     private final Session session;
+    private final Supplier<AsyncSession> asyncSessions;
 
     public Neo4jOperationFactory(org.neo4j.driver.Session session, Logger logger) {
         super(logger);
         this.session = session;
+        this.asyncSessions = null;
+    }
+
+    /**
+     * @param asyncSessions Opens an async session for each transaction an operation runs
+     */
+    public Neo4jOperationFactory(Supplier<AsyncSession> asyncSessions, Logger logger) {
+        super(logger);
+        this.session = null;
+        this.asyncSessions = asyncSessions;
     }
 
     @Override
-    public Neo4jOperation newDbOperation(String tracker, long iteration, boolean trace) {
-        return new Neo4jOperation(session, logger(), tracker, iteration, trace);
+    public Neo4jOperation newDbOperation(String tracker, long iteration, boolean trace, AccessMode accessMode) {
+        if (asyncSessions != null) return new Neo4jOperation(asyncSessions, logger(), tracker, iteration, trace, accessMode);
+        return new Neo4jOperation(session, logger(), tracker, iteration, trace, accessMode);
     }
 }
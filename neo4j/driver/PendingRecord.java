@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package grakn.benchmark.neo4j.driver;
+
+import grakn.benchmark.common.driver.PendingWrite;
+import org.neo4j.driver.Record;
+
+/**
+ * The record returned by a write, which for a batched write is only available once the operation that batched it has
+ * been saved.
+ */
+public class PendingRecord extends PendingWrite {
+
+    private Record record;
+
+    PendingRecord() {}
+
+    /**
+     * @return A record that is already available, because the write that returned it was not batched
+     */
+    public static PendingRecord of(Record record) {
+        PendingRecord pending = new PendingRecord();
+        pending.resolve(record);
+        return pending;
+    }
+
+    void resolve(Record record) {
+        this.record = record;
+        answered();
+    }
+
+    /**
+     * @return The record, or null if the write returned none
+     */
+    public Record get() {
+        if (!isAnswered()) throw new IllegalStateException("The record of a batched write is not available until the operation is saved");
+        return record;
+    }
+}
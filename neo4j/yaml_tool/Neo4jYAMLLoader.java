@@ -19,32 +19,36 @@ package grakn.benchmark.neo4j.yaml_tool;
 
 import grakn.benchmark.common.yaml_tool.QueryTemplate;
 import grakn.benchmark.common.yaml_tool.YAMLLoader;
-import org.apache.commons.csv.CSVParser;
+import grakn.benchmark.neo4j.driver.Neo4jDriver;
 import org.apache.commons.csv.CSVRecord;
 import org.neo4j.driver.Query;
-import org.neo4j.driver.Session;
-import org.neo4j.driver.Transaction;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public class Neo4jYAMLLoader extends YAMLLoader {
 
-    private final Session session;
+    private final Neo4jDriver driver;
 
-    public Neo4jYAMLLoader(Session session, Map<String, Path> accessibleFiles) {
+    public Neo4jYAMLLoader(Neo4jDriver driver, Map<String, Path> accessibleFiles) {
         super(accessibleFiles);
-        this.session = session;
+        this.driver = driver;
     }
 
+    /**
+     * Writes the whole batch as one query that unwinds the parameters of each row, so the query is neither built nor
+     * planned per row. Neo4j sessions must not be shared between threads, so each worker has its own session.
+     */
     @Override
-    protected void parseCSV(QueryTemplate template, CSVParser parser) throws IOException {
-        Transaction tx = session.beginTransaction();
-        for (CSVRecord record : parser.getRecords()) {
-            Query interpolatedQuery = new Query(template.interpolate(record::get));
-            tx.run(interpolatedQuery);
+    protected void loadBatch(QueryTemplate template, List<CSVRecord> records) {
+        List<Map<String, Object>> rows = new ArrayList<>(records.size());
+        for (CSVRecord record : records) {
+            rows.add(template.parameters(record::get));
         }
-        tx.commit();
+        Query query = new Query("UNWIND $rows AS row\n" + template.parameterise("row."), Collections.singletonMap("rows", rows));
+        driver.session("initialise/" + Thread.currentThread().getName()).writeTransaction(tx -> tx.run(query).consume());
     }
 }
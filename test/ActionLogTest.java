@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.action.SpouseType;
+import grakn.benchmark.common.agent.replay.ActionLog;
+import grakn.benchmark.common.driver.DbOperation;
+import grakn.benchmark.common.world.Region;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static grakn.common.collection.Collections.pair;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ActionLogTest {
+
+    private static class Operation extends DbOperation {
+        Operation() {
+            super("tracker", 1, false, null);
+        }
+
+        @Override
+        public void close() {}
+
+        @Override
+        protected void commit() {}
+    }
+
+    private static class Write extends Action<Operation, Object> {
+        private final ArrayList<Object> arguments;
+
+        Write(Object... arguments) {
+            super(new Operation());
+            this.arguments = argsList(arguments);
+        }
+
+        @Override
+        public Object run() {
+            return null;
+        }
+
+        @Override
+        protected HashMap<Action.ComparableField, Object> outputForReport(Object answer) {
+            return new HashMap<>();
+        }
+
+        @Override
+        protected ArrayList<Object> inputForReport() {
+            return arguments;
+        }
+    }
+
+    private static class City implements Region {
+        @Override
+        public String name() {
+            return "Berlin";
+        }
+
+        @Override
+        public String tracker() {
+            return "World:Europe:Germany:Berlin";
+        }
+
+        @Override
+        public String topLevelName() {
+            return "Europe";
+        }
+    }
+
+    private static ActionLog.Line roundTrip(Object... arguments) {
+        return ActionLog.parse(ActionLog.line(2, "agent", "World:Europe", 5, 1234L, new Write(arguments)));
+    }
+
+    @Test
+    public void theHeaderOfALineIsReadBack() {
+        ActionLog.Line line = roundTrip();
+
+        assertEquals(2, line.iteration);
+        assertEquals("agent", line.agent);
+        assertEquals("World:Europe", line.tracker);
+        assertEquals(5, line.operation);
+        assertEquals(1234L, line.offsetNanos);
+        assertEquals("Action", line.action);
+        assertTrue(line.arguments.isEmpty());
+    }
+
+    @Test
+    public void argumentsAreWrittenOneFieldEachInOrder() {
+        LocalDateTime date = LocalDateTime.of(2020, 1, 1, 0, 0);
+        ActionLog.Line line = roundTrip(new City(), "name", 42L, date, null);
+
+        assertEquals(Arrays.asList("Berlin", "name", "42", "2020-01-01T00:00", "null"), line.arguments);
+        assertEquals(date, LocalDateTime.parse(line.arguments.get(3)));
+    }
+
+    @Test
+    public void pairsAndMarriagesAreWrittenAsTheirElements() {
+        Map<SpouseType, String> marriage = new EnumMap<>(SpouseType.class);
+        marriage.put(SpouseType.HUSBAND, "husband@example.com");
+        marriage.put(SpouseType.WIFE, "wife@example.com");
+
+        ActionLog.Line line = roundTrip(pair(1L, 2L), marriage);
+
+        assertEquals(Arrays.asList("1", "2", "wife@example.com", "husband@example.com"), line.arguments);
+    }
+
+    @Test
+    public void tabsLineBreaksAndBackslashesInStringsSurviveTheRoundTrip() {
+        String awkward = "a\tb\nc\rd\\e\\t";
+        ActionLog.Line line = roundTrip(awkward, "");
+
+        List<String> expected = Arrays.asList(awkward, "");
+        assertEquals(expected, line.arguments);
+        assertEquals(1, ActionLog.line(1, "agent\t", "tracker", 0, 0, new Write(awkward)).split("\n", -1).length);
+        assertEquals("agent\t", ActionLog.parse(ActionLog.line(1, "agent\t", "tracker", 0, 0, new Write())).agent);
+    }
+
+    @Test
+    public void linesWithoutAFullHeaderAreRejected() {
+        try {
+            ActionLog.parse("1\tagent\ttracker");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("recorded writes"));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.agent.base.Allocation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AllocationTest {
+
+    private static List<List<Integer>> byBucket(int numThingsToAllocate, int numBuckets) {
+        List<List<Integer>> allocations = new ArrayList<>();
+        Allocation.allocateEvenlyByBucket(numThingsToAllocate, numBuckets, (item, bucket) -> allocations.add(Arrays.asList(item, bucket)));
+        return allocations;
+    }
+
+    private static List<List<Integer>> fromMap(int numThingsToAllocate, int numBuckets) {
+        List<List<Integer>> allocations = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> bucket : Allocation.allocateEvenlyToMap(numThingsToAllocate, numBuckets).entrySet()) {
+            for (Integer item : bucket.getValue()) {
+                allocations.add(Arrays.asList(item, bucket.getKey()));
+            }
+        }
+        return allocations;
+    }
+
+    @Test
+    public void allocatingByBucketMatchesIteratingOverTheMap() {
+        for (int items = 0; items < 12; items++) {
+            for (int buckets = 1; buckets < 6; buckets++) {
+                assertEquals(fromMap(items, buckets), byBucket(items, buckets));
+            }
+        }
+        assertTrue(byBucket(3, 0).isEmpty());
+    }
+
+    @Test
+    public void allocatingByIndexMatchesAllocatingLists() {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+        List<Long> buckets = Arrays.asList(10L, 20L);
+        List<String> fromLists = new ArrayList<>();
+        List<String> fromIndices = new ArrayList<>();
+
+        assertTrue(Allocation.allocate(items, buckets, (item, bucket) -> fromLists.add(item + bucket)));
+        assertTrue(Allocation.allocate(items.size(), buckets.size(), (item, bucket) -> fromIndices.add(items.get(item) + buckets.get(bucket))));
+
+        assertEquals(Arrays.asList("a10", "b20", "c10", "d20", "e10"), fromIndices);
+        assertEquals(fromLists, fromIndices);
+        assertFalse(Allocation.allocate(0, 2, (item, bucket) -> fromIndices.add("none")));
+        assertFalse(Allocation.allocate(2, 0, (item, bucket) -> fromIndices.add("none")));
+    }
+}
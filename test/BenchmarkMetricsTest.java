@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.agent.base.Agent;
+import grakn.benchmark.common.metrics.BenchmarkMetrics;
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.config.AgentMode;
+import grakn.benchmark.config.Config;
+import grakn.benchmark.memory.MemoryBenchmark;
+import grakn.benchmark.memory.driver.MemoryDriver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static grakn.benchmark.config.Config.Agent.ConstructAgentConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BenchmarkMetricsTest {
+
+    private MemoryBenchmark benchmark;
+    private BenchmarkMetrics metrics;
+
+    @Before
+    public void createBenchmark() throws Exception {
+        Map<String, Path> files = new HashMap<>();
+        for (String file : Arrays.asList("continents.csv", "countries.csv", "cities.csv", "female_forenames.csv",
+                                         "male_forenames.csv", "surnames.csv", "adjectives.csv", "nouns.csv",
+                                         "country_currencies.csv")) {
+            files.put(file, Paths.get("common/data", file));
+        }
+        World world = World.initialise(1, files);
+        List<Config.Agent> agentConfigs = new ArrayList<>();
+        agentConfigs.add(ConstructAgentConfig("company", AgentMode.RUN));
+        agentConfigs.add(ConstructAgentConfig("product", AgentMode.RUN));
+        benchmark = new MemoryBenchmark(new MemoryDriver(), files, 1, world, agentConfigs, iteration -> false, false);
+        metrics = new BenchmarkMetrics(benchmark);
+    }
+
+    @After
+    public void closeBenchmark() {
+        metrics.close();
+        benchmark.close();
+    }
+
+    @Test
+    public void progressAndThroughputAreReadFromTheBenchmark() {
+        assertEquals(1, metrics.getIteration());
+        assertEquals(0, metrics.getActionCount());
+
+        benchmark.iterate();
+        benchmark.iterate();
+
+        assertEquals(3, metrics.getIteration());
+        assertEquals(benchmark.actionCount(), metrics.getActionCount());
+        assertTrue(metrics.getActionCount() > 0);
+        assertEquals(0, metrics.getInFlightTransactions());
+        long agentActions = 0;
+        for (long actions : metrics.getAgentActionCounts().values()) agentActions += actions;
+        assertEquals(metrics.getActionCount(), agentActions);
+    }
+
+    @Test
+    public void regionsAndLatenciesAreReportedPerAgent() {
+        Map<String, Long> before = metrics.getAgentLatencyP50Micros();
+        for (long p50 : before.values()) assertEquals(0L, p50);
+
+        benchmark.iterate();
+
+        for (Agent<?, ?> agent : benchmark.agents()) {
+            String name = agent.name();
+            assertTrue(metrics.getAgentRegions().get(name) > 0);
+            assertEquals(metrics.getAgentRegions().get(name), metrics.getAgentRegionsCompleted().get(name));
+            assertTrue(metrics.getAgentLatencyP99Micros().get(name) >= metrics.getAgentLatencyP50Micros().get(name));
+            assertEquals(benchmark.latencyRecorder().liveSummary(name).p50, (long) metrics.getAgentLatencyP50Micros().get(name));
+        }
+    }
+
+    @Test
+    public void metricsAreWrittenInTheOpenMetricsTextFormat() {
+        benchmark.iterate();
+
+        String text = metrics.openMetrics();
+        String agent = benchmark.agents().get(0).name();
+
+        assertTrue(text.startsWith("# TYPE benchmark_iteration gauge\n# HELP benchmark_iteration The iteration being run\nbenchmark_iteration 2\n"));
+        assertTrue(text.endsWith("# EOF\n"));
+        assertTrue(text.contains("benchmark_actions_total{agent=\"" + agent + "\"} " + benchmark.agents().get(0).actionCount() + "\n"));
+        assertTrue(text.contains("benchmark_agent_latency_microseconds{agent=\"" + agent + "\",quantile=\"0.99\"} "));
+        assertTrue(text.contains("benchmark_agent_latency_microseconds_count{agent=\"" + agent + "\"} "));
+        for (String line : text.split("\n")) {
+            assertTrue(line, line.startsWith("#") || line.matches("[a-z_]+(\\{[^}]*})? -?[0-9.]+"));
+        }
+    }
+
+    @Test
+    public void openLoopAgentsStartTheirActionsAtTheirRate() {
+        for (Agent<?, ?> agent : benchmark.agents()) agent.setStartRate(500);
+        long start = System.nanoTime();
+
+        benchmark.iterate();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long scheduledMillis = 0;
+        for (long actions : metrics.getAgentActionCounts().values()) scheduledMillis += (actions - 1) * 2;
+        assertTrue("Expected at least " + scheduledMillis + " ms, took " + elapsedMillis, elapsedMillis >= scheduledMillis);
+        assertEquals(0, metrics.getInFlightTransactions());
+    }
+
+    @Test
+    public void latenciesAreOnlyWrittenOnceAnAgentHasFinished() {
+        assertFalse(metrics.openMetrics().contains("benchmark_agent_latency_microseconds{"));
+    }
+
+    @Test
+    public void theMetricsAreRegisteredWithJmxUntilClosed() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(BenchmarkMetrics.OBJECT_NAME);
+
+        metrics.register();
+        assertTrue(server.isRegistered(name));
+        assertEquals(1, server.getAttribute(name, "Iteration"));
+
+        metrics.close();
+        assertFalse(server.isRegistered(name));
+    }
+}
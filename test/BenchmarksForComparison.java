@@ -17,11 +17,14 @@
 
 package grakn.benchmark.test;
 
+import grakn.benchmark.common.report.ReportWriter;
 import grakn.benchmark.common.world.World;
 import grakn.benchmark.config.AgentMode;
 import grakn.benchmark.config.Config;
 import grakn.benchmark.config.SamplingFunction;
 import grakn.benchmark.grakn.driver.GraknDriver;
+import grakn.benchmark.memory.MemoryBenchmark;
+import grakn.benchmark.memory.driver.MemoryDriver;
 import grakn.benchmark.neo4j.driver.Neo4jDriver;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -30,6 +33,9 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -46,7 +52,11 @@ import static grakn.benchmark.config.Config.Agent.ConstructAgentConfig;
 public class BenchmarksForComparison {
     static final grakn.benchmark.neo4j.Neo4JBenchmark neo4j;
     static final grakn.benchmark.grakn.GraknBenchmark graknCore;
+    static final MemoryBenchmark memory;
     static final int numIterations = 30;
+    static final Path memoryReports;
+    static final Path neo4jReports;
+    static final Path graknReports;
 
     static {
         String[] args = System.getProperty("sun.java.command").split(" ");
@@ -135,5 +145,33 @@ public class BenchmarksForComparison {
                 agentConfigs,
                 samplingFunction,
                 test);
+
+        ////////////////////////////////////////
+        // In-memory reference, expected side //
+        ////////////////////////////////////////
+
+        memory = new MemoryBenchmark(
+                new MemoryDriver(),
+                files,
+                randomSeed,
+                world,
+                agentConfigs,
+                samplingFunction,
+                test);
+
+        ////////////////////////////////////////////////////
+        // Reports of all, streamed to files to be diffed //
+        ////////////////////////////////////////////////////
+
+        try {
+            memoryReports = Files.createTempFile("memory-reports", ".tsv");
+            graknReports = Files.createTempFile("grakn-reports", ".tsv");
+            neo4jReports = Files.createTempFile("neo4j-reports", ".tsv");
+            memory.setReportSink(new ReportWriter(memoryReports));
+            graknCore.setReportSink(new ReportWriter(graknReports));
+            neo4j.setReportSink(new ReportWriter(neo4jReports));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
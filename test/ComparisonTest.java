@@ -17,39 +17,23 @@
 
 package grakn.benchmark.test;
 
-import grakn.benchmark.common.action.Action;
-import grakn.benchmark.common.agent.base.Agent;
+import grakn.benchmark.common.report.ReportDiff;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
-import java.util.Iterator;
-
-import static grakn.benchmark.test.BenchmarksForComparison.graknCore;
-import static grakn.benchmark.test.BenchmarksForComparison.neo4j;
 import static org.junit.Assert.assertEquals;
 
 @RunWith(ComparisonTestSuite.class)
 public class ComparisonTest {
 
     private void compareReports(String agentName) {
-        Agent<?, ?>.Report graknAgentReport = graknCore.getReport().getAgentReport(agentName);
-        Agent<?, ?>.Report neo4jAgentReport = neo4j.getReport().getAgentReport(agentName);
-
-        if (!graknAgentReport.equals(neo4jAgentReport)) {
-            graknAgentReport.trackers().forEach(tracker -> {
-                Agent.Regional.Report graknRegionReport = graknAgentReport.getRegionalAgentReport(tracker);
-                Agent.Regional.Report neo4jRegionReport = neo4jAgentReport.getRegionalAgentReport(tracker);
-
-                if (!graknRegionReport.equals(neo4jRegionReport)) {
-                    Iterator<Action<?, ?>.Report> graknIter = graknRegionReport.getActionReportIterator();
-                    Iterator<Action<?, ?>.Report> neo4jIter = neo4jRegionReport.getActionReportIterator();
-                    while (graknIter.hasNext() && neo4jIter.hasNext()) {
-                        Action<?, ?>.Report graknActionReport = graknIter.next();
-                        Action<?, ?>.Report neo4jActionReport = neo4jIter.next();
-                        assertEquals(neo4jActionReport, graknActionReport);
-                    }
-                }
-            });
+        compareReports("Neo4j", ComparisonTestSuite.firstNeo4jDivergence(agentName));
+        compareReports("Grakn", ComparisonTestSuite.firstGraknDivergence(agentName));
+    }
+
+    private void compareReports(String backend, ReportDiff.Divergence divergence) {
+        if (divergence != null) {
+            assertEquals(backend + ", " + divergence.toString(), String.valueOf(divergence.expected()), String.valueOf(divergence.actual()));
         }
     }
 
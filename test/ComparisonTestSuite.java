@@ -17,17 +17,24 @@
 
 package grakn.benchmark.test;
 
+import grakn.benchmark.common.report.ReportDiff;
+import grakn.benchmark.common.report.ReportReader;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static grakn.benchmark.test.BenchmarksForComparison.graknCore;
+import static grakn.benchmark.test.BenchmarksForComparison.memory;
 import static grakn.benchmark.test.BenchmarksForComparison.neo4j;
 
 public class ComparisonTestSuite extends Suite {
@@ -35,6 +42,12 @@ public class ComparisonTestSuite extends Suite {
     private final List<Runner> runners;
     private final Class<?> klass;
     private static int iteration = 1;
+    private static final Map<String, ReportDiff.Divergence> firstNeo4jDivergences = new HashMap<>();
+    private static final Map<String, ReportDiff.Divergence> firstGraknDivergences = new HashMap<>();
+    private static ReportReader memoryReaderForNeo4j;
+    private static ReportReader memoryReaderForGrakn;
+    private static ReportReader neo4jReader;
+    private static ReportReader graknReader;
 
     public ComparisonTestSuite(Class<?> klass) throws Throwable {
         super(klass, NO_RUNNERS);
@@ -57,13 +70,62 @@ public class ComparisonTestSuite extends Suite {
 
     protected void runChild(Runner runner, final RunNotifier notifier) {
         iteration++;
+        memory.iterate();
         neo4j.iterate();
         graknCore.iterate();
+        compareIteration(iteration - 1);
         super.runChild(runner, notifier);
         if (iteration == BenchmarksForComparison.numIterations + 1) {
             graknCore.close();
             neo4j.close();
+            memory.close();
+            graknCore.reportSink().close();
+            neo4j.reportSink().close();
+            memory.reportSink().close();
+            try {
+                memoryReaderForNeo4j.close();
+                memoryReaderForGrakn.close();
+                neo4jReader.close();
+                graknReader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Diff the reports of an iteration as written to the file of the in-memory reference, as expected, and to the
+     * files of both databases, keeping only the first divergence of each agent.
+     */
+    private void compareIteration(int iteration) {
+        firstNeo4jDivergences.clear();
+        firstGraknDivergences.clear();
+        try {
+            if (memoryReaderForNeo4j == null) memoryReaderForNeo4j = new ReportReader(BenchmarksForComparison.memoryReports);
+            if (memoryReaderForGrakn == null) memoryReaderForGrakn = new ReportReader(BenchmarksForComparison.memoryReports);
+            if (neo4jReader == null) neo4jReader = new ReportReader(BenchmarksForComparison.neo4jReports);
+            if (graknReader == null) graknReader = new ReportReader(BenchmarksForComparison.graknReports);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        ReportDiff.compare(memoryReaderForNeo4j, neo4jReader, iteration, divergence -> firstNeo4jDivergences.putIfAbsent(divergence.agent(), divergence));
+        ReportDiff.compare(memoryReaderForGrakn, graknReader, iteration, divergence -> firstGraknDivergences.putIfAbsent(divergence.agent(), divergence));
+    }
+
+    /**
+     * @return The first report of an agent in the latest iteration that differs between the in-memory reference, as
+     * expected, and Neo4j, or null if there are none
+     */
+    static ReportDiff.Divergence firstNeo4jDivergence(String agentName) {
+        return firstNeo4jDivergences.get(agentName);
+    }
+
+    /**
+     * @return The first report of an agent in the latest iteration that differs between the in-memory reference, as
+     * expected, and Grakn, or null if there are none
+     */
+    static ReportDiff.Divergence firstGraknDivergence(String agentName) {
+        return firstGraknDivergences.get(agentName);
     }
 
     protected List<Runner> getChildren() {
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.DbOperation;
+import grakn.benchmark.common.driver.PendingWrite;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class DbOperationTest {
+
+    private final List<String> written = new ArrayList<>();
+
+    @Test
+    public void anActionWithoutDeferredWritesIsWrittenStraightAway() {
+        PipelinedOperation operation = new PipelinedOperation();
+        operation.begin(AccessMode.WRITE);
+        operation.whenWritten(() -> written.add("read"));
+
+        assertEquals(Collections.singletonList("read"), written);
+    }
+
+    @Test
+    public void anActionIsWrittenWhenItsOwnLastWriteIsAnswered() {
+        PipelinedOperation operation = new PipelinedOperation();
+        runAction(operation, "first", 2);
+        runAction(operation, "second", 1);
+        assertEquals(Collections.emptyList(), written);
+
+        operation.answerOldest();
+        assertEquals(Collections.emptyList(), written);
+        operation.answerOldest();
+        assertEquals(Collections.singletonList("first"), written);
+        operation.answerOldest();
+        assertEquals(Arrays.asList("first", "second"), written);
+    }
+
+    @Test
+    public void anActionIsNotHeldBackByTheWritesOfEarlierActions() {
+        PipelinedOperation operation = new PipelinedOperation();
+        runAction(operation, "write", 1);
+        runAction(operation, "read", 0);
+
+        assertEquals(Collections.singletonList("read"), written);
+        operation.save();
+        assertEquals(Arrays.asList("read", "write"), written);
+    }
+
+    @Test
+    public void actionsStillWaitingAreWrittenWhenTheOperationIsSaved() {
+        PipelinedOperation operation = new PipelinedOperation();
+        runAction(operation, "first", 1);
+        runAction(operation, "second", 1);
+        List<String> savedAfter = new ArrayList<>();
+        operation.whenSaved(() -> savedAfter.addAll(written));
+
+        operation.save();
+
+        assertEquals(Arrays.asList("first", "second"), savedAfter);
+    }
+
+    @Test
+    public void actionsOfAnOperationClosedWithoutSavingAreNeverWritten() {
+        PipelinedOperation operation = new PipelinedOperation();
+        runAction(operation, "write", 1);
+
+        operation.close();
+
+        assertEquals(Collections.emptyList(), written);
+    }
+
+    private void runAction(PipelinedOperation operation, String name, int writes) {
+        operation.begin(AccessMode.WRITE);
+        for (int i = 0; i < writes; i++) operation.issue();
+        operation.whenWritten(() -> written.add(name));
+    }
+
+    /**
+     * Keeps every write in flight until it is answered, oldest first, or until the operation is saved.
+     */
+    private static class PipelinedOperation extends DbOperation {
+
+        private final Deque<Write> inFlight = new ArrayDeque<>();
+
+        PipelinedOperation() {
+            super("tracker", 1, false, null);
+        }
+
+        void issue() {
+            Write write = new Write();
+            inFlight.add(write);
+            deferred(write);
+        }
+
+        void answerOldest() {
+            inFlight.remove().answer();
+        }
+
+        @Override
+        protected void commit() {
+            while (!inFlight.isEmpty()) answerOldest();
+        }
+
+        @Override
+        public void close() {
+            inFlight.clear();
+        }
+    }
+
+    private static class Write extends PendingWrite {
+        void answer() {
+            answered();
+        }
+    }
+}
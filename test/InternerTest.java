@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.utils.Interner;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class InternerTest {
+
+    @Test
+    public void eachKeyIsDerivedOnceAndItsStringShared() {
+        AtomicInteger derivations = new AtomicInteger();
+        Interner<String> interner = new Interner<>(word -> {
+            derivations.incrementAndGet();
+            return word.toUpperCase();
+        });
+
+        String first = interner.get("word");
+        String second = interner.get(new String("word"));
+
+        assertEquals("WORD", first);
+        assertSame(first, second);
+        assertEquals("OTHER", interner.get("other"));
+        assertEquals(2, derivations.get());
+    }
+
+    @Test
+    public void threadsGettingTheSameKeyAtOnceShareOneString() throws Exception {
+        Interner<Integer> interner = new Interner<>(String::valueOf);
+        List<String> strings = new CopyOnWriteArrayList<>();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    strings.add(interner.get(7));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads, strings.size());
+        for (String string : strings) {
+            assertSame(strings.get(0), string);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.utils.LatencyRecorder;
+import grakn.benchmark.common.utils.SteadyStateDetector;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyRecorderTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void latenciesOfAScopeAreSummarisedByIterationRegionAndAcrossTheRun() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (LatencyRecorder.Scope ignored = recorder.open(1, "london")) {
+            LatencyRecorder.record("x", MILLISECOND);
+            LatencyRecorder.record("x", 2 * MILLISECOND);
+        }
+        try (LatencyRecorder.Scope ignored = recorder.open(2, "paris")) {
+            LatencyRecorder.record("x", 3 * MILLISECOND);
+        }
+
+        List<LatencyRecorder.Summary> summaries = recorder.summaries();
+        assertEquals(2, find(summaries, "1", "london", "x").count);
+        assertEquals(1, find(summaries, "2", "paris", "x").count);
+        assertEquals(2, find(summaries, "all", "london", "x").count);
+        LatencyRecorder.Summary run = find(summaries, "all", "all", "x");
+        assertEquals(3, run.count);
+        assertEquals(3000, run.max, 60);
+    }
+
+    @Test
+    public void latenciesOutsideOfAScopeAreNotRecorded() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        LatencyRecorder.record("x", MILLISECOND);
+        assertTrue(recorder.summaries().isEmpty());
+    }
+
+    @Test
+    public void warmUpIterationsAreDiscarded() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.setWarmUpIterations(1);
+        try (LatencyRecorder.Scope ignored = recorder.open(1, "london")) {
+            LatencyRecorder.recordAction("a", MILLISECOND);
+        }
+        try (LatencyRecorder.Scope ignored = recorder.open(2, "london")) {
+            LatencyRecorder.recordAction("a", MILLISECOND);
+        }
+        assertEquals(0, recorder.actionCount(1));
+        assertEquals(1, recorder.actionCount(2));
+        assertNull(findOrNull(recorder.summaries(), "1", "london", "a"));
+    }
+
+    @Test
+    public void actionsAreCountedTowardsTheThroughputOfTheirIteration() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (LatencyRecorder.Scope ignored = recorder.open(1, "london")) {
+            LatencyRecorder.recordAction("a", MILLISECOND);
+            LatencyRecorder.recordAction("b", 3 * MILLISECOND);
+            LatencyRecorder.record("notAnAction", 100 * MILLISECOND);
+        }
+        assertEquals(2, recorder.actionCount(1));
+        assertEquals(2000, recorder.meanActionLatencyMicros(1), 0.001);
+        assertEquals(0, recorder.meanActionLatencyMicros(2), 0.001);
+    }
+
+    @Test
+    public void phasesAreRecordedUnderTheActionRunning() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (LatencyRecorder.Scope ignored = recorder.open(1, "london")) {
+            LatencyRecorder.startAction("InsertPersonAction");
+            LatencyRecorder.recordPhase("execute", MILLISECOND);
+            LatencyRecorder.startAction(LatencyRecorder.SAVE);
+            LatencyRecorder.recordPhase("commitTx", MILLISECOND);
+        }
+        List<LatencyRecorder.Summary> summaries = recorder.summaries();
+        assertNotNull(findOrNull(summaries, "1", "london", "InsertPersonAction.execute"));
+        assertNotNull(findOrNull(summaries, "1", "london", "save.commitTx"));
+    }
+
+    @Test
+    public void iterationsAreTaggedWithTheirState() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int iteration = 1; iteration <= 2; iteration++) {
+            try (LatencyRecorder.Scope ignored = recorder.open(iteration, "london")) {
+                LatencyRecorder.record("x", MILLISECOND);
+            }
+        }
+        recorder.setState(2, SteadyStateDetector.State.STEADY);
+        List<LatencyRecorder.Summary> summaries = recorder.summaries();
+        assertEquals("transient", find(summaries, "1", "london", "x").state);
+        assertEquals("steady", find(summaries, "2", "london", "x").state);
+    }
+
+    @Test
+    public void csvQuotesTrackersContainingCommas() throws IOException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (LatencyRecorder.Scope ignored = recorder.open(1, "Europe:UK, London")) {
+            LatencyRecorder.record("x", MILLISECOND);
+        }
+        Path csv = Files.createTempFile("latency", ".csv");
+        try {
+            recorder.writeCsv(csv);
+            List<String> lines = Files.readAllLines(csv);
+            assertEquals("iteration,state,tracker,name,count,p50_us,p90_us,p99_us,p999_us,max_us", lines.get(0));
+            assertTrue(lines.get(1).startsWith("1,transient,\"Europe:UK, London\",x,1,"));
+        } finally {
+            Files.delete(csv);
+        }
+    }
+
+    @Test
+    public void liveSummariesMergeEveryRegionAndIterationOnceTheirScopesClose() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.setWarmUpIterations(1);
+        assertNull(recorder.liveSummary("agent"));
+
+        try (LatencyRecorder.Scope ignored = recorder.open(1, "Europe")) {
+            LatencyRecorder.record("agent", 100 * MILLISECOND);
+        }
+        assertNull(recorder.liveSummary("agent"));
+
+        LatencyRecorder.Scope open = recorder.open(2, "Europe");
+        LatencyRecorder.record("agent", MILLISECOND);
+        assertNull(recorder.liveSummary("agent"));
+        open.close();
+        try (LatencyRecorder.Scope ignored = recorder.open(3, "Asia")) {
+            LatencyRecorder.record("agent", 3 * MILLISECOND);
+        }
+        recorder.record(3, "Africa", "agent", 2 * MILLISECOND);
+
+        LatencyRecorder.Summary summary = recorder.liveSummary("agent");
+        assertEquals(3, summary.count);
+        assertEquals("all", summary.tracker);
+        assertEquals(2000, summary.p50, 10);
+        assertEquals(3000, summary.max, 10);
+        assertNull(recorder.liveSummary("other"));
+    }
+
+    @Test
+    public void scopesOfTheSameRegionAndIterationAreSummarisedTogether() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 3; i++) {
+            try (LatencyRecorder.Scope ignored = recorder.open(1, "Europe")) {
+                LatencyRecorder.record("agent", i * MILLISECOND);
+            }
+        }
+        recorder.record(1, "Europe", "agent", 4 * MILLISECOND);
+
+        List<LatencyRecorder.Summary> summaries = recorder.summaries();
+        int rows = 0;
+        for (LatencyRecorder.Summary summary : summaries) {
+            if (summary.iteration.equals("1") && summary.tracker.equals("Europe") && summary.name.equals("agent")) rows++;
+        }
+        assertEquals(1, rows);
+        LatencyRecorder.Summary summary = find(summaries, "1", "Europe", "agent");
+        assertEquals(4, summary.count);
+        assertEquals(4000, summary.max, 10);
+    }
+
+    private static LatencyRecorder.Summary find(List<LatencyRecorder.Summary> summaries, String iteration, String tracker, String name) {
+        LatencyRecorder.Summary summary = findOrNull(summaries, iteration, tracker, name);
+        assertNotNull(iteration + " " + tracker + " " + name, summary);
+        return summary;
+    }
+
+    private static LatencyRecorder.Summary findOrNull(List<LatencyRecorder.Summary> summaries, String iteration, String tracker, String name) {
+        for (LatencyRecorder.Summary summary : summaries) {
+            if (summary.iteration.equals(iteration) && summary.tracker.equals(tracker) && summary.name.equals(name)) {
+                return summary;
+            }
+        }
+        return null;
+    }
+}
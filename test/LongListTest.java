@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.utils.LongList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LongListTest {
+
+    private static List<Long> boxed(LongList list) {
+        List<Long> boxed = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            boxed.add(list.get(i));
+        }
+        return boxed;
+    }
+
+    @Test
+    public void theListGrowsBeyondItsCapacity() {
+        LongList list = new LongList(1);
+        for (long i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(297, list.get(99));
+    }
+
+    @Test
+    public void anEmptyListHasNoElements() {
+        LongList list = new LongList(0);
+
+        assertTrue(list.isEmpty());
+        try {
+            list.get(0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 0, Size: 0", e.getMessage());
+        }
+    }
+
+    @Test
+    public void indicesPastTheSizeAreRejectedWithinTheCapacity() {
+        LongList list = new LongList(16);
+        list.add(1);
+
+        try {
+            list.get(1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 1, Size: 1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void aListOfBoxedValuesIsUnboxedInOrder() {
+        List<Long> values = Arrays.asList(5L, -1L, Long.MAX_VALUE);
+
+        assertEquals(values, boxed(LongList.of(values)));
+    }
+
+    @Test
+    public void aCopyIsIndependentOfTheOriginal() {
+        LongList list = LongList.of(Arrays.asList(1L, 2L, 3L));
+        LongList copy = list.copy();
+        copy.add(4L);
+        copy.shuffle(new Random(1));
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), boxed(list));
+        assertEquals(4, copy.size());
+    }
+
+    @Test
+    public void shufflingDrawsTheSameOrderAsShufflingBoxedLongs() {
+        List<Long> boxed = new ArrayList<>();
+        for (long i = 0; i < 50; i++) {
+            boxed.add(i);
+        }
+        LongList unboxed = LongList.of(boxed);
+
+        Collections.shuffle(boxed, new Random(42));
+        unboxed.shuffle(new Random(42));
+
+        assertEquals(boxed, boxed(unboxed));
+    }
+}
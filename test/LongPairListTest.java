@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.utils.LongPairList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class LongPairListTest {
+
+    @Test
+    public void pairsAreKeptTogetherAsTheListGrows() {
+        LongPairList list = new LongPairList(0);
+        for (long i = 0; i < 100; i++) {
+            list.add(i, -i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.first(i));
+            assertEquals(-i, list.second(i));
+        }
+    }
+
+    @Test
+    public void indicesPastTheSizeAreRejectedWithinTheCapacity() {
+        LongPairList list = new LongPairList(4);
+        list.add(1, 2);
+
+        try {
+            list.first(1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 1, Size: 1", e.getMessage());
+        }
+        try {
+            list.second(1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 1, Size: 1", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.memory.driver.MemoryGraph;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MemoryGraphTest {
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime DAY_2 = DAY_1.plusDays(1);
+    private static final LocalDateTime DAY_3 = DAY_1.plusDays(2);
+
+    private static MemoryGraph.Person person(String email, String gender, String birthCity) {
+        return new MemoryGraph.Person(email, DAY_1, gender, "forename", "surname", birthCity);
+    }
+
+    private static void write(MemoryGraph graph, Consumer<MemoryGraph> mutation) {
+        graph.write(Collections.singletonList(mutation));
+    }
+
+    @Test
+    public void peopleAreIndexedByEmailAndBirthCity() {
+        MemoryGraph graph = new MemoryGraph();
+        MemoryGraph.Person alice = person("alice@gmail.com", "female", "London");
+        MemoryGraph.Person bob = person("bob@gmail.com", "male", "London");
+        write(graph, g -> {
+            g.putPerson(alice);
+            g.putPerson(bob);
+        });
+
+        assertSame(alice, graph.read(g -> g.person("alice@gmail.com")));
+        assertNull(graph.read(g -> g.person("carol@gmail.com")));
+        assertEquals(Arrays.asList(alice, bob), graph.read(g -> g.peopleBornIn("London")));
+        assertTrue(graph.read(g -> g.peopleBornIn("Berlin")).isEmpty());
+        assertEquals(Collections.singletonList(alice), MemoryGraph.answers(alice));
+        assertTrue(MemoryGraph.answers(null).isEmpty());
+    }
+
+    @Test
+    public void currentResidentsFollowTheLatestRelocation() {
+        MemoryGraph graph = new MemoryGraph();
+        MemoryGraph.Person stays = person("stays@gmail.com", "female", "London");
+        MemoryGraph.Person leaves = person("leaves@gmail.com", "male", "London");
+        MemoryGraph.Person returns = person("returns@gmail.com", "female", "London");
+        write(graph, g -> {
+            g.putPerson(stays);
+            g.putPerson(leaves);
+            g.putPerson(returns);
+            g.putRelocation(leaves, new MemoryGraph.Relocation("London", "Berlin", DAY_2));
+            g.putRelocation(returns, new MemoryGraph.Relocation("London", "Berlin", DAY_2));
+            g.putRelocation(returns, new MemoryGraph.Relocation("Berlin", "London", DAY_3));
+        });
+
+        assertEquals(Arrays.asList(stays, returns), graph.read(g -> g.currentResidents("London")));
+        assertEquals(Collections.singletonList(leaves), graph.read(g -> g.currentResidents("Berlin")));
+        assertEquals("London", returns.currentCity());
+        assertEquals(DAY_3, returns.currentResidencyStart());
+        assertEquals(DAY_1, stays.currentResidencyStart());
+    }
+
+    @Test
+    public void relationsLinkEveryRolePlayer() {
+        MemoryGraph graph = new MemoryGraph();
+        MemoryGraph.Person wife = person("wife@gmail.com", "female", "London");
+        MemoryGraph.Person husband = person("husband@gmail.com", "male", "London");
+        MemoryGraph.Person child = person("child@gmail.com", "female", "London");
+        MemoryGraph.Person friend = person("friend@gmail.com", "male", "Berlin");
+        MemoryGraph.Marriage marriage = new MemoryGraph.Marriage(1, husband, wife, "London");
+        write(graph, g -> {
+            g.putPerson(wife);
+            g.putPerson(husband);
+            g.putPerson(child);
+            g.putPerson(friend);
+            g.putMarriage(marriage);
+            g.putParentship(new MemoryGraph.Parentship(wife, husband, child));
+            g.putFriendship(new MemoryGraph.Friendship(child, friend, DAY_2));
+        });
+
+        assertSame(marriage, graph.read(g -> g.marriage(1)));
+        assertEquals(Collections.singletonList(marriage), graph.read(g -> g.marriagesIn("London")));
+        assertEquals(Collections.singletonList(marriage), wife.marriages());
+        assertEquals(Collections.singletonList(marriage), husband.marriages());
+        assertEquals(Arrays.asList(wife, husband), child.parents());
+        assertEquals(Collections.singletonList(child), wife.children());
+        assertEquals(Collections.singletonList(child), husband.children());
+        assertEquals(Collections.singletonList(friend), child.friends());
+        assertEquals(Collections.singletonList(child), friend.friends());
+    }
+
+    @Test
+    public void companiesProductsAndTheirRelationsAreIndexed() {
+        MemoryGraph graph = new MemoryGraph();
+        MemoryGraph.Company seller = new MemoryGraph.Company(1L, "Seller", "Germany", DAY_1);
+        MemoryGraph.Company buyer = new MemoryGraph.Company(2L, "Buyer", "USA", DAY_1);
+        MemoryGraph.Product product = new MemoryGraph.Product(10L, "Widget", "A widget", "Europe");
+        MemoryGraph.Person employee = person("employee@gmail.com", "female", "Berlin");
+        MemoryGraph.Transaction transaction = new MemoryGraph.Transaction(seller, buyer, product, 9.5, 2, true, "Germany");
+        MemoryGraph.Employment employment = new MemoryGraph.Employment(seller, employee, "Berlin", DAY_2, 100.0, "Euro", "contract", 37.5);
+        write(graph, g -> {
+            g.putCompany(seller);
+            g.putCompany(buyer);
+            g.putProduct(product);
+            g.putPerson(employee);
+            g.putTransaction(transaction);
+            g.putEmployment(employment);
+        });
+
+        assertSame(seller, graph.read(g -> g.company(1L)));
+        assertNull(graph.read(g -> g.company(3L)));
+        assertEquals(Collections.singletonList(buyer), graph.read(g -> g.companiesIn("USA")));
+        assertSame(product, graph.read(g -> g.product(10L)));
+        assertEquals(Collections.singletonList(product), graph.read(g -> g.productsIn("Europe")));
+        assertEquals(Collections.singletonList(transaction), buyer.purchases());
+        assertTrue(seller.purchases().isEmpty());
+        assertEquals(Collections.singletonList(employment), employee.employments());
+
+        MemoryGraph.Statistics statistics = graph.statistics();
+        assertEquals(1, statistics.people);
+        assertEquals(2, statistics.companies);
+        assertEquals(1, statistics.products);
+        assertEquals(1, statistics.transactions);
+        assertEquals(1, statistics.employments);
+        assertEquals(0, statistics.marriages);
+        assertEquals(0, statistics.friendships);
+    }
+
+    @Test
+    public void readsDoNotSeeABatchOfWritesUntilItIsCommitted() throws Exception {
+        MemoryGraph graph = new MemoryGraph();
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Consumer<MemoryGraph>> batch = Arrays.asList(
+                g -> g.putPerson(person("first@gmail.com", "female", "London")),
+                g -> {
+                    firstWritten.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    g.putPerson(person("second@gmail.com", "male", "London"));
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> graph.write(batch));
+            assertTrue(firstWritten.await(5, TimeUnit.SECONDS));
+            Future<Integer> reader = executor.submit(() -> graph.read(g -> g.peopleBornIn("London").size()));
+            Thread.sleep(50);
+            assertFalse(reader.isDone());
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            assertEquals(2, (int) reader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void theWorldAndCurrenciesAreLoaded() throws IOException {
+        Map<String, Path> files = new HashMap<>();
+        for (String file : Arrays.asList("continents.csv", "countries.csv", "cities.csv", "female_forenames.csv",
+                                         "male_forenames.csv", "surnames.csv", "adjectives.csv", "nouns.csv",
+                                         "country_currencies.csv")) {
+            files.put(file, Paths.get("common/data", file));
+        }
+        World world = World.initialise(1, files);
+        MemoryGraph graph = new MemoryGraph();
+        graph.loadWorld(world, files.get("country_currencies.csv"));
+
+        World.City london = graph.read(g -> g.city("London"));
+        assertNotNull(london);
+        assertEquals("United Kingdom", london.country().name());
+        assertNotNull(graph.read(g -> g.country("Germany")));
+        assertNotNull(graph.read(g -> g.continent("Europe")));
+        assertNull(graph.read(g -> g.city("Atlantis")));
+        assertEquals("Euro", graph.read(g -> g.currency(g.country("Germany"))));
+    }
+}
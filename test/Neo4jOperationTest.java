@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.LogWrapper;
+import grakn.benchmark.common.driver.TransactionalDbOperation;
+import grakn.benchmark.neo4j.driver.Neo4jOperation;
+import grakn.benchmark.neo4j.driver.PendingRecord;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.AsyncTransactionWork;
+import org.neo4j.driver.async.ResultCursor;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs operations against async sessions of a fake database, whose queries are answered as soon as they are sent
+ * unless they are held until released.
+ */
+public class Neo4jOperationTest {
+
+    private static final String READ = "MATCH (person:Person) RETURN person.email";
+    private static final String SLOW_READ = "MATCH (company:Company) RETURN company.companyName";
+    private static final String FAILING_READ = "MATCH (city:City) RETURN city.locationName";
+    private static final String BATCHED_WRITE = "UNWIND $rows AS row CREATE (person:Person {email: row.email}) RETURN row.rowIndex AS rowIndex";
+
+    private final Map<String, CompletableFuture<Void>> held = new ConcurrentHashMap<>();
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicInteger openTransactions = new AtomicInteger();
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private int transactionsBefore;
+
+    @Before
+    public void countTransactions() {
+        transactionsBefore = TransactionalDbOperation.inFlightTransactions();
+    }
+
+    @Test
+    public void queriesSentTogetherAreInFlightTogether() {
+        Neo4jOperation operation = operation(AccessMode.READ);
+        CompletableFuture<Void> release = hold(READ);
+        List<CompletionStage<List<Record>>> answers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) answers.add(operation.executeAsync(new Query(READ)));
+
+        assertEquals(3, openTransactions.get());
+        assertEquals(transactionsBefore + 3, TransactionalDbOperation.inFlightTransactions());
+
+        release.complete(null);
+        assertEquals(1, operation.await(answers.get(0)).size());
+        for (CompletionStage<List<Record>> answer : answers) {
+            assertTrue(answer.toCompletableFuture().isDone());
+        }
+        assertEquals(transactionsBefore, TransactionalDbOperation.inFlightTransactions());
+        assertEquals(0, openSessions.get());
+        operation.close();
+    }
+
+    @Test
+    public void awaitingThrowsTheFirstErrorOnceEveryQueryIsOver() {
+        Neo4jOperation operation = operation(AccessMode.READ);
+        CompletableFuture<Void> release = hold(SLOW_READ);
+        CompletionStage<List<Record>> answer = operation.executeAsync(new Query(READ));
+        operation.executeAsync(new Query(FAILING_READ));
+        CompletionStage<List<Record>> slowAnswer = operation.executeAsync(new Query(SLOW_READ));
+
+        CompletableFuture.runAsync(() -> release.complete(null));
+        try {
+            operation.await(answer);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("Failed: " + FAILING_READ, e.getMessage());
+        }
+        assertTrue(slowAnswer.toCompletableFuture().isDone());
+        assertEquals(transactionsBefore, TransactionalDbOperation.inFlightTransactions());
+        assertEquals(0, openSessions.get());
+        operation.close();
+    }
+
+    @Test
+    public void writesAreNotHeldBackByReadsInFlight() {
+        Neo4jOperation operation = operation(AccessMode.WRITE);
+        CompletableFuture<Void> release = hold(READ);
+        operation.begin(AccessMode.READ);
+        operation.executeAsync(new Query(READ));
+        List<String> written = new ArrayList<>();
+        operation.whenWritten(() -> written.add("read"));
+        assertEquals(Collections.singletonList("read"), written);
+
+        operation.begin(AccessMode.WRITE);
+        PendingRecord record = operation.executeBatched(BATCHED_WRITE, Collections.singletonMap("email", "a@b.com"));
+        operation.whenWritten(() -> written.add("write"));
+        assertEquals(Collections.singletonList("read"), written);
+
+        release.complete(null);
+        operation.save();
+        assertEquals(0, record.get().get("rowIndex").asInt());
+        assertEquals(2, written.size());
+        operation.close();
+    }
+
+    @Test(timeout = 5000)
+    public void batchesAreWrittenWithoutWaitingForReadsSentBeforeThem() {
+        Neo4jOperation operation = operation(AccessMode.WRITE);
+        CompletableFuture<Void> release = hold(SLOW_READ);
+        CompletionStage<List<Record>> slowAnswer = operation.executeAsync(new Query(SLOW_READ));
+        PendingRecord record = operation.executeBatched(BATCHED_WRITE, Collections.singletonMap("email", "a@b.com"));
+
+        operation.executeAsync(new Query(READ));
+
+        assertEquals(0, record.get().get("rowIndex").asInt());
+        assertFalse(slowAnswer.toCompletableFuture().isDone());
+        assertEquals(3, sent.size());
+        release.complete(null);
+        operation.save();
+        assertEquals(transactionsBefore, TransactionalDbOperation.inFlightTransactions());
+        operation.close();
+    }
+
+    private Neo4jOperation operation(AccessMode accessMode) {
+        return new Neo4jOperation(this::session, new LogWrapper(LoggerFactory.getLogger(Neo4jOperationTest.class)), "tracker", 1, false, accessMode);
+    }
+
+    private CompletableFuture<Void> hold(String query) {
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        held.put(query, release);
+        return release;
+    }
+
+    private AsyncSession session() {
+        openSessions.incrementAndGet();
+        return fake(AsyncSession.class, (method, args) -> {
+            switch (method) {
+                case "readTransactionAsync":
+                case "writeTransactionAsync":
+                    return transaction((AsyncTransactionWork<CompletionStage<Object>>) args[0]);
+                case "closeAsync":
+                    openSessions.decrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+    }
+
+    private CompletionStage<Object> transaction(AsyncTransactionWork<CompletionStage<Object>> work) {
+        openTransactions.incrementAndGet();
+        AsyncTransaction transaction = fake(AsyncTransaction.class, (method, args) -> run((Query) args[0]));
+        return work.execute(transaction).whenComplete((answer, error) -> openTransactions.decrementAndGet());
+    }
+
+    private CompletionStage<ResultCursor> run(Query query) {
+        sent.add(query.text());
+        CompletableFuture<Void> release = held.getOrDefault(query.text(), CompletableFuture.completedFuture(null));
+        return release.thenApply(released -> {
+            if (query.text().equals(FAILING_READ)) throw new IllegalStateException("Failed: " + query.text());
+            List<Record> records = Collections.singletonList(record(query.text().startsWith("UNWIND") ? 0 : 1));
+            return fake(ResultCursor.class, (method, args) -> CompletableFuture.completedFuture(records));
+        });
+    }
+
+    private static Record record(int value) {
+        Value fieldValue = fake(Value.class, (method, args) -> method.equals("asInt") ? (Object) value : (Object) String.valueOf(value));
+        return fake(Record.class, (method, args) -> method.equals("containsKey") ? (Object) true : fieldValue);
+    }
+
+    /**
+     * Implement only the methods of a driver interface that the operation calls, by name.
+     */
+    private static <T> T fake(Class<T> driverInterface, FakeMethod implementation) {
+        return driverInterface.cast(Proxy.newProxyInstance(
+                driverInterface.getClassLoader(), new Class<?>[]{driverInterface},
+                (proxy, method, args) -> implementation.invoke(method.getName(), args)
+        ));
+    }
+
+    private interface FakeMethod {
+        Object invoke(String method, Object[] args);
+    }
+}
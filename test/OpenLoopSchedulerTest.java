@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.agent.base.OpenLoopScheduler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OpenLoopSchedulerTest {
+
+    private static final Executor THREAD_PER_TASK = task -> new Thread(task).start();
+
+    @Test
+    public void startsAreSpacedAtTheRate() {
+        List<Long> starts = Collections.synchronizedList(new ArrayList<>());
+        long before = System.nanoTime();
+        long[] latencies = new OpenLoopScheduler(100, Runnable::run).run(Arrays.asList(0, 1, 2, 3, 4), item -> starts.add(System.nanoTime()));
+
+        assertEquals(5, latencies.length);
+        long lastStartMillis = TimeUnit.NANOSECONDS.toMillis(starts.get(4) - before);
+        assertTrue("The 5th start at 100/s should be at least 40 ms in, was " + lastStartMillis, lastStartMillis >= 40);
+    }
+
+    @Test
+    public void latencyIsMeasuredFromTheScheduledStart() {
+        long[] latencies = new OpenLoopScheduler(1000, THREAD_PER_TASK).run(Arrays.asList(0, 1, 2), item -> sleep(20));
+
+        for (long latency : latencies) {
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(latency) >= 20);
+        }
+    }
+
+    @Test
+    public void zeroRateStartsAllWorkWithoutWaitingForEarlierWork() {
+        int items = 4;
+        CountDownLatch allStarted = new CountDownLatch(items);
+        new OpenLoopScheduler(0, THREAD_PER_TASK).run(Arrays.asList(0, 1, 2, 3), item -> {
+            allStarted.countDown();
+            try {
+                // Only completes if every item is running at once
+                assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertEquals(0, allStarted.getCount());
+    }
+
+    @Test
+    public void failureOfAnItemIsThrownOnceAllHaveCompleted() {
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        try {
+            new OpenLoopScheduler(0, THREAD_PER_TASK).run(Arrays.asList(0, 1, 2), item -> {
+                if (item == 1) throw new IllegalStateException("item 1");
+                completed.add(item);
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("item 1", e.getMessage());
+        }
+        assertEquals(2, completed.size());
+    }
+
+    @Test
+    public void errorOfAnItemIsThrownOnceAllHaveCompleted() {
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        try {
+            new OpenLoopScheduler(0, THREAD_PER_TASK).run(Arrays.asList(0, 1, 2), item -> {
+                if (item == 1) throw new AssertionError("item 1");
+                sleep(20);
+                completed.add(item);
+            });
+            fail();
+        } catch (AssertionError e) {
+            assertEquals("item 1", e.getMessage());
+        }
+        assertEquals(2, completed.size());
+    }
+
+    @Test
+    public void startsAreSharedBetweenCallersInTheOrderTheyAsk() throws InterruptedException {
+        OpenLoopScheduler scheduler = new OpenLoopScheduler(100, THREAD_PER_TASK);
+        List<Long> scheduledStarts = Collections.synchronizedList(new ArrayList<>());
+        Thread first = new Thread(() -> scheduledStarts.add(scheduler.awaitNextStart()));
+        first.start();
+        first.join();
+        Thread second = new Thread(() -> scheduledStarts.add(scheduler.awaitNextStart()));
+        second.start();
+        second.join();
+
+        assertEquals(2, scheduler.starts());
+        long spacingMillis = TimeUnit.NANOSECONDS.toMillis(scheduledStarts.get(1) - scheduledStarts.get(0));
+        assertEquals(10, spacingMillis);
+        assertTrue(System.nanoTime() >= scheduledStarts.get(1));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.agent.base.ReferenceCache;
+import grakn.benchmark.common.agent.base.ReferenceCache.Reference;
+import grakn.benchmark.common.utils.LongList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+public class ReferenceCacheTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private Supplier<List<String>> lookup(String... answer) {
+        return () -> {
+            lookups.incrementAndGet();
+            return Arrays.asList(answer);
+        };
+    }
+
+    @Test
+    public void answersAreReusedUntilTheirReferenceIsInvalidated() {
+        ReferenceCache cache = new ReferenceCache(true);
+        List<?> key = singletonList("Germany");
+
+        assertEquals(Arrays.asList("a", "b"), cache.get(Reference.COMPANIES, key, lookup("a", "b")));
+        assertEquals(Arrays.asList("a", "b"), cache.get(Reference.COMPANIES, key, lookup("c")));
+        assertEquals(1, lookups.get());
+
+        cache.invalidate(Reference.COMPANIES);
+        assertEquals(singletonList("c"), cache.get(Reference.COMPANIES, key, lookup("c")));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void invalidatingOneReferenceKeepsAnswersOfTheOthers() {
+        ReferenceCache cache = new ReferenceCache(true);
+        List<?> key = singletonList("Germany");
+        cache.get(Reference.COMPANIES, key, lookup("company"));
+        cache.get(Reference.CITIES, key, lookup("city"));
+
+        cache.invalidate(Reference.PRODUCTS);
+        cache.invalidate(Reference.CITIES);
+
+        assertEquals(singletonList("company"), cache.get(Reference.COMPANIES, key, lookup("other")));
+        assertEquals(singletonList("other"), cache.get(Reference.CITIES, key, lookup("other")));
+        assertEquals(3, lookups.get());
+    }
+
+    @Test
+    public void answersAreKeyedByReferenceAndArguments() {
+        ReferenceCache cache = new ReferenceCache(true);
+
+        assertEquals(singletonList("german"), cache.get(Reference.COMPANIES, singletonList("Germany"), lookup("german")));
+        assertEquals(singletonList("french"), cache.get(Reference.COMPANIES, singletonList("France"), lookup("french")));
+        assertEquals(singletonList("city"), cache.get(Reference.CITIES, singletonList("Germany"), lookup("city")));
+        assertEquals(3, lookups.get());
+    }
+
+    @Test
+    public void callersReceiveCopiesTheyMayModify() {
+        ReferenceCache cache = new ReferenceCache(true);
+        List<?> key = singletonList(2020);
+
+        cache.get(Reference.PRODUCTS, key, lookup("a", "b")).clear();
+
+        assertEquals(Arrays.asList("a", "b"), cache.get(Reference.PRODUCTS, key, lookup()));
+    }
+
+    @Test
+    public void aDisabledCacheQueriesEveryLookup() {
+        ReferenceCache cache = new ReferenceCache(false);
+        List<?> key = singletonList("Germany");
+
+        cache.get(Reference.COMPANIES, key, lookup("a"));
+        assertEquals(singletonList("b"), cache.get(Reference.COMPANIES, key, lookup("b")));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void identifiersAreHeldUnboxedAndCopiedForEachCaller() {
+        ReferenceCache cache = new ReferenceCache(true);
+        List<?> key = singletonList("Germany");
+        Supplier<List<Long>> lookup = () -> {
+            lookups.incrementAndGet();
+            return Arrays.asList(1L, 2L);
+        };
+
+        LongList first = cache.getLongs(Reference.COMPANIES, key, lookup);
+        first.add(3L);
+        LongList second = cache.getLongs(Reference.COMPANIES, key, lookup);
+
+        assertEquals(2, second.size());
+        assertEquals(2L, second.get(1));
+        assertEquals(1, lookups.get());
+        assertEquals(singletonList("boxed"), cache.get(Reference.COMPANIES, key, lookup("boxed")));
+    }
+}
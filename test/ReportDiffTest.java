@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.report.ReportDiff;
+import grakn.benchmark.common.report.ReportLine;
+import grakn.benchmark.common.report.ReportReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReportDiffTest {
+
+    private Path expectedFile;
+    private Path actualFile;
+    private final List<ReportDiff.Divergence> divergences = new ArrayList<>();
+
+    @Before
+    public void createFiles() throws IOException {
+        expectedFile = Files.createTempFile("expected", ".tsv");
+        actualFile = Files.createTempFile("actual", ".tsv");
+    }
+
+    @After
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(expectedFile);
+        Files.deleteIfExists(actualFile);
+    }
+
+    private static String line(int iteration, String agent, String tracker, int index, String output) {
+        return new ReportLine(iteration, agent, tracker, index, "Action", "[" + index + "]", output).toString();
+    }
+
+    private long compare(List<String> expected, List<String> actual, int lastIteration) throws IOException {
+        Files.write(expectedFile, expected, StandardCharsets.UTF_8);
+        Files.write(actualFile, actual, StandardCharsets.UTF_8);
+        try (ReportReader expectedReader = new ReportReader(expectedFile);
+             ReportReader actualReader = new ReportReader(actualFile)) {
+            return ReportDiff.compare(expectedReader, actualReader, lastIteration, divergences::add);
+        }
+    }
+
+    @Test
+    public void identicalReportsInAnyRegionalOrderDoNotDiverge() throws IOException {
+        long compared = compare(
+                Arrays.asList(line(1, "a", "x", 0, "1"), line(1, "a", "y", 0, "2"), line(2, "a", "x", 0, "3")),
+                Arrays.asList(line(1, "a", "y", 0, "2"), line(1, "a", "x", 0, "1"), line(2, "a", "x", 0, "3")),
+                2);
+
+        assertEquals(3, compared);
+        assertTrue(divergences.isEmpty());
+    }
+
+    @Test
+    public void aDifferentOutputDivergesAfterTheLastSameReportOfItsRegion() throws IOException {
+        compare(Arrays.asList(line(1, "a", "x", 0, "1"), line(1, "a", "x", 1, "2")),
+                Arrays.asList(line(1, "a", "x", 0, "1"), line(1, "a", "x", 1, "other")),
+                1);
+
+        assertEquals(1, divergences.size());
+        ReportDiff.Divergence divergence = divergences.get(0);
+        assertEquals("2", divergence.expected().output());
+        assertEquals("other", divergence.actual().output());
+        assertEquals(0, divergence.context().index());
+        assertEquals("a", divergence.agent());
+    }
+
+    @Test
+    public void contextIsOnlyTakenFromTheSameRegion() throws IOException {
+        compare(Arrays.asList(line(1, "a", "x", 0, "1"), line(1, "a", "y", 0, "2")),
+                Arrays.asList(line(1, "a", "x", 0, "1"), line(1, "a", "y", 0, "other")),
+                1);
+
+        assertEquals(1, divergences.size());
+        assertNull(divergences.get(0).context());
+    }
+
+    @Test
+    public void reportsInOnlyOneFileDiverge() throws IOException {
+        long compared = compare(
+                Arrays.asList(line(1, "a", "x", 0, "1"), line(1, "a", "x", 1, "2")),
+                Arrays.asList(line(1, "a", "x", 0, "1"), line(2, "a", "x", 0, "3")),
+                2);
+
+        assertEquals(3, compared);
+        assertEquals(2, divergences.size());
+        assertEquals(1, divergences.get(0).expected().index());
+        assertNull(divergences.get(0).actual());
+        assertNull(divergences.get(1).expected());
+        assertEquals(2, divergences.get(1).actual().iteration());
+    }
+
+    @Test
+    public void groupsOfDifferentAgentsAreUnmatched() throws IOException {
+        compare(Arrays.asList(line(1, "a", "x", 0, "1")),
+                Arrays.asList(line(1, "b", "x", 0, "1")),
+                1);
+
+        assertEquals(2, divergences.size());
+        assertEquals("a", divergences.get(0).agent());
+        assertEquals("b", divergences.get(1).agent());
+    }
+
+    @Test
+    public void iterationsAfterTheLastAreLeftForALaterComparison() throws IOException {
+        List<String> expected = Arrays.asList(line(1, "a", "x", 0, "1"), line(2, "a", "x", 0, "2"));
+        List<String> actual = Arrays.asList(line(1, "a", "x", 0, "1"), line(2, "a", "x", 0, "other"));
+        Files.write(expectedFile, expected, StandardCharsets.UTF_8);
+        Files.write(actualFile, actual, StandardCharsets.UTF_8);
+
+        try (ReportReader expectedReader = new ReportReader(expectedFile);
+             ReportReader actualReader = new ReportReader(actualFile)) {
+            assertEquals(1, ReportDiff.compare(expectedReader, actualReader, 1, divergences::add));
+            assertTrue(divergences.isEmpty());
+            assertEquals(1, ReportDiff.compare(expectedReader, actualReader, 2, divergences::add));
+            assertEquals(1, divergences.size());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.action.Action;
+import grakn.benchmark.common.driver.DbOperation;
+import grakn.benchmark.common.report.ReportLine;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReportLineTest {
+
+    private enum Field implements Action.ComparableField {
+        ANSWER
+    }
+
+    private static class Operation extends DbOperation {
+        Operation() {
+            super("tracker", 1, false, null);
+        }
+
+        @Override
+        public void close() {}
+
+        @Override
+        protected void commit() {}
+    }
+
+    private static class Lookup extends Action<Operation, Object> {
+        private final ArrayList<Object> input;
+
+        Lookup(ArrayList<Object> input) {
+            super(new Operation());
+            this.input = input;
+        }
+
+        @Override
+        public Object run() {
+            return null;
+        }
+
+        @Override
+        protected HashMap<Action.ComparableField, Object> outputForReport(Object answer) {
+            HashMap<Action.ComparableField, Object> output = new HashMap<>();
+            output.put(Field.ANSWER, answer);
+            return output;
+        }
+
+        @Override
+        protected ArrayList<Object> inputForReport() {
+            return input;
+        }
+    }
+
+    private static ReportLine lineOf(Object input, Object answer) {
+        Lookup action = new Lookup(new ArrayList<>(Arrays.asList(input)));
+        return ReportLine.of(3, "agent", "World:Europe", 7, action.new Report(answer));
+    }
+
+    @Test
+    public void linesAreWrittenAndParsedFieldByField() {
+        ReportLine line = new ReportLine(3, "agent", "World:Europe", 7, "Action", "[1]", "{\"ANSWER\":2}");
+
+        assertEquals("3\tagent\tWorld:Europe\t7\tAction\t[1]\t{\"ANSWER\":2}", line.toString());
+        ReportLine parsed = ReportLine.parse(line.toString());
+        assertEquals(3, parsed.iteration());
+        assertEquals("agent", parsed.agent());
+        assertEquals("World:Europe", parsed.tracker());
+        assertEquals(7, parsed.index());
+        assertEquals("Action", parsed.action());
+        assertEquals("[1]", parsed.input());
+        assertEquals("{\"ANSWER\":2}", parsed.output());
+    }
+
+    @Test
+    public void linesWithTooFewFieldsAreRejected() {
+        try {
+            ReportLine.parse("3\tagent\tWorld:Europe");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("World:Europe"));
+        }
+    }
+
+    @Test
+    public void reportsAreWrittenAsCanonicalJson() {
+        ReportLine line = lineOf("name", 1L);
+
+        assertEquals("Action", line.action());
+        assertEquals("[\"name\"]", line.input());
+        assertEquals("{\"ANSWER\":1}", line.output());
+    }
+
+    @Test
+    public void mapsAndSetsAreSortedButListsKeepTheirOrder() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", true);
+        map.put("a", null);
+        LinkedHashSet<String> set = new LinkedHashSet<>(Arrays.asList("y", "x"));
+
+        assertEquals("{\"ANSWER\":{\"a\":null,\"b\":true}}", lineOf(null, map).output());
+        assertEquals("{\"ANSWER\":[\"x\",\"y\"]}", lineOf(null, set).output());
+        assertEquals("{\"ANSWER\":[\"y\",\"x\"]}", lineOf(null, Arrays.asList("y", "x")).output());
+    }
+
+    @Test
+    public void separatorsInStringsAreEscapedSoTheLineParsesBack() {
+        ReportLine line = lineOf("a\tb\nc\"d\\e\u0001", null);
+
+        assertEquals("[\"a\\tb\\nc\\\"d\\\\e\\u0001\"]", line.input());
+        ReportLine parsed = ReportLine.parse(line.toString());
+        assertEquals(line.input(), parsed.input());
+        assertTrue(parsed.sameReport(line));
+    }
+
+    @Test
+    public void reportsAreTheSameOnlyWithTheSameActionInputAndOutput() {
+        ReportLine line = new ReportLine(1, "agent", "tracker", 0, "Action", "[1]", "{}");
+
+        assertTrue(line.sameReport(new ReportLine(2, "other", "other", 5, "Action", "[1]", "{}")));
+        assertFalse(line.sameReport(new ReportLine(1, "agent", "tracker", 0, "Other", "[1]", "{}")));
+        assertFalse(line.sameReport(new ReportLine(1, "agent", "tracker", 0, "Action", "[2]", "{}")));
+        assertFalse(line.sameReport(new ReportLine(1, "agent", "tracker", 0, "Action", "[1]", "{\"a\":1}")));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.report.ReportLine;
+import grakn.benchmark.common.report.ReportReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ReportReaderTest {
+
+    private Path file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = Files.createTempFile("report", ".tsv");
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static String line(int iteration, String agent, String tracker, int index) {
+        return new ReportLine(iteration, agent, tracker, index, "Action", "[]", "{}").toString();
+    }
+
+    private void append(String... lines) throws IOException {
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private static List<String> positions(ReportReader.Group group) {
+        List<String> positions = new ArrayList<>();
+        for (ReportLine line : group.lines()) {
+            positions.add(line.tracker() + "/" + line.index());
+        }
+        return positions;
+    }
+
+    @Test
+    public void consecutiveLinesOfAnAgentInAnIterationAreReadAsAGroup() throws IOException {
+        append(line(1, "a", "x", 0), line(1, "a", "x", 1),
+               line(1, "b", "x", 0),
+               line(2, "a", "x", 0));
+
+        try (ReportReader reader = new ReportReader(file)) {
+            assertEquals(Integer.valueOf(1), reader.nextIteration());
+            ReportReader.Group group = reader.next();
+            assertEquals(1, group.iteration());
+            assertEquals("a", group.agent());
+            assertEquals(2, group.lines().size());
+
+            assertEquals("b", reader.next().agent());
+            assertEquals(Integer.valueOf(2), reader.nextIteration());
+            assertEquals(2, reader.next().iteration());
+            assertNull(reader.nextIteration());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void theLinesOfAGroupAreSortedByTrackerAndPosition() throws IOException {
+        append(line(1, "a", "y", 0), line(1, "a", "y", 1),
+               line(1, "a", "x", 1), line(1, "a", "x", 0));
+
+        try (ReportReader reader = new ReportReader(file)) {
+            assertEquals(Arrays.asList("x/0", "x/1", "y/0", "y/1"), positions(reader.next()));
+        }
+    }
+
+    @Test
+    public void readingContinuesOnceMoreLinesAreWritten() throws IOException {
+        try (ReportReader reader = new ReportReader(file)) {
+            assertNull(reader.next());
+
+            append(line(1, "a", "x", 0));
+            assertEquals(Arrays.asList("x/0"), positions(reader.next()));
+            assertNull(reader.nextIteration());
+
+            append(line(1, "b", "x", 0));
+            assertEquals("b", reader.next().agent());
+        }
+    }
+}
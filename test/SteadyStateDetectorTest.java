@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.utils.SteadyStateDetector;
+import org.junit.Test;
+
+import static grakn.benchmark.common.utils.SteadyStateDetector.State.STEADY;
+import static grakn.benchmark.common.utils.SteadyStateDetector.State.TRANSIENT;
+import static org.junit.Assert.assertEquals;
+
+public class SteadyStateDetectorTest {
+
+    @Test
+    public void iterationsAreTransientUntilTheWindowHasFilled() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 0.1);
+        assertEquals(TRANSIENT, detector.next(100, 10));
+        assertEquals(TRANSIENT, detector.next(100, 10));
+        assertEquals(STEADY, detector.next(100, 10));
+    }
+
+    @Test
+    public void aWarmUpIsTransientUntilItLeavesTheWindow() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 0.1);
+        detector.next(10, 100);
+        detector.next(50, 20);
+        assertEquals(TRANSIENT, detector.next(100, 10));
+        assertEquals(TRANSIENT, detector.next(100, 10));
+        assertEquals(STEADY, detector.next(100, 10));
+    }
+
+    @Test
+    public void variationInEitherMeasurementIsTransient() {
+        SteadyStateDetector throughputVaries = new SteadyStateDetector(2, 0.1);
+        throughputVaries.next(100, 10);
+        assertEquals(TRANSIENT, throughputVaries.next(150, 10));
+
+        SteadyStateDetector latencyVaries = new SteadyStateDetector(2, 0.1);
+        latencyVaries.next(100, 10);
+        assertEquals(TRANSIENT, latencyVaries.next(100, 15));
+    }
+
+    @Test
+    public void variationWithinTheThresholdIsSteady() {
+        // Throughputs of 95 and 105 have a mean of 100 and a standard deviation of 5
+        SteadyStateDetector detector = new SteadyStateDetector(2, 0.05);
+        detector.next(95, 10);
+        assertEquals(STEADY, detector.next(105, 10));
+        assertEquals(TRANSIENT, detector.next(135, 10));
+    }
+
+    @Test
+    public void idleIterationsAreSteady() {
+        SteadyStateDetector detector = new SteadyStateDetector(2, 0.1);
+        detector.next(0, 0);
+        assertEquals(STEADY, detector.next(0, 0));
+    }
+
+    @Test
+    public void statesAreNamedForTheReport() {
+        assertEquals("steady", STEADY.getName());
+        assertEquals("transient", TRANSIENT.getName());
+    }
+}
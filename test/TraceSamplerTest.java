@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.utils.TraceSampler;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TraceSamplerTest {
+
+    private static int sampled(TraceSampler sampler, String name, int runs) {
+        int sampled = 0;
+        for (int i = 0; i < runs; i++) {
+            if (sampler.sample(name)) sampled++;
+        }
+        return sampled;
+    }
+
+    @Test
+    public void everyOperationIsTracedByDefault() {
+        TraceSampler sampler = TraceSampler.all();
+
+        assertEquals(1000, sampled(sampler, "action", 1000));
+        assertFalse(sampler.observes());
+    }
+
+    @Test
+    public void probabilitiesOfZeroAndOneTraceNothingAndEverything() {
+        assertEquals(0, sampled(TraceSampler.probability(0), "action", 1000));
+        assertEquals(1000, sampled(TraceSampler.probability(1), "action", 1000));
+    }
+
+    @Test
+    public void aProbabilityTracesThatShareOfOperations() {
+        int sampled = sampled(TraceSampler.probability(0.25), "action", 100_000);
+
+        // Over five standard deviations either side of 25,000
+        assertTrue(sampled > 24_300 && sampled < 25_700);
+    }
+
+    @Test
+    public void theReservoirAlwaysTracesTheFirstRunsOfEachName() {
+        TraceSampler sampler = TraceSampler.reservoir(5);
+
+        assertEquals(5, sampled(sampler, "common", 5));
+        assertEquals(5, sampled(sampler, "rare", 5));
+    }
+
+    @Test
+    public void theReservoirTracesCommonOperationsALogarithmicNumberOfTimes() {
+        TraceSampler sampler = TraceSampler.reservoir(10);
+
+        int sampled = sampled(sampler, "common", 100_000);
+
+        // 10 + 10 * (H(100,000) - H(10)) is about 93
+        assertTrue(String.valueOf(sampled), sampled > 50 && sampled < 150);
+    }
+
+    @Test
+    public void theReservoirStartsAgainEachIteration() {
+        TraceSampler sampler = TraceSampler.reservoir(3);
+        sampled(sampler, "action", 100_000);
+
+        sampler.startIteration();
+
+        assertEquals(3, sampled(sampler, "action", 3));
+    }
+
+    @Test
+    public void theRunAfterASlowOperationIsAlwaysTraced() {
+        TraceSampler sampler = TraceSampler.slow(0, 10);
+        assertTrue(sampler.observes());
+
+        sampler.observe("action", TimeUnit.MILLISECONDS.toNanos(5));
+        assertFalse(sampler.sample("action"));
+
+        sampler.observe("action", TimeUnit.MILLISECONDS.toNanos(20));
+        assertFalse(sampler.sample("other"));
+        assertTrue(sampler.sample("action"));
+        assertFalse(sampler.sample("action"));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.driver.AccessMode;
+import grakn.benchmark.common.driver.TransactionPool;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransactionPoolTest {
+
+    private static class Transaction {
+        private final AccessMode accessMode;
+        private volatile boolean closed = false;
+
+        Transaction(AccessMode accessMode) {
+            this.accessMode = accessMode;
+        }
+    }
+
+    private final Set<Transaction> open = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger opened = new AtomicInteger();
+    private volatile Transaction lastOpened;
+
+    private Transaction open(AccessMode accessMode) {
+        Transaction transaction = new Transaction(accessMode);
+        opened.incrementAndGet();
+        lastOpened = transaction;
+        open.add(transaction);
+        return transaction;
+    }
+
+    private void close(Transaction transaction) {
+        transaction.closed = true;
+        open.remove(transaction);
+    }
+
+    private TransactionPool<Transaction> pool(int size, AtomicLong commits) {
+        return new TransactionPool<>(this::open, this::close, size, commits);
+    }
+
+    @Test
+    public void transactionsOfEachAccessModeAreOpenedAheadOfTime() {
+        TransactionPool<Transaction> pool = pool(2, new AtomicLong());
+        assertEquals(4, opened.get());
+
+        Transaction read = pool.take(AccessMode.READ);
+        assertEquals(AccessMode.READ, read.accessMode);
+        assertEquals(AccessMode.WRITE, pool.take(AccessMode.WRITE).accessMode);
+        assertEquals(4, opened.get());
+
+        pool.refill(AccessMode.READ);
+        assertEquals(5, opened.get());
+        pool.refill(AccessMode.READ);
+        assertEquals(5, opened.get());
+    }
+
+    @Test
+    public void aPoolOfSizeZeroOpensTransactionsWhenTaken() {
+        TransactionPool<Transaction> pool = pool(0, new AtomicLong());
+        pool.refill(AccessMode.WRITE);
+        assertEquals(0, opened.get());
+
+        Transaction transaction = pool.take(AccessMode.WRITE);
+        assertEquals(1, opened.get());
+        assertFalse(transaction.closed);
+    }
+
+    @Test
+    public void transactionsOpenedBeforeACommitAreClosedInsteadOfHandedOut() {
+        AtomicLong commits = new AtomicLong();
+        TransactionPool<Transaction> pool = pool(1, commits);
+        TransactionPool<Transaction> otherSession = pool(1, commits);
+        pool.take(AccessMode.READ);
+        pool.refill(AccessMode.READ);
+        Transaction preOpened = lastOpened;
+
+        otherSession.committed();
+        Transaction taken = pool.take(AccessMode.READ);
+
+        assertNotSame(preOpened, taken);
+        assertTrue(preOpened.closed);
+        assertFalse(taken.closed);
+    }
+
+    @Test
+    public void transactionsOpenedAfterTheLastCommitAreHandedOut() {
+        TransactionPool<Transaction> pool = pool(1, new AtomicLong());
+        pool.committed();
+        pool.take(AccessMode.WRITE);
+        pool.refill(AccessMode.WRITE);
+        Transaction refilled = lastOpened;
+        int openedBeforeTaking = opened.get();
+
+        assertSame(refilled, pool.take(AccessMode.WRITE));
+        assertEquals(openedBeforeTaking, opened.get());
+    }
+
+    @Test
+    public void concurrentRefillsNeverOpenMoreThanThePoolHolds() throws Exception {
+        int size = 3;
+        int threads = 8;
+        TransactionPool<Transaction> pool = pool(size, new AtomicLong());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 1000; j++) {
+                        close(pool.take(AccessMode.READ));
+                        pool.refill(AccessMode.READ);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long idleRead = open.stream().filter(t -> t.accessMode == AccessMode.READ).count();
+        assertEquals(size, idleRead);
+        pool.close();
+        assertTrue(open.isEmpty());
+    }
+
+    @Test
+    public void aFailedOpenReleasesItsPlaceInThePool() {
+        AtomicInteger failures = new AtomicInteger();
+        TransactionPool<Transaction> pool = new TransactionPool<>(accessMode -> {
+            if (failures.getAndDecrement() > 0) throw new IllegalStateException("unavailable");
+            return open(accessMode);
+        }, this::close, 1, new AtomicLong());
+        pool.take(AccessMode.READ);
+
+        failures.set(1);
+        try {
+            pool.refill(AccessMode.READ);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+        pool.refill(AccessMode.READ);
+        Transaction refilled = lastOpened;
+
+        assertSame(refilled, pool.take(AccessMode.READ));
+    }
+}
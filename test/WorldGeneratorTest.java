@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2020 Grakn Labs
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package grakn.benchmark.test;
+
+import grakn.benchmark.common.world.World;
+import grakn.benchmark.common.world.WorldGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class WorldGeneratorTest {
+
+    private static final List<String> FILES = Arrays.asList("continents.csv", "countries.csv", "cities.csv", "currencies.csv",
+                                                            "country_currencies.csv", "country_languages.csv");
+
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("world-generator-test");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Map<String, Path> generate(String name, int randomSeed) throws IOException {
+        return new WorldGenerator(randomSeed, 3, 4, 5).writeCsvFiles(Files.createDirectory(directory.resolve(name)));
+    }
+
+    private static List<String> lines(Path path) throws IOException {
+        return Files.readAllLines(path, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void theSameSeedGivesTheSameFiles() throws IOException {
+        Map<String, Path> first = generate("first", 1);
+        Map<String, Path> second = generate("second", 1);
+
+        assertEquals(new HashSet<>(FILES), first.keySet());
+        for (String file : FILES) {
+            assertEquals(file, lines(first.get(file)), lines(second.get(file)));
+        }
+    }
+
+    @Test
+    public void aDifferentSeedGivesDifferentNames() throws IOException {
+        Map<String, Path> first = generate("first", 1);
+        Map<String, Path> second = generate("second", 2);
+
+        assertNotEquals(lines(first.get("cities.csv")), lines(second.get("cities.csv")));
+    }
+
+    @Test
+    public void theGeographyHasTheRequestedDimensionsAndUniqueNames() throws IOException {
+        Map<String, Path> files = generate("world", 1);
+
+        assertEquals(3, lines(files.get("continents.csv")).size());
+        assertEquals(3 * 4, lines(files.get("countries.csv")).size());
+        assertEquals(3 * 4 * 5, lines(files.get("cities.csv")).size());
+        assertEquals(3 * 4, lines(files.get("currencies.csv")).size());
+        assertEquals(3 * 4, lines(files.get("country_currencies.csv")).size());
+        assertEquals(3 * 4, lines(files.get("country_languages.csv")).size());
+
+        Set<String> names = new HashSet<>();
+        for (String file : Arrays.asList("continents.csv", "countries.csv", "cities.csv")) {
+            for (String line : lines(files.get(file))) names.add(line.split(",")[0]);
+        }
+        assertEquals(3 + 3 * 4 + 3 * 4 * 5, names.size());
+
+        Set<String> codes = new HashSet<>();
+        for (String line : lines(files.get("currencies.csv"))) codes.add(line.split(",")[1]);
+        assertEquals(3 * 4, codes.size());
+    }
+
+    @Test
+    public void theGeneratedFilesAreReadIntoAWorld() throws IOException {
+        Map<String, Path> files = new HashMap<>();
+        for (String file : Arrays.asList("female_forenames.csv", "male_forenames.csv", "surnames.csv", "adjectives.csv", "nouns.csv")) {
+            files.put(file, Paths.get("common/data", file));
+        }
+        files.putAll(generate("world", 1));
+
+        World world = World.initialise(1, files);
+
+        assertEquals(3, world.getContinents().count());
+        assertEquals(3 * 4, world.getCountries().count());
+        assertEquals(3 * 4 * 5, world.getCities().count());
+        world.getContinents().forEach(continent -> assertEquals(4, continent.countries().count()));
+        world.getCountries().forEach(country -> assertEquals(5, country.cities().count()));
+    }
+}